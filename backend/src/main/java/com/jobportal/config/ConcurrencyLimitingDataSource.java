@@ -0,0 +1,115 @@
+package com.jobportal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} connections be checked out at once. With virtual threads there is
+ * no worker pool left to cap concurrency, so thousands of requests would otherwise pile up inside
+ * the connection pool's handoff queue; here they park on a fair semaphore, are served in arrival
+ * order and give up after the acquire timeout. The permit is returned when the connection is closed.
+ * Wraps physical pools only, with as many permits as the pool has connections, so a thread that
+ * holds a permit never waits inside the pool.
+ */
+@Slf4j
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitingDataSource(DataSource target, int permits, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    public static ConcurrencyLimitingDataSource forPool(HikariDataSource pool, Duration acquireTimeout) {
+        log.info("Database access through pool '{}' limited to {} concurrent connections",
+                pool.getPoolName(), pool.getMaximumPoolSize());
+        return new ConcurrencyLimitingDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return release(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return release(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("No database permit within "
+                        + Duration.ofNanos(acquireTimeoutNanos).toMillis() + "ms (" + maxPermits + " in use, "
+                        + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+
+    // Wraps the connection so that its first close() returns the permit
+    private Connection release(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard")
+@Data
+public class DashboardProperties {
+
+    // Sections of one request running at once, on threads of that request; each holds a pooled connection while it runs
+    private int parallelism = 3;
+
+    // Per section, counted from the start of the request
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // Section name -> timeout, overriding the default; names are matched ignoring case and dashes
+    // (recent-jobs or recentJobs)
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    private int recentJobs = 5;
+
+    public Duration timeoutFor(String section) {
+        return timeouts.entrySet().stream()
+                .filter(entry -> normalize(entry.getKey()).equals(normalize(section)))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(timeout);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("-", "").toLowerCase();
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobportal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with primary/replica routing when
+ * {@code datasource-routing.enabled} is set. Read-only transactions
+ * ({@code @Transactional(readOnly = true)}) go to replicas, which Hibernate also runs
+ * as read-only sessions with manual flush. The primary and every replica pool take the
+ * {@code spring.datasource.hikari.*} settings, as the auto-configured pool would, and with
+ * {@code virtual-threads.limit-db-concurrency} each pool gets its own permits (see
+ * {@link ConcurrencyLimitingDataSource}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                                      DataSourceRoutingProperties routingProperties,
+                                                      VirtualThreadProperties virtualThreadProperties,
+                                                      Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        bindHikari(binder, primary);
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            bindHikari(binder, dataSource);
+            dataSource.setPoolName("replica-" + replicas.size());
+            dataSource.setReadOnly(true);
+            replicas.add(limit(dataSource, virtualThreadProperties));
+        }
+        return new ReplicaRoutingDataSource(limit(primary, virtualThreadProperties), replicas, routingProperties);
+    }
+
+    private static DataSource limit(HikariDataSource pool, VirtualThreadProperties properties) {
+        return properties.isLimitDbConcurrency()
+                ? ConcurrencyLimitingDataSource.forPool(pool, properties.getDbAcquireTimeout())
+                : pool;
+    }
+
+    private static void bindHikari(Binder binder, HikariDataSource dataSource) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        // Release the connection after each transaction, otherwise an open session would keep
+        // using the replica connection of an earlier read-only transaction for later writes
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+@Data
+public class DataSourceRoutingProperties {
+
+    // Off by default: everything runs against spring.datasource
+    private boolean enabled = false;
+
+    // Replicas further behind than this are skipped until they catch up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // After a user's read-write transaction commits, their reads stay on the primary this long
+    private Duration stickyWindow = Duration.ofSeconds(10);
+
+    private Duration probeInterval = Duration.ofSeconds(2);
+
+    // Must return a row with Seconds_Behind_Source/Seconds_Behind_Master or a numeric first column;
+    // no row counts as caught up, a NULL lag as replication stopped
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobportal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the auto-configured Hikari pool in a {@link ConcurrencyLimitingDataSource} with one permit
+ * per pooled connection when {@code virtual-threads.limit-db-concurrency} is set. With replica
+ * routing the DataSource bean is a lazy proxy that hands out connections it has not fetched yet,
+ * so {@link DataSourceRoutingConfig} wraps each physical pool instead and this leaves it alone.
+ */
+@Component
+@ConditionalOnProperty(prefix = "virtual-threads", name = "limit-db-concurrency", havingValue = "true")
+@RequiredArgsConstructor
+public class DbConcurrencyLimitConfig implements BeanPostProcessor, Ordered {
+
+    private final VirtualThreadProperties properties;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof HikariDataSource pool)) {
+            return bean;
+        }
+        return ConcurrencyLimitingDataSource.forPool(pool, properties.getDbAcquireTimeout());
+    }
+
+    // Sees the pool before any other wrapper does
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobportal.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies the Cache-Control policy of the matching route. The header is set before the security
+ * chain, whose own no-store default is only written when none is present; error responses are
+ * switched back to no-store so shared caches never keep them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class HttpCacheFilter extends OncePerRequestFilter {
+
+    private static final String NO_STORE = "no-store";
+
+    private final HttpCacheProperties properties;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        HttpCacheProperties.Route route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String cacheControl = request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                ? properties.getAuthenticatedCacheControl() : route.getCacheControl();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        filterChain.doFilter(request, new ErrorsNotStored(response));
+    }
+
+    private HttpCacheProperties.Route findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (HttpCacheProperties.Route route : properties.getRoutes()) {
+            if (route.getCacheControl() == null
+                    || route.getMethods().stream().noneMatch(m -> m.equalsIgnoreCase(request.getMethod()))) {
+                continue;
+            }
+            for (String pattern : route.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class ErrorsNotStored extends HttpServletResponseWrapper {
+
+        private ErrorsNotStored(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setStatus(int status) {
+            super.setStatus(status);
+            noStoreIfError(status);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            noStoreIfError(status);
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            noStoreIfError(status);
+            super.sendError(status, message);
+        }
+
+        private void noStoreIfError(int status) {
+            if (status >= 400 && !isCommitted()) {
+                setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+            }
+        }
+    }
+}
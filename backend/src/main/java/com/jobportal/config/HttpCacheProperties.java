@@ -0,0 +1,31 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "http-cache")
+@Data
+public class HttpCacheProperties {
+
+    private boolean enabled = true;
+
+    // Used instead of a route's policy when the request carries credentials
+    private String authenticatedCacheControl = "private, no-cache";
+
+    // Evaluated in order, the first route matching the request path applies; other paths keep the
+    // security defaults (no-store)
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private List<String> methods = new ArrayList<>(List.of("GET", "HEAD"));
+        private String cacheControl;
+    }
+}
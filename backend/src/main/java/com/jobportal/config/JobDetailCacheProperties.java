@@ -0,0 +1,31 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "job-cache")
+@Data
+public class JobDetailCacheProperties {
+
+    private boolean enabled = true;
+
+    // Deserialized responses kept on the heap for the hottest jobs
+    private int l1Size = 1000;
+
+    // Direct memory holding serialized responses; oldest entries are overwritten first
+    private DataSize l2Capacity = DataSize.ofMegabytes(64);
+
+    // Larger responses are only kept on the heap
+    private DataSize maxEntrySize = DataSize.ofKilobytes(64);
+
+    // Upper bound on staleness for changes made through other instances
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // Counters of the admission frequency sketch (rounded up to a power of two)
+    private int sketchSize = 1 << 16;
+}
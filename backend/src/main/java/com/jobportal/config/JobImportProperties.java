@@ -0,0 +1,23 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "job-import")
+@Data
+public class JobImportProperties {
+
+    // Jobs written per transaction; a failing batch is retried row by row
+    private int batchSize = 100;
+
+    // Row errors listed in the report; further errors are only counted
+    private int maxErrors = 1000;
+
+    // Command line import: the feed to read (csv, or ndjson/jsonl by extension) and the email of the
+    // employer the jobs are posted as. The application exits when the import is done
+    private String file;
+
+    private String postedBy;
+}
@@ -0,0 +1,26 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "search-view")
+@Data
+public class JobSearchViewProperties {
+
+    // Currency the *_salary_base columns are expressed in
+    private String baseCurrency = "USD";
+
+    // Value of one unit of each currency in the base currency, e.g. EUR: 1.08
+    private Map<String, BigDecimal> rates = new HashMap<>();
+
+    // Rebuild the whole view at startup when its row count differs from the active job count
+    private boolean rebuildWhenStale = true;
+
+    private int rebuildChunkSize = 500;
+}
@@ -0,0 +1,28 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "json-fragments")
+@Data
+public class JsonFragmentProperties {
+
+    // Serialized list entries kept, one per job
+    private int maxEntries = 20_000;
+
+    // Keep gzipped bodies of list pages served this often, for clients sending Accept-Encoding: gzip
+    private boolean gzipHotPages = true;
+
+    private int hotPageThreshold = 3;
+
+    private int hotPages = 64;
+
+    // List URLs whose last ETag is remembered, and for how long a 304 may be answered from it without a query
+    private int listEtags = 4096;
+
+    private Duration listEtagTtl = Duration.ofSeconds(30);
+}
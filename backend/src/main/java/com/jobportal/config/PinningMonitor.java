@@ -0,0 +1,121 @@
+package com.jobportal.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events (a virtual thread blocking while it cannot
+ * unmount from its carrier, e.g. inside synchronized or a native frame) and aggregates them by the
+ * first non-JDK frame, which points at our code or at the library holding the monitor, such as the
+ * MySQL driver. Each new site is logged once; GET /actuator/pinning lists all of them.
+ * The event only exists on Java 21+ runtimes: on this Java 17 build the monitor never starts.
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(prefix = "virtual-threads", name = "pinning-monitor", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 500;
+
+    private final VirtualThreadProperties properties;
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.info("Pinning monitor not started: {} needs a Java 21+ runtime", EVENT);
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(properties.getPinningThreshold()).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+        log.info("Recording virtual thread pinning longer than {}", properties.getPinningThreshold());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @ReadOperation
+    public List<Site> pinning() {
+        return sites.values().stream()
+                .sorted(Comparator.comparingLong(Site::getTotalMillis).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        String origin = "unknown";
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                String name = frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber();
+                if (frames.size() < properties.getStackDepth()) {
+                    frames.add(name);
+                }
+                if (origin.equals("unknown") && !isJdk(frame.getMethod().getType().getName())) {
+                    origin = name;
+                }
+            }
+        }
+        if (!sites.containsKey(origin) && sites.size() >= MAX_SITES) {
+            return;
+        }
+        long millis = event.getDuration().toMillis();
+        Site site = sites.computeIfAbsent(origin, key -> {
+            log.warn("Virtual thread pinned for {}ms at {} on {}\n  {}", millis, key,
+                    event.getThread() != null ? event.getThread().getJavaName() : "?", String.join("\n  ", frames));
+            return new Site(key, frames);
+        });
+        site.add(event.getDuration());
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("javax.");
+    }
+
+    @Data
+    public static class Site {
+        private final String origin;
+        private final List<String> stackTrace;
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+
+        synchronized void add(Duration duration) {
+            count++;
+            totalMillis += duration.toMillis();
+            maxMillis = Math.max(maxMillis, duration.toMillis());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobportal.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-bound SQL statement counter fed by {@link QueryCountingDataSource}. Scopes nest, so a
+ * test can open one around a request that the {@link QueryCountFilter} is already counting.
+ * Work handed to other threads is counted in the caller's scope when wrapped in
+ * {@link #propagate(Callable)}.
+ *
+ * <pre>
+ * try (QueryCount.Scope scope = QueryCount.start("GET /api/jobs?size=50")) {
+ *     mockMvc.perform(get("/api/jobs").param("size", "50"));
+ *     scope.assertAtMost(4);
+ * }
+ * </pre>
+ */
+public final class QueryCount {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCount() {
+    }
+
+    public static Scope start(String name) {
+        Scope scope = new Scope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    // Runs the task in the scope open on the submitting thread
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    // Charges statements run elsewhere on this thread's behalf (a shared read), as returned by getStatements()
+    public static void record(Map<String, Integer> statements) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            Scope target = scope;
+            statements.forEach(target::add);
+        }
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String normalized = normalize(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.add(normalized, 1);
+        }
+    }
+
+    // Statements that differ only in bound values or literals map to the same key
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final Scope parent;
+        private final Map<String, Integer> statements = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(String name, Scope parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        // Tasks propagated to other threads add to the same scope
+        private synchronized void add(String normalizedSql, int times) {
+            count += times;
+            statements.merge(normalizedSql, times, Integer::sum);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        public synchronized Map<String, Integer> getStatements() {
+            return new LinkedHashMap<>(statements);
+        }
+
+        /**
+         * Selects executed at least {@code threshold} times in this scope, the usual signature
+         * of a lazy association being loaded row by row. Repeated writes (collection rows,
+         * batched inserts) are expected and not reported.
+         */
+        public synchronized List<String> getRepeated(int threshold) {
+            List<String> repeated = new ArrayList<>();
+            statements.forEach((sql, times) -> {
+                if (times >= threshold && sql.regionMatches(true, 0, "select", 0, 6)) {
+                    repeated.add(times + "x " + sql);
+                }
+            });
+            return repeated;
+        }
+
+        public void assertAtMost(int max) {
+            int count = getCount();
+            if (count > max) {
+                throw new AssertionError(name + " executed " + count + " statements, expected at most "
+                        + max + ":\n" + describe());
+            }
+        }
+
+        public void assertNoRepeats(int threshold) {
+            List<String> repeated = getRepeated(threshold);
+            if (!repeated.isEmpty()) {
+                throw new AssertionError(name + " repeated statements (possible N+1):\n"
+                        + String.join("\n", repeated));
+            }
+        }
+
+        public synchronized String describe() {
+            StringBuilder builder = new StringBuilder();
+            statements.forEach((sql, times) -> builder.append("  ").append(times).append("x ").append(sql).append('\n'));
+            return builder.toString();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobportal.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link QueryCountingDataSource} when
+ * {@code query-count.enabled} is set. Runs after every other DataSource wrapper, so it sees the
+ * connections the application sees.
+ */
+@Component
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true")
+public class QueryCountConfig implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                || bean instanceof QueryCountingDataSource) {
+            return bean;
+        }
+        return new QueryCountingDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobportal.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Opens a {@link QueryCount} scope per request, ahead of the security chain so the
+ * principal lookup is counted too, and logs repeated statements and exceeded budgets.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCountProperties properties;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String name = request.getMethod() + " " + path;
+        try (QueryCount.Scope scope = QueryCount.start(name)) {
+            filterChain.doFilter(request, response);
+            report(request, path, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, String path, QueryCount.Scope scope) {
+        log.debug("{} executed {} statements", scope.getName(), scope.getCount());
+
+        List<String> repeated = scope.getRepeated(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 in {}: {} statements, repeated:\n  {}",
+                    scope.getName(), scope.getCount(), String.join("\n  ", repeated));
+        }
+
+        for (QueryCountProperties.Budget budget : properties.getBudgets()) {
+            if (budget.getMethod().equalsIgnoreCase(request.getMethod())
+                    && pathMatcher.match(budget.getPattern(), path)) {
+                if (scope.getCount() > budget.getMax()) {
+                    log.warn("Query budget exceeded for {}: {} statements, budget {}\n{}",
+                            scope.getName(), scope.getCount(), budget.getMax(), scope.describe());
+                }
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "query-count")
+@Data
+public class QueryCountProperties {
+
+    // Counts statements per HTTP request; cheap, but only meant for dev and test profiles
+    private boolean enabled = false;
+
+    // Identical statements (ignoring parameters) issued this many times in one request are reported
+    private int repeatThreshold = 3;
+
+    // Evaluated in order, the first budget matching the request applies
+    private List<Budget> budgets = new ArrayList<>();
+
+    @Data
+    public static class Budget {
+        private String pattern;
+        private String method = "GET";
+        private int max;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobportal.config;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Feeds {@link QueryCount} from the connections it hands out, so statements are counted whether
+ * they come from Hibernate, a JdbcTemplate or plain JDBC. Prepared statements are counted when
+ * prepared, plain statements for each SQL string executed or batched.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("getTargetConnection")) {
+                        return connection;
+                    }
+                    if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args[0] instanceof String sql) {
+                        QueryCount.record(sql);
+                    }
+                    Object result = invoke(proxy, connection, method, args);
+                    return result instanceof Statement statement && name.equals("createStatement")
+                            ? counting(statement) : result;
+                });
+    }
+
+    private static Statement counting(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ((name.startsWith("execute") || name.equals("addBatch"))
+                            && args != null && args.length > 0 && args[0] instanceof String sql) {
+                        QueryCount.record(sql);
+                    }
+                    return invoke(proxy, statement, method, args);
+                });
+    }
+
+    // Identity for equals/hashCode, so a proxy stays equal to itself in Spring's and Hibernate's registries
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.jobportal.config;
+
+import com.jobportal.security.UserDetailsImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag
+ * is only bound after the transaction manager has begun, so the physical connection has
+ * to be fetched lazily for the routing decision to see it.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final DataSourceRoutingProperties properties;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService prober;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    DataSourceRoutingProperties properties) {
+        this.primary = primary;
+        this.properties = properties;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getProbeInterval().toMillis();
+        prober.scheduleWithFixedDelay(this::probeReplicas, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null) {
+            Long until = stickyUntil.get(userId);
+            if (until != null && until > System.currentTimeMillis()) {
+                return PRIMARY;
+            }
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // Read-write transactions make the user's following reads sticky to the primary once they commit
+    private void trackWrite() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = System.currentTimeMillis();
+                if (stickyUntil.size() >= MAX_TRACKED_WRITERS) {
+                    stickyUntil.values().removeIf(until -> until <= now);
+                }
+                stickyUntil.put(userId, now + properties.getStickyWindow().toMillis());
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+    private void probeReplicas() {
+        long maxLagSeconds = properties.getMaxLag().toSeconds();
+        for (Replica replica : replicas) {
+            boolean healthy;
+            String reason;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                Long lag = resultSet.next() ? readLagSeconds(resultSet) : Long.valueOf(0);
+                healthy = lag != null && lag <= maxLagSeconds;
+                reason = lag == null ? "replication stopped" : "lag " + lag + "s";
+            } catch (Exception e) {
+                healthy = false;
+                reason = e.getMessage();
+            }
+            if (healthy != replica.healthy || !replica.probed) {
+                if (healthy) {
+                    log.info("Replica {} is available ({})", replica.key, reason);
+                } else {
+                    log.warn("Replica {} taken out of rotation: {}", replica.key, reason);
+                }
+            }
+            replica.healthy = healthy;
+            replica.probed = true;
+        }
+    }
+
+    private static Long readLagSeconds(ResultSet resultSet) throws Exception {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int column = 1;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String name = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(name) || "Seconds_Behind_Master".equalsIgnoreCase(name)) {
+                column = i;
+                break;
+            }
+        }
+        long lag = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : lag;
+    }
+
+    @Override
+    public void destroy() {
+        prober.shutdownNow();
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+        close(primary);
+    }
+
+    // Pools may be wrapped in a ConcurrencyLimitingDataSource
+    private static void close(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).close();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not close pool", e);
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean probed;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "resume-bundle")
+@Data
+public class ResumeBundleProperties {
+
+    // Total size of the resumes in one ZIP; larger requests are refused before anything is sent
+    private DataSize maxSize = DataSize.ofMegabytes(200);
+
+    // Already compressed formats, stored as is rather than deflated again
+    private List<String> storedExtensions = List.of("pdf", "docx");
+}
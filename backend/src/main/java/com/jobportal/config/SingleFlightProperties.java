@@ -0,0 +1,23 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "single-flight")
+@Data
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    // Groups that always run their own read (e.g. job-search while investigating a slow query)
+    private Set<String> disabledGroups = new HashSet<>();
+
+    public boolean isEnabled(String group) {
+        return enabled && !disabledGroups.contains(group);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "syndication")
+@Data
+public class SyndicationProperties {
+
+    private boolean enabled = true;
+
+    // Where the gzip files are kept; each instance writes its own copy
+    private String dir = System.getProperty("user.home") + "/job-portal-syndication";
+
+    // Public address of the web app, for job links (site-url/jobs/{id})
+    private String siteUrl = "http://localhost:3000";
+
+    // Public address of this API, for links between the files (sitemap index, next feed page). The
+    // Sitemap line of the site's robots.txt must point here, or crawlers reject the site-url links
+    private String apiUrl = "http://localhost:8080";
+
+    // Job ids per file; one sitemap may list at most 50,000 URLs
+    private int segmentSize = 10_000;
+
+    // Delay between a job change and the rewrite of its segment; also covers replica lag
+    private Duration interval = Duration.ofMinutes(1);
+
+    // Everything is rewritten at startup and then at this interval, picking up writes made by other
+    // instances or outside the services
+    private Duration fullRebuildInterval = Duration.ofHours(6);
+}
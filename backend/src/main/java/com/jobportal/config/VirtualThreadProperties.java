@@ -0,0 +1,29 @@
+package com.jobportal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "virtual-threads")
+@Data
+public class VirtualThreadProperties {
+
+    // Bound connection holders per pool (one permit per pooled connection), so threads wait in a fair
+    // queue in front of the pool. Works on any runtime
+    private boolean limitDbConcurrency = false;
+
+    private Duration dbAcquireTimeout = Duration.ofSeconds(30);
+
+    // Record jdk.VirtualThreadPinned events through a JFR stream. The event exists on Java 21+ runtimes
+    // only: on this Java 17 build the monitor does nothing
+    private boolean pinningMonitor = false;
+
+    // Pinned sections shorter than this are not recorded
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    // Frames kept per recorded site
+    private int stackDepth = 12;
+}
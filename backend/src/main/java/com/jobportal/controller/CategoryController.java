@@ -43,20 +43,22 @@ public class CategoryController {
     @GetMapping
     @Operation(summary = "Get all categories", description = "Get list of all active categories")
     public ResponseEntity<List<Map<String, Object>>> getAllCategories() {
+        String eTag = categoryService.getETag();
         List<Category> categories = categoryService.getAllCategories();
         List<Map<String, Object>> categoryResponses = categories.stream()
                 .map(this::createCategoryResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(categoryResponses);
+        return revalidated(eTag, categoryService.getLastModified()).body(categoryResponses);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get category by ID", description = "Get category details by ID")
     public ResponseEntity<?> getCategoryById(@PathVariable Long id) {
         try {
+            String eTag = categoryService.getETag();
             Category category = categoryService.findById(id)
                     .orElseThrow(() -> new RuntimeException("Category not found"));
-            return ResponseEntity.ok(createCategoryResponse(category));
+            return revalidated(eTag, categoryService.getLastModified()).body(createCategoryResponse(category));
         } catch (Exception e) {
             log.error("Failed to get category with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -128,6 +130,12 @@ public class CategoryController {
         }
     }
 
+    // Reference data changes rarely: caches keep the response for the http-cache max-age, then revalidate it with If-None-Match
+    // or If-Modified-Since (304 when unchanged)
+    private static ResponseEntity.BodyBuilder revalidated(String eTag, long lastModified) {
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified);
+    }
+
     private Map<String, Object> createCategoryResponse(Category category) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", category.getId());
@@ -1,7 +1,12 @@
 package com.jobportal.controller;
 
+import com.jobportal.dto.BatchRequest;
+import com.jobportal.dto.BatchResponse;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.dto.PurgeTask;
 import com.jobportal.entity.Company;
 import com.jobportal.entity.User;
+import com.jobportal.repository.CompanyRepository;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,10 +20,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -32,6 +42,9 @@ public class CompanyController {
     private final CompanyService companyService;
     private final AuthService authService;
 
+    private static final Set<String> SUMMARY_FIELDS =
+            Set.of("id", "name", "logoUrl", "industry", "city", "country", "isVerified");
+
     @PostMapping
     @Operation(summary = "Create a new company", description = "Create a new company profile")
     public ResponseEntity<?> createCompany(@Valid @RequestBody Company company) {
@@ -54,55 +67,98 @@ public class CompanyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Company> companies = companyService.getAllCompanies(pageable);
-        Page<Map<String, Object>> companyResponses = companies.map(this::createCompanyResponse);
+        FieldSelection selection = selection(view, fields);
+        Page<Map<String, Object>> companyResponses = companyService.getAllCompanies(pageable, projection(selection))
+                .map(company -> toResponse(company, selection));
         
         return ResponseEntity.ok(companyResponses);
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search companies", description = "Search companies by keyword")
-    public ResponseEntity<List<Map<String, Object>>> searchCompanies(@RequestParam String keyword) {
-        List<Company> companies = companyService.searchCompanies(keyword);
-        List<Map<String, Object>> companyResponses = companies.stream()
-                .map(this::createCompanyResponse)
+    public ResponseEntity<List<Map<String, Object>>> searchCompanies(@RequestParam String keyword,
+                                                                     @RequestParam(required = false) String view,
+                                                                     @RequestParam(required = false) String fields) {
+        FieldSelection selection = selection(view, fields);
+        List<Map<String, Object>> companyResponses = companyService.searchCompanies(keyword, projection(selection)).stream()
+                .map(company -> toResponse(company, selection))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(companyResponses);
     }
 
     @GetMapping("/industry/{industry}")
     @Operation(summary = "Get companies by industry", description = "Get companies filtered by industry")
-    public ResponseEntity<List<Map<String, Object>>> getCompaniesByIndustry(@PathVariable String industry) {
-        List<Company> companies = companyService.getCompaniesByIndustry(industry);
-        List<Map<String, Object>> companyResponses = companies.stream()
-                .map(this::createCompanyResponse)
+    public ResponseEntity<List<Map<String, Object>>> getCompaniesByIndustry(@PathVariable String industry,
+                                                                            @RequestParam(required = false) String view,
+                                                                            @RequestParam(required = false) String fields) {
+        FieldSelection selection = selection(view, fields);
+        List<Map<String, Object>> companyResponses = companyService.getCompaniesByIndustry(industry, projection(selection)).stream()
+                .map(company -> toResponse(company, selection))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(companyResponses);
     }
 
     @GetMapping("/verified")
     @Operation(summary = "Get verified companies", description = "Get list of verified companies")
-    public ResponseEntity<List<Map<String, Object>>> getVerifiedCompanies() {
-        List<Company> companies = companyService.getVerifiedCompanies();
-        List<Map<String, Object>> companyResponses = companies.stream()
-                .map(this::createCompanyResponse)
+    public ResponseEntity<List<Map<String, Object>>> getVerifiedCompanies(@RequestParam(required = false) String view,
+                                                                          @RequestParam(required = false) String fields) {
+        FieldSelection selection = selection(view, fields);
+        List<Map<String, Object>> companyResponses = companyService.getVerifiedCompanies(projection(selection)).stream()
+                .map(company -> toResponse(company, selection))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(companyResponses);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get companies by IDs", description = "Get up to 100 companies in one request")
+    public ResponseEntity<?> getCompaniesByIds(@RequestBody BatchRequest batchRequest,
+                                               @RequestParam(required = false) String view,
+                                               @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = selection(view, fields);
+            List<Long> ids = batchRequest.distinctIds();
+            Map<Long, Map<String, Object>> found = companyService.findAllById(ids, projection(selection)).stream()
+                    .map(company -> toResponse(company, selection))
+                    .collect(Collectors.toMap(company -> (Long) company.get("id"), company -> company));
+            return ResponseEntity.ok(BatchResponse.of(ids, found, "Company not found"));
+        } catch (Exception e) {
+            log.error("Failed to get companies {}", batchRequest.getIds(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get companies");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get company by ID", description = "Get company details by ID")
-    public ResponseEntity<?> getCompanyById(@PathVariable Long id) {
+    public ResponseEntity<?> getCompanyById(@PathVariable Long id,
+                                            @RequestParam(required = false) String view,
+                                            @RequestParam(required = false) String fields,
+                                            WebRequest request) {
         try {
-            Company company = companyService.findById(id)
+            FieldSelection selection = selection(view, fields);
+            // The response is built from company columns only, so updatedAt covers all of it
+            LocalDateTime updatedAt = companyService.findLastModified(id)
                     .orElseThrow(() -> new RuntimeException("Company not found"));
-            return ResponseEntity.ok(createCompanyResponse(company));
+            String eTag = "\"company-" + id + "-" + Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC))
+                    + "." + updatedAt.getNano() + "\"";
+            long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (request.checkNotModified(eTag, lastModified)) {
+                return null;
+            }
+            Object company = selection.fitsIn(SUMMARY_FIELDS)
+                    ? companyService.findSummary(id).orElseThrow(() -> new RuntimeException("Company not found"))
+                    : companyService.findById(id).orElseThrow(() -> new RuntimeException("Company not found"));
+            return ResponseEntity.ok(toResponse(company, selection));
         } catch (Exception e) {
             log.error("Failed to get company with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -150,9 +206,10 @@ public class CompanyController {
     public ResponseEntity<?> deleteCompany(@PathVariable Long id) {
         try {
             User currentUser = authService.getCurrentUser();
-            companyService.deleteCompany(id, currentUser);
+            PurgeTask purge = companyService.deleteCompany(id, currentUser);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Company deleted successfully");
+            response.put("purgeId", purge.getId());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("Failed to delete company with id: {}", id, e);
@@ -218,6 +275,34 @@ public class CompanyController {
         }
     }
 
+    private static FieldSelection selection(String view, String fields) {
+        return FieldSelection.of(view, fields, FieldSelection.View.DETAIL);
+    }
+
+    // Selections covered by the summary columns are read through the Summary projection
+    private static Class<?> projection(FieldSelection selection) {
+        return selection.fitsIn(SUMMARY_FIELDS) ? CompanyRepository.Summary.class : Company.class;
+    }
+
+    private Map<String, Object> toResponse(Object company, FieldSelection selection) {
+        Map<String, Object> response = company instanceof Company entity
+                ? createCompanyResponse(entity)
+                : createCompanySummary((CompanyRepository.Summary) company);
+        return selection.select(response, Set.of());
+    }
+
+    private Map<String, Object> createCompanySummary(CompanyRepository.Summary company) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", company.getId());
+        response.put("name", company.getName());
+        response.put("logoUrl", company.getLogoUrl());
+        response.put("industry", company.getIndustry());
+        response.put("city", company.getCity());
+        response.put("country", company.getCountry());
+        response.put("isVerified", company.getIsVerified());
+        return response;
+    }
+
     private Map<String, Object> createCompanyResponse(Company company) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", company.getId());
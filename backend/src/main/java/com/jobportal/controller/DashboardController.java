@@ -0,0 +1,42 @@
+package com.jobportal.controller;
+
+import com.jobportal.entity.User;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "Dashboard summary APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final AuthService authService;
+
+    @GetMapping
+    @Operation(summary = "Get dashboard", description = "Get the current user's dashboard sections in one request; "
+            + "sections that fail or time out are listed under errors")
+    public ResponseEntity<?> getDashboard(@RequestParam(defaultValue = "false") boolean debug) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            return ResponseEntity.ok(dashboardService.getDashboard(currentUser, debug));
+        } catch (Exception e) {
+            log.error("Failed to get dashboard", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get dashboard");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
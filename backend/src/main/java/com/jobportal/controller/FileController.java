@@ -1,6 +1,10 @@
 package com.jobportal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.BatchRequest;
+import com.jobportal.dto.UserResponse;
 import com.jobportal.service.AuthService;
+import com.jobportal.service.ResumeBundleService;
 import com.jobportal.service.UserService;
 import com.jobportal.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -36,6 +41,8 @@ public class FileController {
 
     private final AuthService authService;
     private final UserService userService;
+    private final ResumeBundleService resumeBundleService;
+    private final ObjectMapper objectMapper;
 
     @Value("${file.upload-dir:./uploads/}")
     private String uploadDir;
@@ -186,7 +193,7 @@ public class FileController {
             String fileUrl = "/api/files/download/" + filename;
 
             // Update user resume URL
-            User updatedUser = userService.updateResume(currentUser, fileUrl);
+            UserResponse updatedUser = userService.updateResume(currentUser, fileUrl);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Resume uploaded successfully");
@@ -270,7 +277,7 @@ public class FileController {
             String fileUrl = "/api/files/download/" + filename;
 
             // Update user profile picture URL
-            User updatedUser = userService.updateProfilePicture(currentUser, fileUrl);
+            UserResponse updatedUser = userService.updateProfilePicture(currentUser, fileUrl);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Profile picture uploaded successfully");
@@ -352,6 +359,55 @@ public class FileController {
         }
     }
 
+    @GetMapping("/resumes/job/{jobId}")
+    @Operation(summary = "Download resumes for a job", description = "ZIP of the resumes of all applicants to one of the current employer's jobs")
+    public ResponseEntity<StreamingResponseBody> downloadJobResumes(@PathVariable Long jobId) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            return resumeBundle(resumeBundleService.forJob(currentUser, jobId, uploadPath), "resumes-job-" + jobId + ".zip");
+        } catch (Exception e) {
+            log.error("Failed to bundle resumes for job: {}", jobId, e);
+            return resumeBundleError(e);
+        }
+    }
+
+    @PostMapping("/resumes")
+    @Operation(summary = "Download selected resumes", description = "ZIP of the resumes of up to 100 applications to the current employer's jobs")
+    public ResponseEntity<StreamingResponseBody> downloadResumes(@RequestBody BatchRequest batchRequest) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            return resumeBundle(resumeBundleService.forApplications(currentUser, batchRequest.distinctIds(), uploadPath),
+                    "resumes.zip");
+        } catch (Exception e) {
+            log.error("Failed to bundle resumes for applications {}", batchRequest.getIds(), e);
+            return resumeBundleError(e);
+        }
+    }
+
+    // Files are copied into the response as the archive is written, after the handler has returned
+    private ResponseEntity<StreamingResponseBody> resumeBundle(ResumeBundleService.Bundle bundle, String filename) {
+        StreamingResponseBody body = out -> {
+            try {
+                resumeBundleService.write(bundle, out);
+            } catch (Exception e) {
+                log.error("Failed to write resume bundle {}", filename, e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> resumeBundleError(Exception e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Failed to download resumes");
+        error.put("message", e.getMessage());
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, error));
+    }
+
     @DeleteMapping("/resume")
     @Operation(summary = "Delete resume", description = "Delete user's resume file")
     public ResponseEntity<?> deleteResume() {
@@ -379,7 +435,7 @@ public class FileController {
             }
             
             // Clear resume URL from user profile
-            User updatedUser = userService.deleteResume(currentUser);
+            UserResponse updatedUser = userService.deleteResume(currentUser);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Resume deleted successfully");
@@ -401,7 +457,7 @@ public class FileController {
         }
     }
 
-    private Map<String, Object> createUserResponse(User user) {
+    private Map<String, Object> createUserResponse(UserResponse user) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", user.getId());
         response.put("firstName", user.getFirstName());
@@ -1,9 +1,12 @@
 package com.jobportal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.dto.ApplicationRequest;
 import com.jobportal.dto.ApplicationResponse;
+import com.jobportal.dto.FieldSelection;
 import com.jobportal.entity.JobApplication;
 import com.jobportal.entity.User;
+import com.jobportal.service.ApplicantExportService;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.JobApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,9 +18,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -32,16 +39,21 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class JobApplicationController {
 
+    // Appended to the API docs of the endpoints that accept view/fields
+    private static final String FIELD_SELECTION = ". view=summary|detail and fields=a,b,c: selections without"
+            + " coverLetter, notes or rejectionReason read only the summary columns";
+
     private final JobApplicationService jobApplicationService;
     private final AuthService authService;
+    private final ApplicantExportService applicantExportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Apply for a job", description = "Submit a job application")
     public ResponseEntity<?> applyForJob(@Valid @RequestBody ApplicationRequest applicationRequest) {
         try {
             User currentUser = authService.getCurrentUser();
-            JobApplication application = jobApplicationService.createApplication(applicationRequest, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+            return ResponseEntity.ok(jobApplicationService.createApplication(applicationRequest, currentUser));
         } catch (Exception e) {
             log.error("Failed to create application", e);
             Map<String, String> error = new HashMap<>();
@@ -52,32 +64,34 @@ public class JobApplicationController {
     }
 
     @GetMapping
-    @Operation(summary = "Get my applications", description = "Get applications submitted by current user")
-    public ResponseEntity<Page<ApplicationResponse>> getMyApplications(
+    @Operation(summary = "Get my applications", description = "Get applications submitted by current user" + FIELD_SELECTION)
+    public ResponseEntity<?> getMyApplications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
         
         User currentUser = authService.getCurrentUser();
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<JobApplication> applications = jobApplicationService.getApplicationsByUser(currentUser, pageable);
-        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-        
-        return ResponseEntity.ok(applicationResponses);
+        FieldSelection selection = selection(view, fields);
+        return ResponseEntity.ok(trim(jobApplicationService.getApplicationsByUser(currentUser, pageable, selection), selection));
     }
 
     @GetMapping("/job/{jobId}")
-    @Operation(summary = "Get applications for a job", description = "Get all applications for a specific job")
+    @Operation(summary = "Get applications for a job", description = "Get all applications for a specific job" + FIELD_SELECTION)
     public ResponseEntity<?> getApplicationsForJob(
             @PathVariable Long jobId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
         
         try {
             User currentUser = authService.getCurrentUser();
@@ -85,10 +99,8 @@ public class JobApplicationController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<JobApplication> applications = jobApplicationService.getApplicationsByJob(jobId, pageable);
-            Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-            
-            return ResponseEntity.ok(applicationResponses);
+            FieldSelection selection = selection(view, fields);
+            return ResponseEntity.ok(trim(jobApplicationService.getApplicationsByJob(jobId, pageable, selection), selection));
         } catch (Exception e) {
             log.error("Failed to get applications for job: {}", jobId, e);
             Map<String, String> error = new HashMap<>();
@@ -98,13 +110,49 @@ public class JobApplicationController {
         }
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export applicants", description = "Stream the applicants to all of the current employer's jobs, or to one job, as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportApplicants(@RequestParam(required = false) Long jobId,
+                                                                  @RequestParam(defaultValue = "csv") String format) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            ApplicantExportService.Format exportFormat = ApplicantExportService.Format.of(format);
+            // Written after the handler returns, on an MVC async thread, in its own read-only transaction
+            StreamingResponseBody body = out -> {
+                try {
+                    applicantExportService.export(currentUser, jobId, exportFormat, out);
+                } catch (Exception e) {
+                    log.error("Applicant export failed for user {}", currentUser.getId(), e);
+                    throw e;
+                }
+            };
+            String filename = "applicants-" + (jobId != null ? "job-" + jobId + "-" : "") + LocalDate.now()
+                    + "." + exportFormat.getExtension();
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Failed to export applicants", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to export applicants");
+            error.put("message", e.getMessage());
+            // Streamed bodies are the only kind this return type can carry
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Get application by ID", description = "Get application details by ID")
-    public ResponseEntity<?> getApplicationById(@PathVariable Long id) {
+    @Operation(summary = "Get application by ID", description = "Get application details by ID" + FIELD_SELECTION)
+    public ResponseEntity<?> getApplicationById(@PathVariable Long id,
+                                                @RequestParam(required = false) String view,
+                                                @RequestParam(required = false) String fields) {
         try {
-            JobApplication application = jobApplicationService.findById(id)
+            FieldSelection selection = selection(view, fields);
+            ApplicationResponse application = jobApplicationService.getApplication(id, selection)
                     .orElseThrow(() -> new RuntimeException("Application not found"));
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+            return ResponseEntity.ok(trim(application, selection));
         } catch (Exception e) {
             log.error("Failed to get application with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -123,8 +171,7 @@ public class JobApplicationController {
         
         try {
             User currentUser = authService.getCurrentUser();
-            JobApplication application = jobApplicationService.updateApplicationStatus(id, status, notes, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+            return ResponseEntity.ok(jobApplicationService.updateApplicationStatus(id, status, notes, currentUser));
         } catch (Exception e) {
             log.error("Failed to update application status for id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -144,8 +191,7 @@ public class JobApplicationController {
         try {
             User currentUser = authService.getCurrentUser();
             LocalDateTime interviewDateTime = LocalDateTime.parse(interviewTime);
-            JobApplication application = jobApplicationService.scheduleInterview(id, interviewDateTime, notes, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+            return ResponseEntity.ok(jobApplicationService.scheduleInterview(id, interviewDateTime, notes, currentUser));
         } catch (Exception e) {
             log.error("Failed to schedule interview for application id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -174,22 +220,30 @@ public class JobApplicationController {
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get applications by status", description = "Get applications filtered by status")
-    public ResponseEntity<Page<ApplicationResponse>> getApplicationsByStatus(
+    @Operation(summary = "Get applications by status", description = "Get applications filtered by status" + FIELD_SELECTION)
+    public ResponseEntity<?> getApplicationsByStatus(
             @PathVariable JobApplication.ApplicationStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<JobApplication> applications = jobApplicationService.getApplicationsByStatus(status, pageable);
-        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-        
-        return ResponseEntity.ok(applicationResponses);
+        FieldSelection selection = selection(view, fields);
+        return ResponseEntity.ok(trim(jobApplicationService.getApplicationsByStatus(status, pageable, selection), selection));
+    }
+
+    private static FieldSelection selection(String view, String fields) {
+        return FieldSelection.of(view, fields, FieldSelection.View.DETAIL);
+    }
+
+    private static Object trim(Object body, FieldSelection selection) {
+        return selection.apply(body, ApplicationResponse.DETAIL_FIELDS);
     }
 
     @GetMapping("/stats")
@@ -1,13 +1,25 @@
 package com.jobportal.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.BatchRequest;
+import com.jobportal.dto.BatchResponse;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.dto.JobImportReport;
 import com.jobportal.dto.JobRequest;
 import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.PurgeTask;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.service.AuthService;
+import com.jobportal.service.JobDetailCache;
+import com.jobportal.service.JobFragmentCache;
+import com.jobportal.service.JobImportFeed;
+import com.jobportal.service.JobImportService;
 import com.jobportal.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,13 +27,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -33,14 +50,16 @@ public class JobController {
 
     private final JobService jobService;
     private final AuthService authService;
+    private final JobFragmentCache jobFragmentCache;
+    private final JobImportService jobImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new job", description = "Create a new job posting")
     public ResponseEntity<?> createJob(@Valid @RequestBody JobRequest jobRequest) {
         try {
             User currentUser = authService.getCurrentUser();
-            Job job = jobService.createJob(jobRequest, currentUser);
-            return ResponseEntity.ok(JobResponse.fromJob(job));
+            return ResponseEntity.ok(jobService.createJob(jobRequest, currentUser));
         } catch (Exception e) {
             log.error("Failed to create job", e);
             Map<String, String> error = new HashMap<>();
@@ -52,25 +71,25 @@ public class JobController {
 
     @GetMapping
     @Operation(summary = "Get all jobs", description = "Get paginated list of all active jobs")
-    public ResponseEntity<Page<JobResponse>> getAllJobs(
+    public ResponseEntity<?> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Job> jobs = jobService.getAllJobs(pageable);
-        Page<JobResponse> jobResponses = jobs.map(JobResponse::fromJob);
-        
-        return ResponseEntity.ok(jobResponses);
+        return listResponse(request, () -> jobService.getAllJobs(pageable, listSelection(view, fields)));
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search jobs", description = "Search jobs with filters")
-    public ResponseEntity<Page<JobResponse>> searchJobs(
+    public ResponseEntity<?> searchJobs(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Job.JobType jobType,
@@ -79,29 +98,76 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Job> jobs = jobService.searchJobs(keyword, location, jobType, experienceLevel, isRemote, pageable);
-        Page<JobResponse> jobResponses = jobs.map(JobResponse::fromJob);
-        
-        return ResponseEntity.ok(jobResponses);
+        return listResponse(request, () -> jobService.searchJobs(keyword, location, jobType, experienceLevel, isRemote,
+                pageable, listSelection(view, fields)));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get jobs by IDs", description = "Get up to 100 jobs in one request; not counted as views")
+    public ResponseEntity<?> getJobsByIds(@RequestBody BatchRequest batchRequest,
+                                          @RequestParam(required = false) String view,
+                                          @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.of(view, fields, FieldSelection.View.DETAIL);
+            BatchResponse<JobResponse> jobs = jobService.getJobs(batchRequest.distinctIds(), selection);
+            return ResponseEntity.ok(selection.apply(jobs, JobResponse.DETAIL_FIELDS));
+        } catch (Exception e) {
+            log.error("Failed to get jobs {}", batchRequest.getIds(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get jobs");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    @Operation(summary = "Import jobs", description = "Create or update jobs from a CSV or NDJSON feed, matched on externalRef")
+    public ResponseEntity<?> importJobs(@RequestParam(defaultValue = "csv") String format, InputStream body) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            JobImportReport report = jobImportService.importFeed(body, JobImportFeed.Format.of(format), currentUser);
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            log.error("Failed to import jobs", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to import jobs");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get job by ID", description = "Get job details by ID")
-    public ResponseEntity<?> getJobById(@PathVariable Long id) {
+    public ResponseEntity<?> getJobById(@PathVariable Long id,
+                                        @RequestParam(required = false) String view,
+                                        @RequestParam(required = false) String fields,
+                                        ServletWebRequest request) {
         try {
-            Job job = jobService.findById(id)
+            FieldSelection selection = FieldSelection.of(view, fields, FieldSelection.View.DETAIL);
+            // Revalidation is answered before the job is loaded, and a 304 is not counted as a view
+            JobService.DetailValidators validators = jobService.findDetailValidators(id, selection)
                     .orElseThrow(() -> new RuntimeException("Job not found"));
-            
-            // Increment view count
-            jobService.incrementViews(id);
-            
-            return ResponseEntity.ok(JobResponse.fromJob(job));
+            if (notModified(request, validators.eTag(), validators.lastModified())) {
+                ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .lastModified(validators.lastModified());
+                return (validators.eTag() == null ? notModified : notModified.eTag(validators.eTag())).build();
+            }
+            // Counts the view as well
+            JobDetailCache.Detail job = jobService.viewJob(id, selection)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            Object body = selection.apply(job.response(), JobResponse.DETAIL_FIELDS);
+            String eTag = job.eTag(selection);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().lastModified(validators.lastModified());
+            return (eTag == null ? response : response.eTag(eTag)).body(body);
         } catch (Exception e) {
             log.error("Failed to get job with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -116,8 +182,7 @@ public class JobController {
     public ResponseEntity<?> updateJob(@PathVariable Long id, @Valid @RequestBody JobRequest jobRequest) {
         try {
             User currentUser = authService.getCurrentUser();
-            Job job = jobService.updateJob(id, jobRequest, currentUser);
-            return ResponseEntity.ok(JobResponse.fromJob(job));
+            return ResponseEntity.ok(jobService.updateJob(id, jobRequest, currentUser));
         } catch (Exception e) {
             log.error("Failed to update job with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -132,9 +197,10 @@ public class JobController {
     public ResponseEntity<?> deleteJob(@PathVariable Long id) {
         try {
             User currentUser = authService.getCurrentUser();
-            jobService.deleteJob(id, currentUser);
+            PurgeTask purge = jobService.deleteJob(id, currentUser);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Job deleted successfully");
+            response.put("purgeId", purge.getId());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("Failed to delete job with id: {}", id, e);
@@ -149,50 +215,102 @@ public class JobController {
     @Operation(summary = "Get my jobs", description = "Get jobs posted by current user")
     public ResponseEntity<List<JobResponse>> getMyJobs() {
         User currentUser = authService.getCurrentUser();
-        List<Job> jobs = jobService.getJobsByUser(currentUser);
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(JobResponse::fromJob)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(jobResponses);
+        return ResponseEntity.ok(jobService.getJobsByUser(currentUser));
+    }
+
+    @GetMapping("/my-jobs/history")
+    @Operation(summary = "Get my job history", description = "Page through all jobs posted by current user, including archived ones")
+    public ResponseEntity<Page<JobResponse>> getMyJobHistory(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        User currentUser = authService.getCurrentUser();
+        return ResponseEntity.ok(jobService.getJobHistory(currentUser, PageRequest.of(page, size)));
     }
 
     @GetMapping("/recent")
     @Operation(summary = "Get recent jobs", description = "Get recently posted jobs")
-    public ResponseEntity<List<JobResponse>> getRecentJobs(@RequestParam(defaultValue = "10") int limit) {
-        List<Job> jobs = jobService.getRecentJobs(limit);
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(JobResponse::fromJob)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(jobResponses);
+    public ResponseEntity<?> getRecentJobs(@RequestParam(defaultValue = "10") int limit,
+                                           @RequestParam(required = false) String view,
+                                           @RequestParam(required = false) String fields,
+                                           ServletWebRequest request) {
+        return listResponse(request, () -> jobService.getRecentJobs(limit, listSelection(view, fields)));
     }
 
     @GetMapping("/featured")
     @Operation(summary = "Get featured jobs", description = "Get most viewed jobs")
-    public ResponseEntity<List<JobResponse>> getFeaturedJobs() {
-        List<Job> jobs = jobService.getFeaturedJobs();
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(JobResponse::fromJob)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(jobResponses);
+    public ResponseEntity<?> getFeaturedJobs(@RequestParam(required = false) String view,
+                                             @RequestParam(required = false) String fields,
+                                             ServletWebRequest request) {
+        return listResponse(request, () -> jobService.getFeaturedJobs(listSelection(view, fields)));
     }
 
     @GetMapping("/company/{companyId}")
     @Operation(summary = "Get jobs by company", description = "Get all jobs posted by a company")
-    public ResponseEntity<List<JobResponse>> getJobsByCompany(@PathVariable Long companyId) {
-        List<Job> jobs = jobService.getJobsByCompany(companyId);
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(JobResponse::fromJob)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(jobResponses);
+    public ResponseEntity<?> getJobsByCompany(@PathVariable Long companyId,
+                                              @RequestParam(required = false) String view,
+                                              @RequestParam(required = false) String fields,
+                                              ServletWebRequest request) {
+        return listResponse(request, () -> jobService.getJobsByCompany(companyId, listSelection(view, fields)));
     }
 
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "Get jobs by category", description = "Get all jobs in a category")
-    public ResponseEntity<List<JobResponse>> getJobsByCategory(@PathVariable Long categoryId) {
-        List<Job> jobs = jobService.getJobsByCategory(categoryId);
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(JobResponse::fromJob)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(jobResponses);
+    public ResponseEntity<?> getJobsByCategory(@PathVariable Long categoryId,
+                                               @RequestParam(required = false) String view,
+                                               @RequestParam(required = false) String fields,
+                                               ServletWebRequest request) {
+        return listResponse(request, () -> jobService.getJobsByCategory(categoryId, listSelection(view, fields)));
+    }
+
+    // Lists default to the summary view, which is served from the cached list entries
+    private static FieldSelection listSelection(String view, String fields) {
+        return FieldSelection.of(view, fields, FieldSelection.View.SUMMARY);
+    }
+
+    // The ETag comes from the fragments' checksums, so a 304 is decided without serializing the page;
+    // otherwise the Jackson converter writes the fragments straight into the response stream.
+    // Gzip-capable clients reuse the compressed copy of pages served repeatedly with the same content.
+    // A revalidation matching the ETag the URL was last served with is answered before the query
+    private ResponseEntity<?> listResponse(ServletWebRequest request, Supplier<Object> loader) {
+        HttpServletRequest servletRequest = request.getRequest();
+        String query = servletRequest.getQueryString();
+        String url = query == null ? servletRequest.getRequestURI() : servletRequest.getRequestURI() + "?" + query;
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String key = acceptsGzip ? url + " gzip" : url;
+        long generation = jobFragmentCache.listGeneration();
+        String servedETag = jobFragmentCache.servedETag(key);
+        if (servedETag != null && notModified(request, servedETag, -1)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(servedETag).build();
+        }
+
+        Object body = loader.get();
+        long stamp = JobFragmentCache.stamp(body);
+        byte[] gzipped = acceptsGzip ? jobFragmentCache.gzipIfHot(url, stamp, () -> serialize(body)) : null;
+        String eTag = JobFragmentCache.eTag(gzipped != null ? "jobs-gzip" : "jobs", stamp);
+        jobFragmentCache.served(key, generation, eTag);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped == null) {
+            return response.body(body);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+    }
+
+    // Checks the conditional headers without touching the response, so on a miss the full response sets its own validators
+    private static boolean notModified(ServletWebRequest request, String eTag, long lastModified) {
+        return new ServletWebRequest(request.getRequest()).checkNotModified(eTag, lastModified);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job list", e);
+        }
     }
 }
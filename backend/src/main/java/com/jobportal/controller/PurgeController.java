@@ -0,0 +1,47 @@
+package com.jobportal.controller;
+
+import com.jobportal.dto.PurgeTask;
+import com.jobportal.entity.User;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.PurgeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/purges")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Purges", description = "Progress of background deletes")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class PurgeController {
+
+    private final PurgeService purgeService;
+    private final AuthService authService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get purge progress", description = "Status, current table and rows deleted so far for a delete request")
+    public ResponseEntity<?> getPurge(@PathVariable String id) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            PurgeTask task = purgeService.getTask(id)
+                    .orElseThrow(() -> new RuntimeException("Purge not found"));
+            if (!currentUser.getId().equals(task.getRequestedBy()) && !currentUser.isAdmin()) {
+                throw new RuntimeException("You don't have permission to view this purge");
+            }
+            return ResponseEntity.ok(task);
+        } catch (Exception e) {
+            log.error("Failed to get purge with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Purge not found");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobportal.controller;
 
+import com.jobportal.dto.SavedJobResponse;
 import com.jobportal.entity.User;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.SavedJobService;
@@ -17,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/saved-jobs")
@@ -68,7 +68,7 @@ public class SavedJobController {
 
     @GetMapping
     @Operation(summary = "Get saved jobs", description = "Get paginated list of user's saved jobs")
-    public ResponseEntity<Page<Map<String, Object>>> getSavedJobs(
+    public ResponseEntity<Page<SavedJobResponse>> getSavedJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "savedAt") String sortBy,
@@ -79,21 +79,14 @@ public class SavedJobController {
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<com.jobportal.entity.SavedJob> savedJobs = savedJobService.getSavedJobsByUser(currentUser, pageable);
-        Page<Map<String, Object>> savedJobResponses = savedJobs.map(this::createSavedJobResponse);
-        
-        return ResponseEntity.ok(savedJobResponses);
+        return ResponseEntity.ok(savedJobService.getSavedJobsByUser(currentUser, pageable));
     }
 
     @GetMapping("/all")
     @Operation(summary = "Get all saved jobs", description = "Get list of all user's saved jobs")
-    public ResponseEntity<List<Map<String, Object>>> getAllSavedJobs() {
+    public ResponseEntity<List<SavedJobResponse>> getAllSavedJobs() {
         User currentUser = authService.getCurrentUser();
-        List<com.jobportal.entity.SavedJob> savedJobs = savedJobService.getSavedJobsByUser(currentUser);
-        List<Map<String, Object>> savedJobResponses = savedJobs.stream()
-                .map(this::createSavedJobResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(savedJobResponses);
+        return ResponseEntity.ok(savedJobService.getSavedJobsByUser(currentUser));
     }
 
     @GetMapping("/{jobId}/is-saved")
@@ -115,53 +108,4 @@ public class SavedJobController {
         response.put("savedJobsCount", count);
         return ResponseEntity.ok(response);
     }
-
-    private Map<String, Object> createSavedJobResponse(com.jobportal.entity.SavedJob savedJob) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", savedJob.getId());
-        response.put("savedAt", savedJob.getSavedAt());
-        
-        // Job details
-        if (savedJob.getJob() != null) {
-            Map<String, Object> jobDetails = new HashMap<>();
-            jobDetails.put("id", savedJob.getJob().getId());
-            jobDetails.put("title", savedJob.getJob().getTitle());
-            jobDetails.put("description", savedJob.getJob().getDescription());
-            jobDetails.put("location", savedJob.getJob().getLocation());
-            jobDetails.put("jobType", savedJob.getJob().getJobType());
-            jobDetails.put("experienceLevel", savedJob.getJob().getExperienceLevel());
-            jobDetails.put("minSalary", savedJob.getJob().getMinSalary());
-            jobDetails.put("maxSalary", savedJob.getJob().getMaxSalary());
-            jobDetails.put("currency", savedJob.getJob().getCurrency());
-            jobDetails.put("isRemote", savedJob.getJob().getIsRemote());
-            jobDetails.put("applicationDeadline", savedJob.getJob().getApplicationDeadline());
-            jobDetails.put("viewsCount", savedJob.getJob().getViewsCount());
-            jobDetails.put("applicationsCount", savedJob.getJob().getApplicationsCount());
-            jobDetails.put("createdAt", savedJob.getJob().getCreatedAt());
-            
-            // Company details
-            if (savedJob.getJob().getCompany() != null) {
-                Map<String, Object> companyDetails = new HashMap<>();
-                companyDetails.put("id", savedJob.getJob().getCompany().getId());
-                companyDetails.put("name", savedJob.getJob().getCompany().getName());
-                companyDetails.put("logoUrl", savedJob.getJob().getCompany().getLogoUrl());
-                companyDetails.put("industry", savedJob.getJob().getCompany().getIndustry());
-                jobDetails.put("company", companyDetails);
-            }
-            
-            // Category details
-            if (savedJob.getJob().getCategory() != null) {
-                Map<String, Object> categoryDetails = new HashMap<>();
-                categoryDetails.put("id", savedJob.getJob().getCategory().getId());
-                categoryDetails.put("name", savedJob.getJob().getCategory().getName());
-                categoryDetails.put("icon", savedJob.getJob().getCategory().getIcon());
-                categoryDetails.put("color", savedJob.getJob().getCategory().getColor());
-                jobDetails.put("category", categoryDetails);
-            }
-            
-            response.put("job", jobDetails);
-        }
-        
-        return response;
-    }
 }
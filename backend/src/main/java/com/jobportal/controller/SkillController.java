@@ -43,40 +43,44 @@ public class SkillController {
     @GetMapping
     @Operation(summary = "Get all skills", description = "Get list of all active skills")
     public ResponseEntity<List<Map<String, Object>>> getAllSkills() {
+        String eTag = skillService.getETag();
         List<Skill> skills = skillService.getAllSkills();
         List<Map<String, Object>> skillResponses = skills.stream()
                 .map(this::createSkillResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(skillResponses);
+        return revalidated(eTag, skillService.getLastModified()).body(skillResponses);
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search skills", description = "Search skills by keyword")
     public ResponseEntity<List<Map<String, Object>>> searchSkills(@RequestParam String keyword) {
+        String eTag = skillService.getETag();
         List<Skill> skills = skillService.searchSkills(keyword);
         List<Map<String, Object>> skillResponses = skills.stream()
                 .map(this::createSkillResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(skillResponses);
+        return revalidated(eTag, skillService.getLastModified()).body(skillResponses);
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "Get skills by category", description = "Get skills filtered by category")
     public ResponseEntity<List<Map<String, Object>>> getSkillsByCategory(@PathVariable Skill.SkillCategory category) {
+        String eTag = skillService.getETag();
         List<Skill> skills = skillService.getSkillsByCategory(category);
         List<Map<String, Object>> skillResponses = skills.stream()
                 .map(this::createSkillResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(skillResponses);
+        return revalidated(eTag, skillService.getLastModified()).body(skillResponses);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get skill by ID", description = "Get skill details by ID")
     public ResponseEntity<?> getSkillById(@PathVariable Long id) {
         try {
+            String eTag = skillService.getETag();
             Skill skill = skillService.findById(id)
                     .orElseThrow(() -> new RuntimeException("Skill not found"));
-            return ResponseEntity.ok(createSkillResponse(skill));
+            return revalidated(eTag, skillService.getLastModified()).body(createSkillResponse(skill));
         } catch (Exception e) {
             log.error("Failed to get skill with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -148,6 +152,12 @@ public class SkillController {
         }
     }
 
+    // Reference data changes rarely: caches keep the response for the http-cache max-age, then revalidate it with If-None-Match
+    // or If-Modified-Since (304 when unchanged)
+    private static ResponseEntity.BodyBuilder revalidated(String eTag, long lastModified) {
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified);
+    }
+
     private Map<String, Object> createSkillResponse(Skill skill) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", skill.getId());
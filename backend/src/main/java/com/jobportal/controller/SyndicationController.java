@@ -0,0 +1,126 @@
+package com.jobportal.controller;
+
+import com.jobportal.service.SyndicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Sitemap and job feeds for crawlers, served from the files SyndicationService keeps on disk. They are
+ * stored gzip compressed and sent as they are to clients that accept gzip; on Tomcat the body is then
+ * handed to sendfile and goes from the page cache to the socket without passing through the JVM.
+ * Crawlers find the sitemap index through the Sitemap line of the web app's robots.txt.
+ */
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Syndication", description = "Sitemap and job feeds")
+public class SyndicationController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType JSON_FEED = MediaType.parseMediaType("application/feed+json;charset=UTF-8");
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final SyndicationService syndicationService;
+
+    @GetMapping("/sitemap.xml")
+    @Operation(summary = "Sitemap index", description = "Lists one sitemap per segment of job ids")
+    public ResponseEntity<Resource> sitemapIndex(ServletWebRequest request) throws IOException {
+        return serve(SyndicationService.SITEMAP_INDEX, MediaType.APPLICATION_XML, request);
+    }
+
+    @GetMapping("/sitemap-{segment}.xml")
+    @Operation(summary = "Sitemap segment")
+    public ResponseEntity<Resource> sitemap(@PathVariable long segment, ServletWebRequest request) throws IOException {
+        return serve("sitemap-" + segment + ".xml.gz", MediaType.APPLICATION_XML, request);
+    }
+
+    @GetMapping("/feed.xml")
+    @Operation(summary = "RSS feed of active jobs", description = "First page; each page links to the next")
+    public ResponseEntity<Resource> rss(ServletWebRequest request) throws IOException {
+        return serve("feed-0.xml.gz", RSS, request);
+    }
+
+    @GetMapping("/feed-{segment}.xml")
+    @Operation(summary = "RSS feed page")
+    public ResponseEntity<Resource> rss(@PathVariable long segment, ServletWebRequest request) throws IOException {
+        return serve("feed-" + segment + ".xml.gz", RSS, request);
+    }
+
+    @GetMapping("/feed.json")
+    @Operation(summary = "JSON Feed of active jobs", description = "First page; each page links to the next")
+    public ResponseEntity<Resource> jsonFeed(ServletWebRequest request) throws IOException {
+        return serve("feed-0.json.gz", JSON_FEED, request);
+    }
+
+    @GetMapping("/feed-{segment}.json")
+    @Operation(summary = "JSON Feed page")
+    public ResponseEntity<Resource> jsonFeed(@PathVariable long segment, ServletWebRequest request) throws IOException {
+        return serve("feed-" + segment + ".json.gz", JSON_FEED, request);
+    }
+
+    // ETag and Last-Modified let crawlers revalidate with a 304 instead of fetching the file again
+    private ResponseEntity<Resource> serve(String name, MediaType mediaType, ServletWebRequest request) throws IOException {
+        Optional<Path> found = syndicationService.find(name);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Path file = found.get();
+        String eTag = "W/\"" + file.getFileName() + "\"";
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        // Answered here rather than by Spring, which would only find out after the sendfile attributes are set
+        if (request.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(request)) {
+            return response.body(new InputStreamResource(new GZIPInputStream(Files.newInputStream(file))));
+        }
+        long size = Files.size(file);
+        response.header(HttpHeaders.CONTENT_ENCODING, "gzip").contentLength(size);
+        HttpServletRequest servletRequest = request.getRequest();
+        if ("GET".equals(servletRequest.getMethod()) && Boolean.TRUE.equals(servletRequest.getAttribute(SENDFILE_SUPPORT))) {
+            servletRequest.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            servletRequest.setAttribute(SENDFILE_START, 0L);
+            servletRequest.setAttribute(SENDFILE_END, size);
+            return response.build();
+        }
+        return response.body(new FileSystemResource(file));
+    }
+
+    private static boolean acceptsGzip(ServletWebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase().replace(" ", ""))
+                .anyMatch(coding -> (coding.equals("gzip") || coding.startsWith("gzip;") || coding.equals("*"))
+                        && !coding.matches(".*;q=0(\\.0*)?$"));
+    }
+}
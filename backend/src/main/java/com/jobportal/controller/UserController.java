@@ -1,5 +1,8 @@
 package com.jobportal.controller;
 
+import com.jobportal.dto.BatchRequest;
+import com.jobportal.dto.PurgeTask;
+import com.jobportal.dto.UserResponse;
 import com.jobportal.entity.User;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.UserService;
@@ -10,11 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -32,7 +33,9 @@ public class UserController {
     public ResponseEntity<?> getUserProfile() {
         try {
             User user = authService.getCurrentUser();
-            return ResponseEntity.ok(createUserResponse(user));
+            UserResponse profile = userService.getUser(user.getId())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            return ResponseEntity.ok(profile);
         } catch (Exception e) {
             log.error("Failed to get user profile", e);
             Map<String, String> error = new HashMap<>();
@@ -56,9 +59,9 @@ public class UserController {
             String linkedinUrl = profileData.containsKey("linkedinUrl") ? (String) profileData.get("linkedinUrl") : currentUser.getLinkedinUrl();
             String githubUrl = profileData.containsKey("githubUrl") ? (String) profileData.get("githubUrl") : currentUser.getGithubUrl();
             
-            User updatedUser = userService.updateProfile(currentUser, firstName, lastName, phone, 
+            UserResponse updatedUser = userService.updateProfile(currentUser, firstName, lastName, phone, 
                     bio, location, website, linkedinUrl, githubUrl);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to update user profile", e);
             Map<String, String> error = new HashMap<>();
@@ -91,8 +94,8 @@ public class UserController {
     public ResponseEntity<?> updateProfilePicture(@RequestParam String profilePictureUrl) {
         try {
             User currentUser = authService.getCurrentUser();
-            User updatedUser = userService.updateProfilePicture(currentUser, profilePictureUrl);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            UserResponse updatedUser = userService.updateProfilePicture(currentUser, profilePictureUrl);
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to update profile picture", e);
             Map<String, String> error = new HashMap<>();
@@ -107,8 +110,8 @@ public class UserController {
     public ResponseEntity<?> updateResume(@RequestParam String resumeUrl) {
         try {
             User currentUser = authService.getCurrentUser();
-            User updatedUser = userService.updateResume(currentUser, resumeUrl);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            UserResponse updatedUser = userService.updateResume(currentUser, resumeUrl);
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to update resume", e);
             Map<String, String> error = new HashMap<>();
@@ -123,8 +126,8 @@ public class UserController {
     public ResponseEntity<?> addSkill(@RequestParam Long skillId) {
         try {
             User currentUser = authService.getCurrentUser();
-            User updatedUser = userService.addSkill(currentUser, skillId);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            UserResponse updatedUser = userService.addSkill(currentUser, skillId);
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to add skill", e);
             Map<String, String> error = new HashMap<>();
@@ -139,8 +142,8 @@ public class UserController {
     public ResponseEntity<?> removeSkill(@PathVariable Long skillId) {
         try {
             User currentUser = authService.getCurrentUser();
-            User updatedUser = userService.removeSkill(currentUser, skillId);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            UserResponse updatedUser = userService.removeSkill(currentUser, skillId);
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to remove skill", e);
             Map<String, String> error = new HashMap<>();
@@ -162,8 +165,8 @@ public class UserController {
                 error.put("error", "skillIds is required");
                 return ResponseEntity.badRequest().body(error);
             }
-            User updatedUser = userService.updateSkills(currentUser, skillIds);
-            return ResponseEntity.ok(createUserResponse(updatedUser));
+            UserResponse updatedUser = userService.updateSkills(currentUser, skillIds);
+            return ResponseEntity.ok(updatedUser);
         } catch (Exception e) {
             log.error("Failed to update skills", e);
             Map<String, String> error = new HashMap<>();
@@ -173,13 +176,27 @@ public class UserController {
         }
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get users by IDs", description = "Get up to 100 users in one request")
+    public ResponseEntity<?> getUsersByIds(@RequestBody BatchRequest batchRequest) {
+        try {
+            return ResponseEntity.ok(userService.getUsers(batchRequest.distinctIds()));
+        } catch (Exception e) {
+            log.error("Failed to get users {}", batchRequest.getIds(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get users");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Get user details by ID")
     public ResponseEntity<?> getUserById(@PathVariable Long id) {
         try {
-            User user = userService.findById(id)
+            UserResponse user = userService.getUser(id)
                     .orElseThrow(() -> new RuntimeException("User not found"));
-            return ResponseEntity.ok(createUserResponse(user));
+            return ResponseEntity.ok(user);
         } catch (Exception e) {
             log.error("Failed to get user with id: {}", id, e);
             Map<String, String> error = new HashMap<>();
@@ -189,6 +206,25 @@ public class UserController {
         }
     }
 
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete user", description = "Delete a user with their company, jobs and applications (self or Admin)")
+    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            PurgeTask purge = userService.deleteUser(id, currentUser);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "User deleted successfully");
+            response.put("purgeId", purge.getId());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to delete user with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to delete user");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping
     @Operation(summary = "Get all users", description = "Get list of all users (Admin only)")
     public ResponseEntity<?> getAllUsers() {
@@ -201,11 +237,7 @@ public class UserController {
                 return ResponseEntity.badRequest().body(error);
             }
             
-            List<User> users = userService.getAllUsers();
-            List<Map<String, Object>> userResponses = users.stream()
-                    .map(this::createUserResponse)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(userResponses);
+            return ResponseEntity.ok(userService.getAllUsers());
         } catch (Exception e) {
             log.error("Failed to get all users", e);
             Map<String, String> error = new HashMap<>();
@@ -227,11 +259,7 @@ public class UserController {
                 return ResponseEntity.badRequest().body(error);
             }
             
-            List<User> users = userService.getUsersByRole(role);
-            List<Map<String, Object>> userResponses = users.stream()
-                    .map(this::createUserResponse)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(userResponses);
+            return ResponseEntity.ok(userService.getUsersByRole(role));
         } catch (Exception e) {
             log.error("Failed to get users by role: {}", role, e);
             Map<String, String> error = new HashMap<>();
@@ -265,44 +293,4 @@ public class UserController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-
-    private Map<String, Object> createUserResponse(User user) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", user.getId());
-        response.put("firstName", user.getFirstName());
-        response.put("lastName", user.getLastName());
-        response.put("email", user.getEmail());
-        response.put("phone", user.getPhone());
-        response.put("role", user.getRole());
-        response.put("isActive", user.getIsActive());
-        response.put("isVerified", user.getIsVerified());
-        response.put("profilePicture", user.getProfilePicture());
-        response.put("resumeUrl", user.getResumeUrl());
-        response.put("bio", user.getBio());
-        response.put("location", user.getLocation());
-        response.put("website", user.getWebsite());
-        response.put("linkedinUrl", user.getLinkedinUrl());
-        response.put("githubUrl", user.getGithubUrl());
-        response.put("createdAt", user.getCreatedAt());
-        response.put("updatedAt", user.getUpdatedAt());
-        
-        // Include skills
-        if (user.getSkills() != null && !user.getSkills().isEmpty()) {
-            List<Map<String, Object>> skillsList = user.getSkills().stream()
-                    .map(skill -> {
-                        Map<String, Object> skillMap = new HashMap<>();
-                        skillMap.put("id", skill.getId());
-                        skillMap.put("name", skill.getName());
-                        skillMap.put("description", skill.getDescription());
-                        skillMap.put("category", skill.getCategory());
-                        return skillMap;
-                    })
-                    .collect(Collectors.toList());
-            response.put("skills", skillsList);
-        } else {
-            response.put("skills", new ArrayList<>());
-        }
-        
-        return response;
-    }
 }
@@ -1,13 +1,21 @@
 package com.jobportal.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.jobportal.entity.ArchivedJobApplication;
 import com.jobportal.entity.JobApplication;
+import com.jobportal.repository.JobApplicationRepository;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
+@JsonFilter(FieldSelection.FILTER)
 public class ApplicationResponse {
     
+    // Free text left out of the summary view
+    public static final Set<String> DETAIL_FIELDS = Set.of("coverLetter", "notes", "rejectionReason");
+    
     private Long id;
     private String coverLetter;
     private String resumeUrl;
@@ -82,4 +90,75 @@ public class ApplicationResponse {
         
         return response;
     }
+    
+    // Summary views, read through the projection; the detail fields stay null
+    public static ApplicationResponse fromSummaryRow(JobApplicationRepository.SummaryRow row) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(row.getId());
+        response.setResumeUrl(row.getResumeUrl());
+        response.setStatus(row.getStatus());
+        response.setAppliedAt(row.getAppliedAt());
+        response.setReviewedAt(row.getReviewedAt());
+        response.setInterviewScheduledAt(row.getInterviewScheduledAt());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        
+        if (row.getUserId() != null) {
+            UserSummary userSummary = new UserSummary();
+            userSummary.setId(row.getUserId());
+            userSummary.setFirstName(row.getFirstName());
+            userSummary.setLastName(row.getLastName());
+            userSummary.setEmail(row.getEmail());
+            userSummary.setProfilePicture(row.getProfilePicture());
+            response.setUser(userSummary);
+        }
+        
+        if (row.getJobId() != null) {
+            JobSummary jobSummary = new JobSummary();
+            jobSummary.setId(row.getJobId());
+            jobSummary.setTitle(row.getJobTitle());
+            jobSummary.setLocation(row.getJobLocation());
+            jobSummary.setCompanyName(row.getCompanyName());
+            jobSummary.setCompanyLogo(row.getCompanyLogo());
+            response.setJob(jobSummary);
+        }
+        
+        return response;
+    }
+    
+    // Applications to jobs moved to the archive tables
+    public static ApplicationResponse fromArchivedApplication(ArchivedJobApplication application) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(application.getId());
+        response.setCoverLetter(application.getCoverLetter());
+        response.setResumeUrl(application.getResumeUrl());
+        response.setStatus(application.getStatus());
+        response.setAppliedAt(application.getAppliedAt());
+        response.setReviewedAt(application.getReviewedAt());
+        response.setInterviewScheduledAt(application.getInterviewScheduledAt());
+        response.setNotes(application.getNotes());
+        response.setRejectionReason(application.getRejectionReason());
+        response.setCreatedAt(application.getCreatedAt());
+        response.setUpdatedAt(application.getUpdatedAt());
+        
+        UserSummary userSummary = new UserSummary();
+        userSummary.setId(application.getUser().getId());
+        userSummary.setFirstName(application.getUser().getFirstName());
+        userSummary.setLastName(application.getUser().getLastName());
+        userSummary.setEmail(application.getUser().getEmail());
+        userSummary.setProfilePicture(application.getUser().getProfilePicture());
+        response.setUser(userSummary);
+        
+        JobSummary jobSummary = new JobSummary();
+        jobSummary.setId(application.getJob().getId());
+        jobSummary.setTitle(application.getJob().getTitle());
+        jobSummary.setLocation(application.getJob().getLocation());
+        if (application.getJob().getCompany() != null) {
+            jobSummary.setCompanyName(application.getJob().getCompany().getName());
+            jobSummary.setCompanyLogo(application.getJob().getCompany().getLogoUrl());
+        }
+        response.setJob(jobSummary);
+        
+        return response;
+    }
 }
@@ -0,0 +1,29 @@
+package com.jobportal.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// Body of the POST .../batch multi-get endpoints
+@Data
+public class BatchRequest {
+
+    public static final int MAX_IDS = 100;
+
+    private List<Long> ids = new ArrayList<>();
+
+    // Requested ids without duplicates, in request order
+    public List<Long> distinctIds() {
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("At least one id is required");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        if (distinct.size() > MAX_IDS) {
+            throw new RuntimeException("At most " + MAX_IDS + " ids per batch");
+        }
+        return distinct;
+    }
+}
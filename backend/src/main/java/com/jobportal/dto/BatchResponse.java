@@ -0,0 +1,30 @@
+package com.jobportal.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Items found, in request order, and an error per id that could not be returned
+@Data
+public class BatchResponse<T> {
+
+    private final List<T> items;
+    private final Map<Long, String> errors;
+
+    public static <T> BatchResponse<T> of(List<Long> ids, Map<Long, T> found, String notFoundMessage) {
+        List<T> items = new ArrayList<>();
+        Map<Long, String> errors = new LinkedHashMap<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                errors.put(id, notFoundMessage);
+            }
+        }
+        return new BatchResponse<>(items, errors);
+    }
+}
@@ -0,0 +1,131 @@
+package com.jobportal.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The {@code view=summary|detail} and {@code fields=a,b,c} request parameters of job, company and
+ * application endpoints. Services ask {@link #needs} before loading detail-only columns; controllers
+ * trim what is written. An explicit field list takes precedence over the view, and {@code id} is
+ * always kept. Fields name top-level properties, nested objects are kept or dropped as a whole.
+ */
+@Getter
+@EqualsAndHashCode
+public final class FieldSelection {
+
+    // Jackson filter id of the response types that can be trimmed
+    public static final String FILTER = "fields";
+
+    public enum View {
+        SUMMARY, DETAIL
+    }
+
+    private final View view;
+    private final Set<String> fields;
+
+    private FieldSelection(View view, Set<String> fields) {
+        this.view = view;
+        this.fields = fields;
+    }
+
+    public static FieldSelection of(String view, String fields, View defaultView) {
+        View parsed = defaultView;
+        if (view != null && !view.isBlank()) {
+            try {
+                parsed = View.valueOf(view.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown view: " + view);
+            }
+        }
+        Set<String> names = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                if (!field.isBlank()) {
+                    names.add(field.trim());
+                }
+            }
+        }
+        if (!names.isEmpty()) {
+            names.add("id");
+        }
+        return new FieldSelection(parsed, Collections.unmodifiableSet(names));
+    }
+
+    public static FieldSelection of(View view) {
+        return new FieldSelection(view, Set.of());
+    }
+
+    public boolean isDefault(View defaultView) {
+        return fields.isEmpty() && view == defaultView;
+    }
+
+    // Whether any of the given detail-only properties is part of the response
+    public boolean needs(Set<String> detailFields) {
+        return fields.isEmpty() ? view == View.DETAIL : !Collections.disjoint(fields, detailFields);
+    }
+
+    // Canonical form for ETags: the view, or the field list in sorted order (the order written does not depend on it)
+    public String key() {
+        return fields.isEmpty() ? view.name() : String.join(",", new TreeSet<>(fields));
+    }
+
+    // Whether the response can be built from the given summary properties alone
+    public boolean fitsIn(Set<String> summaryFields) {
+        return fields.isEmpty() ? view == View.SUMMARY : summaryFields.containsAll(fields);
+    }
+
+    // Body for a ResponseEntity; the Jackson converter applies the filter while writing
+    public Object apply(Object body, Set<String> detailFields) {
+        if (fields.isEmpty() && view == View.DETAIL) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters(detailFields));
+        return value;
+    }
+
+    public ObjectWriter writer(ObjectMapper objectMapper, Set<String> detailFields) {
+        return objectMapper.writer(filters(detailFields));
+    }
+
+    // Map-based responses (companies) are trimmed by key
+    public Map<String, Object> select(Map<String, Object> response, Set<String> detailFields) {
+        if (fields.isEmpty() && view == View.DETAIL) {
+            return response;
+        }
+        Map<String, Object> selected = new LinkedHashMap<>();
+        response.forEach((key, value) -> {
+            if (fields.isEmpty() ? !detailFields.contains(key) : fields.contains(key)) {
+                selected.put(key, value);
+            }
+        });
+        return selected;
+    }
+
+    private FilterProvider filters(Set<String> detailFields) {
+        SimpleBeanPropertyFilter filter;
+        if (!fields.isEmpty()) {
+            filter = SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        } else if (view == View.SUMMARY) {
+            filter = SimpleBeanPropertyFilter.serializeAllExcept(detailFields);
+        } else {
+            filter = SimpleBeanPropertyFilter.serializeAll();
+        }
+        return new SimpleFilterProvider().addFilter(FILTER, filter);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobportal.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Result of a bulk job import; rows are numbered from 1 in the order of the feed
+@Data
+public class JobImportReport {
+
+    private long rows;
+    private long created;
+    private long updated;
+    private long skipped;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private long durationMs;
+
+    public record RowError(long row, String externalRef, String message) {
+    }
+
+    public void addError(long row, String externalRef, String message, int maxErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row, externalRef, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+// One job of a bulk import feed. Company, category and skills may be given by id (the JobRequest
+// fields) or by name; names are matched ignoring case
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobImportRow extends JobRequest {
+
+    @NotBlank(message = "External reference is required")
+    @Size(max = 100, message = "External reference is at most 100 characters")
+    private String externalRef;
+
+    private String company;
+
+    private String category;
+
+    private List<String> skills;
+}
@@ -1,17 +1,35 @@
 package com.jobportal.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.jobportal.entity.ArchivedJob;
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Company;
 import com.jobportal.entity.Job;
+import com.jobportal.entity.JobDetails;
+import com.jobportal.entity.JobSearchView;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
 import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Data
+@JsonFilter(FieldSelection.FILTER)
 public class JobResponse {
     
+    // Read from job_details; left out of the summary view
+    public static final Set<String> DETAIL_FIELDS =
+        Set.of("description", "requirements", "benefits", "applicationInstructions");
+    
     private Long id;
     private String title;
+    private String summary;
     private String description;
     private String location;
     private Job.JobType jobType;
@@ -22,6 +40,8 @@ public class JobResponse {
     private Boolean isRemote;
     private Boolean isActive;
     private LocalDateTime applicationDeadline;
+    
+    // Only populated by the detail endpoints, list responses carry the summary
     private String requirements;
     private String benefits;
     private String applicationInstructions;
@@ -85,10 +105,14 @@ public class JobResponse {
     }
     
     public static JobResponse fromJob(Job job) {
+        return fromJob(job, null);
+    }
+    
+    public static JobResponse fromJob(Job job, JobDetails details) {
         JobResponse response = new JobResponse();
         response.setId(job.getId());
         response.setTitle(job.getTitle());
-        response.setDescription(job.getDescription());
+        response.setSummary(job.getSummary());
         response.setLocation(job.getLocation());
         response.setJobType(job.getJobType());
         response.setExperienceLevel(job.getExperienceLevel());
@@ -98,58 +122,158 @@ public class JobResponse {
         response.setIsRemote(job.getIsRemote());
         response.setIsActive(job.getIsActive());
         response.setApplicationDeadline(job.getApplicationDeadline());
-        response.setRequirements(job.getRequirements());
-        response.setBenefits(job.getBenefits());
-        response.setApplicationInstructions(job.getApplicationInstructions());
         response.setViewsCount(job.getViewsCount());
         response.setApplicationsCount(job.getApplicationsCount());
         response.setCreatedAt(job.getCreatedAt());
         response.setUpdatedAt(job.getUpdatedAt());
         
-        // Set posted by user summary
-        if (job.getPostedBy() != null) {
-            UserSummary userSummary = new UserSummary();
-            userSummary.setId(job.getPostedBy().getId());
-            userSummary.setFirstName(job.getPostedBy().getFirstName());
-            userSummary.setLastName(job.getPostedBy().getLastName());
-            userSummary.setEmail(job.getPostedBy().getEmail());
-            response.setPostedBy(userSummary);
+        response.applyDetails(details);
+        
+        response.setPostedBy(toUserSummary(job.getPostedBy()));
+        response.setCompany(toCompanySummary(job.getCompany()));
+        response.setCategory(toCategorySummary(job.getCategory()));
+        if (job.getRequiredSkills() != null) {
+            response.setRequiredSkills(toSkillSummaries(job.getRequiredSkills()));
         }
         
-        // Set company summary
-        if (job.getCompany() != null) {
+        return response;
+    }
+    
+    // History entries for jobs moved to the archive tables; always closed
+    public static JobResponse fromArchivedJob(ArchivedJob job) {
+        JobResponse response = new JobResponse();
+        response.setId(job.getId());
+        response.setTitle(job.getTitle());
+        response.setSummary(job.getSummary());
+        response.setLocation(job.getLocation());
+        response.setJobType(job.getJobType());
+        response.setExperienceLevel(job.getExperienceLevel());
+        response.setMinSalary(job.getMinSalary());
+        response.setMaxSalary(job.getMaxSalary());
+        response.setCurrency(job.getCurrency());
+        response.setIsRemote(job.getIsRemote());
+        response.setIsActive(false);
+        response.setApplicationDeadline(job.getApplicationDeadline());
+        response.setViewsCount(job.getViewsCount());
+        response.setApplicationsCount(job.getApplicationsCount());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        response.setPostedBy(toUserSummary(job.getPostedBy()));
+        response.setCompany(toCompanySummary(job.getCompany()));
+        response.setCategory(toCategorySummary(job.getCategory()));
+        response.setRequiredSkills(toSkillSummaries(job.getRequiredSkills()));
+        return response;
+    }
+    
+    // List responses read from the job_search_view row; skills is the shared id -> skill lookup for the page
+    public static JobResponse fromSearchView(JobSearchView view, Map<Long, Skill> skills) {
+        JobResponse response = new JobResponse();
+        response.setId(view.getId());
+        response.setTitle(view.getTitle());
+        response.setSummary(view.getSummary());
+        response.setLocation(view.getLocation());
+        response.setJobType(view.getJobType());
+        response.setExperienceLevel(view.getExperienceLevel());
+        response.setMinSalary(view.getMinSalary());
+        response.setMaxSalary(view.getMaxSalary());
+        response.setCurrency(view.getCurrency());
+        response.setIsRemote(view.getIsRemote());
+        response.setIsActive(true);
+        response.setApplicationDeadline(view.getApplicationDeadline());
+        response.setViewsCount(view.getViewsCount());
+        response.setApplicationsCount(view.getApplicationsCount());
+        response.setCreatedAt(view.getCreatedAt());
+        response.setUpdatedAt(view.getUpdatedAt());
+        
+        UserSummary userSummary = new UserSummary();
+        userSummary.setId(view.getPostedById());
+        userSummary.setFirstName(view.getPosterFirstName());
+        userSummary.setLastName(view.getPosterLastName());
+        userSummary.setEmail(view.getPosterEmail());
+        response.setPostedBy(userSummary);
+        
+        if (view.getCompanyId() != null) {
             CompanySummary companySummary = new CompanySummary();
-            companySummary.setId(job.getCompany().getId());
-            companySummary.setName(job.getCompany().getName());
-            companySummary.setLogoUrl(job.getCompany().getLogoUrl());
-            companySummary.setIndustry(job.getCompany().getIndustry());
-            companySummary.setLocation(job.getCompany().getFullAddress());
+            companySummary.setId(view.getCompanyId());
+            companySummary.setName(view.getCompanyName());
+            companySummary.setLogoUrl(view.getCompanyLogoUrl());
+            companySummary.setIndustry(view.getCompanyIndustry());
+            companySummary.setLocation(view.getCompanyLocation());
             response.setCompany(companySummary);
         }
         
-        // Set category summary
-        if (job.getCategory() != null) {
+        if (view.getCategoryId() != null) {
             CategorySummary categorySummary = new CategorySummary();
-            categorySummary.setId(job.getCategory().getId());
-            categorySummary.setName(job.getCategory().getName());
-            categorySummary.setIcon(job.getCategory().getIcon());
-            categorySummary.setColor(job.getCategory().getColor());
+            categorySummary.setId(view.getCategoryId());
+            categorySummary.setName(view.getCategoryName());
+            categorySummary.setIcon(view.getCategoryIcon());
+            categorySummary.setColor(view.getCategoryColor());
             response.setCategory(categorySummary);
         }
         
-        // Set required skills
-        if (job.getRequiredSkills() != null) {
-            response.setRequiredSkills(job.getRequiredSkills().stream()
-                .map(skill -> {
-                    SkillSummary skillSummary = new SkillSummary();
-                    skillSummary.setId(skill.getId());
-                    skillSummary.setName(skill.getName());
-                    skillSummary.setCategory(skill.getCategory().name());
-                    return skillSummary;
-                })
-                .collect(java.util.stream.Collectors.toSet()));
-        }
+        response.setRequiredSkills(toSkillSummaries(view.getSkillIdList().stream()
+            .map(skills::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList())));
         
         return response;
     }
+    
+    public void applyDetails(JobDetails details) {
+        if (details != null) {
+            setDescription(details.getDescription());
+            setRequirements(details.getRequirements());
+            setBenefits(details.getBenefits());
+            setApplicationInstructions(details.getApplicationInstructions());
+        }
+    }
+    
+    private static UserSummary toUserSummary(User user) {
+        if (user == null) {
+            return null;
+        }
+        UserSummary userSummary = new UserSummary();
+        userSummary.setId(user.getId());
+        userSummary.setFirstName(user.getFirstName());
+        userSummary.setLastName(user.getLastName());
+        userSummary.setEmail(user.getEmail());
+        return userSummary;
+    }
+    
+    private static CompanySummary toCompanySummary(Company company) {
+        if (company == null) {
+            return null;
+        }
+        CompanySummary companySummary = new CompanySummary();
+        companySummary.setId(company.getId());
+        companySummary.setName(company.getName());
+        companySummary.setLogoUrl(company.getLogoUrl());
+        companySummary.setIndustry(company.getIndustry());
+        companySummary.setLocation(company.getFullAddress());
+        return companySummary;
+    }
+    
+    private static CategorySummary toCategorySummary(Category category) {
+        if (category == null) {
+            return null;
+        }
+        CategorySummary categorySummary = new CategorySummary();
+        categorySummary.setId(category.getId());
+        categorySummary.setName(category.getName());
+        categorySummary.setIcon(category.getIcon());
+        categorySummary.setColor(category.getColor());
+        return categorySummary;
+    }
+    
+    private static Set<SkillSummary> toSkillSummaries(Collection<Skill> skills) {
+        return skills.stream()
+            .map(skill -> {
+                SkillSummary skillSummary = new SkillSummary();
+                skillSummary.setId(skill.getId());
+                skillSummary.setName(skill.getName());
+                skillSummary.setCategory(skill.getCategory().name());
+                return skillSummary;
+            })
+            .collect(Collectors.toSet());
+    }
 }
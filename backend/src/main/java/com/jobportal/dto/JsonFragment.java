@@ -0,0 +1,195 @@
+package com.jobportal.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * An already serialized JSON value held as UTF-8 bytes. Written into a response as is: the
+ * byte-based generator Spring MVC uses copies the bytes straight into its output buffer, so a
+ * page of cached fragments is assembled without building or walking any response objects.
+ *
+ * <p>A JSON object fragment can be written with a few leading properties that change more often
+ * than the rest ({@link #withLeadingProperties}); the cached bytes are shared, not copied.
+ */
+@JsonSerialize(using = JsonFragment.Serializer.class)
+public final class JsonFragment implements SerializableString {
+
+    private static final byte[] NONE = new byte[0];
+
+    // Written as head, then utf8 from offset
+    private final byte[] head;
+    private final byte[] utf8;
+    private final int offset;
+    private final long checksum;
+
+    public JsonFragment(byte[] utf8) {
+        this(NONE, utf8, 0, crc(utf8));
+    }
+
+    private JsonFragment(byte[] head, byte[] utf8, int offset, long checksum) {
+        this.head = head;
+        this.utf8 = utf8;
+        this.offset = offset;
+        this.checksum = checksum;
+    }
+
+    /**
+     * This object fragment with {@code properties} (serialized members followed by a comma, e.g.
+     * {@code "count":3,}) inserted after its opening brace.
+     */
+    public JsonFragment withLeadingProperties(byte[] properties) {
+        if (utf8.length < 2 || utf8[0] != '{' || utf8[1] == '}') {
+            throw new IllegalStateException("Not a non-empty JSON object");
+        }
+        byte[] merged = new byte[properties.length + 1];
+        merged[0] = '{';
+        System.arraycopy(properties, 0, merged, 1, properties.length);
+        return new JsonFragment(merged, utf8, 1, checksum * 31 + crc(properties));
+    }
+
+    // CRC-based identity of the bytes written, for ETags
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public int length() {
+        return head.length + utf8.length - offset;
+    }
+
+    @Override
+    public String getValue() {
+        return new String(bytes(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return bytes();
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        int length = length();
+        if (offset + length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(head, 0, buffer, offset, head.length);
+        System.arraycopy(utf8, this.offset, buffer, offset + head.length, utf8.length - this.offset);
+        return length;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(head);
+        out.write(utf8, offset, utf8.length - offset);
+        return length();
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        if (buffer.remaining() < length()) {
+            return -1;
+        }
+        buffer.put(head);
+        buffer.put(utf8, offset, utf8.length - offset);
+        return length();
+    }
+
+    // Char-based generators (writing to a Writer) only; they decode the bytes
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String value = getValue();
+        if (offset + value.length() > buffer.length) {
+            return -1;
+        }
+        value.getChars(0, value.length(), buffer, offset);
+        return value.length();
+    }
+
+    // The quoted forms (the fragment written as a JSON string) are not used for responses
+    @Override
+    public char[] asQuotedChars() {
+        return JsonStringEncoder.getInstance().quoteAsString(getValue());
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        byte[] quoted = asQuotedUTF8();
+        if (offset + quoted.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+        return quoted.length;
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        char[] quoted = asQuotedChars();
+        if (offset + quoted.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+        return quoted.length;
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        byte[] quoted = asQuotedUTF8();
+        out.write(quoted);
+        return quoted.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) {
+        byte[] quoted = asQuotedUTF8();
+        if (buffer.remaining() < quoted.length) {
+            return -1;
+        }
+        buffer.put(quoted);
+        return quoted.length;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private byte[] bytes() {
+        byte[] bytes = new byte[length()];
+        appendUnquotedUTF8(bytes, 0);
+        return bytes;
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return crc.getValue() << 32 | (bytes.length & 0xFFFFFFFFL);
+    }
+
+    public static class Serializer extends JsonSerializer<JsonFragment> {
+
+        @Override
+        public void serialize(JsonFragment value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeRawValue(value);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jobportal.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Progress of one background purge; updated by the purge thread, read by GET /api/purges/{id}
+@Data
+public class PurgeTask {
+
+    private final String id;
+    private final Target target;
+    private final Long targetId;
+    @JsonIgnore
+    private final Long requestedBy;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String step;
+    private volatile long rowsDeleted;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public enum Target {
+        USER, COMPANY, JOB
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobportal.dto;
+
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Company;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.SavedJob;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class SavedJobResponse {
+
+    private Long id;
+    private LocalDateTime savedAt;
+    private JobSummary job;
+
+    @Data
+    public static class JobSummary {
+        private Long id;
+        private String title;
+        private String summary;
+        private String location;
+        private Job.JobType jobType;
+        private Job.ExperienceLevel experienceLevel;
+        private BigDecimal minSalary;
+        private BigDecimal maxSalary;
+        private String currency;
+        private Boolean isRemote;
+        private LocalDateTime applicationDeadline;
+        private Integer viewsCount;
+        private Integer applicationsCount;
+        private LocalDateTime createdAt;
+        private CompanySummary company;
+        private CategorySummary category;
+    }
+
+    @Data
+    public static class CompanySummary {
+        private Long id;
+        private String name;
+        private String logoUrl;
+        private String industry;
+    }
+
+    @Data
+    public static class CategorySummary {
+        private Long id;
+        private String name;
+        private String icon;
+        private String color;
+    }
+
+    // Reads the job, company and category, so call it inside the transaction that loaded the saved job
+    public static SavedJobResponse fromSavedJob(SavedJob savedJob) {
+        SavedJobResponse response = new SavedJobResponse();
+        response.setId(savedJob.getId());
+        response.setSavedAt(savedJob.getSavedAt());
+
+        Job job = savedJob.getJob();
+        if (job != null) {
+            JobSummary jobSummary = new JobSummary();
+            jobSummary.setId(job.getId());
+            jobSummary.setTitle(job.getTitle());
+            jobSummary.setSummary(job.getSummary());
+            jobSummary.setLocation(job.getLocation());
+            jobSummary.setJobType(job.getJobType());
+            jobSummary.setExperienceLevel(job.getExperienceLevel());
+            jobSummary.setMinSalary(job.getMinSalary());
+            jobSummary.setMaxSalary(job.getMaxSalary());
+            jobSummary.setCurrency(job.getCurrency());
+            jobSummary.setIsRemote(job.getIsRemote());
+            jobSummary.setApplicationDeadline(job.getApplicationDeadline());
+            jobSummary.setViewsCount(job.getViewsCount());
+            jobSummary.setApplicationsCount(job.getApplicationsCount());
+            jobSummary.setCreatedAt(job.getCreatedAt());
+
+            Company company = job.getCompany();
+            if (company != null) {
+                CompanySummary companySummary = new CompanySummary();
+                companySummary.setId(company.getId());
+                companySummary.setName(company.getName());
+                companySummary.setLogoUrl(company.getLogoUrl());
+                companySummary.setIndustry(company.getIndustry());
+                jobSummary.setCompany(companySummary);
+            }
+
+            Category category = job.getCategory();
+            if (category != null) {
+                CategorySummary categorySummary = new CategorySummary();
+                categorySummary.setId(category.getId());
+                categorySummary.setName(category.getName());
+                categorySummary.setIcon(category.getIcon());
+                categorySummary.setColor(category.getColor());
+                jobSummary.setCategory(categorySummary);
+            }
+
+            response.setJob(jobSummary);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobportal.dto;
+
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+public class UserResponse {
+    
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private User.Role role;
+    private Boolean isActive;
+    private Boolean isVerified;
+    private String profilePicture;
+    private String resumeUrl;
+    private String bio;
+    private String location;
+    private String website;
+    private String linkedinUrl;
+    private String githubUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    private List<SkillSummary> skills;
+    
+    @Data
+    public static class SkillSummary {
+        private Long id;
+        private String name;
+        private String description;
+        private Skill.SkillCategory category;
+    }
+    
+    public static UserResponse fromUser(User user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setEmail(user.getEmail());
+        response.setPhone(user.getPhone());
+        response.setRole(user.getRole());
+        response.setIsActive(user.getIsActive());
+        response.setIsVerified(user.getIsVerified());
+        response.setProfilePicture(user.getProfilePicture());
+        response.setResumeUrl(user.getResumeUrl());
+        response.setBio(user.getBio());
+        response.setLocation(user.getLocation());
+        response.setWebsite(user.getWebsite());
+        response.setLinkedinUrl(user.getLinkedinUrl());
+        response.setGithubUrl(user.getGithubUrl());
+        response.setCreatedAt(user.getCreatedAt());
+        response.setUpdatedAt(user.getUpdatedAt());
+        
+        // Set skills
+        response.setSkills(user.getSkills().stream()
+                .map(skill -> {
+                    SkillSummary skillSummary = new SkillSummary();
+                    skillSummary.setId(skill.getId());
+                    skillSummary.setName(skill.getName());
+                    skillSummary.setDescription(skill.getDescription());
+                    skillSummary.setCategory(skill.getCategory());
+                    return skillSummary;
+                })
+                .collect(Collectors.toList()));
+        
+        return response;
+    }
+}
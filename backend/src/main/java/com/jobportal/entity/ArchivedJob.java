@@ -0,0 +1,115 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A closed job moved out of {@code jobs} by {@code JobArchiver}; same id and columns. Rows are
+ * written only with INSERT ... SELECT and are read-only here. Full descriptions stay in
+ * archived_job_details, which no view reads.
+ */
+@Entity
+@Table(name = "archived_jobs")
+@Immutable
+@NamedEntityGraph(name = "ArchivedJob.summary", attributeNodes = {
+        @NamedAttributeNode("postedBy"),
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("category")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedJob {
+
+    @Id
+    private Long id;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "summary", length = 300)
+    private String summary;
+
+    @Column(name = "location")
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private Job.JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level")
+    private Job.ExperienceLevel experienceLevel;
+
+    @Column(name = "min_salary", precision = 10, scale = 2)
+    private BigDecimal minSalary;
+
+    @Column(name = "max_salary", precision = 10, scale = 2)
+    private BigDecimal maxSalary;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "is_remote")
+    private Boolean isRemote;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "application_deadline")
+    private LocalDateTime applicationDeadline;
+
+    @Column(name = "views_count")
+    private Integer viewsCount;
+
+    @Column(name = "applications_count")
+    private Integer applicationsCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(name = "external_ref", length = 100)
+    private String externalRef;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "posted_by", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User postedBy;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Company company;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Category category;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "archived_job_skills",
+               joinColumns = @JoinColumn(name = "job_id"),
+               inverseJoinColumns = @JoinColumn(name = "skill_id"),
+               foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT),
+               inverseForeignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Set<Skill> requiredSkills = new HashSet<>();
+}
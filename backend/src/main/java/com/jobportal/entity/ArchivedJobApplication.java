@@ -0,0 +1,75 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// An application to an archived job, moved out of job_applications together with the job
+@Entity
+@Table(name = "archived_job_applications")
+@Immutable
+@NamedEntityGraph(name = "ArchivedJobApplication.summary", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode(value = "job", subgraph = "job")
+}, subgraphs = {
+        @NamedSubgraph(name = "job", attributeNodes = @NamedAttributeNode("company"))
+})
+@Data
+@NoArgsConstructor
+public class ArchivedJobApplication {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "cover_letter", columnDefinition = "TEXT")
+    private String coverLetter;
+
+    @Column(name = "resume_url")
+    private String resumeUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private JobApplication.ApplicationStatus status;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "interview_scheduled_at")
+    private LocalDateTime interviewScheduledAt;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "rejection_reason", columnDefinition = "TEXT")
+    private String rejectionReason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User user;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ArchivedJob job;
+}
@@ -0,0 +1,148 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflates long text columns with a preset dictionary. Compressed values are stored as {@value #MARKER} followed by Base64,
+ * so they still fit the existing TEXT columns and rows written before compression was
+ * enabled (plain text without the marker) are read back unchanged. Plain text that itself
+ * starts with {@value #MARKER} or {@value #ESCAPE} is stored behind {@value #ESCAPE}, so
+ * user-written text is never taken for compressed data.
+ *
+ * Writing compressed values is opt-in ({@code text-compression.enabled}); reading always
+ * understands both forms, so the flag can be switched off again at any time. Never use it
+ * on a column that is filtered or searched in SQL.
+ *
+ * The v1 dictionary is a hand-picked placeholder of common job posting and application
+ * phrases, not built from real posting samples. It is part of the stored format: a dictionary
+ * built from real samples goes into a new dictionary file and marker version rather than
+ * replacing the existing one.
+ */
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    public static final String MARKER = "~z1:";
+
+    // Prefix of plain text that would otherwise look like an encoded value
+    public static final String ESCAPE = "~z0:";
+
+    private static final byte[] DICTIONARY = loadDictionary("/compression/job-text-v1.dict");
+
+    @Value("${text-compression.enabled:false}")
+    private boolean enabled;
+
+    // Short values rarely shrink once the Base64 overhead is paid
+    @Value("${text-compression.min-length:256}")
+    private int minLength = 256;
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (!enabled || attribute == null || attribute.length() < minLength) {
+            return plain(attribute);
+        }
+        return compress(attribute);
+    }
+
+    // A marker-prefixed value that does not decode is corrupt: plain text is always escaped
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return decompress(dbData);
+    }
+
+    public static boolean isCompressed(String value) {
+        return value != null && value.startsWith(MARKER);
+    }
+
+    /**
+     * Returns the marker-prefixed compressed form of plain text, or its stored plain form
+     * when compressing would not make it shorter.
+     */
+    public static String compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] input = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            String encoded = MARKER + Base64.getEncoder().encodeToString(output.toByteArray());
+            String plain = plain(text);
+            return encoded.length() < plain.length() ? encoded : plain;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Stored form of a value that is not compressed
+    public static String plain(String text) {
+        return text != null && (text.startsWith(MARKER) || text.startsWith(ESCAPE)) ? ESCAPE + text : text;
+    }
+
+    // Reads any stored form: compressed, escaped plain or plain
+    public static String decompress(String value) {
+        if (value != null && value.startsWith(ESCAPE)) {
+            return value.substring(ESCAPE.length());
+        }
+        if (!isCompressed(value)) {
+            return value;
+        }
+        byte[] input = Base64.getDecoder().decode(value.substring(MARKER.length()));
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[2048];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.needsInput()) {
+                        throw new IllegalStateException("Truncated compressed text");
+                    } else {
+                        throw new IllegalStateException("Compressed text makes no progress");
+                    }
+                    continue;
+                }
+                output.write(buffer, 0, count);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] loadDictionary(String resource) {
+        try (InputStream in = CompressedTextConverter.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Compression dictionary not found: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
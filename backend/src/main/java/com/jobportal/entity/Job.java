@@ -7,7 +7,10 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,14 +22,25 @@ import java.util.Set;
 
 @Entity
 @Table(name = "jobs")
+@NamedEntityGraph(name = "Job.summary", attributeNodes = {
+        @NamedAttributeNode(value = "postedBy", subgraph = "poster"),
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("category")
+}, subgraphs = {
+        // User.company is the inverse side of a one-to-one and is always loaded with the user
+        @NamedSubgraph(name = "poster", attributeNodes = @NamedAttributeNode("company"))
+})
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Job {
     
+    // Pooled table-backed ids: IDENTITY would force one round trip per insert and disable JDBC batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "jobs_id")
+    @TableGenerator(name = "jobs_id", table = "id_generators", pkColumnValue = "jobs", allocationSize = 50)
     private Long id;
     
     @NotBlank
@@ -34,9 +48,9 @@ public class Job {
     @Column(name = "title")
     private String title;
     
-    @NotBlank
-    @Column(name = "description", columnDefinition = "TEXT")
-    private String description;
+    // Plain-text excerpt of the description for list pages; the full bodies live in JobDetails
+    @Column(name = "summary", length = 300)
+    private String summary;
     
     @NotBlank
     @Size(max = 100)
@@ -71,15 +85,6 @@ public class Job {
     @Column(name = "application_deadline")
     private LocalDateTime applicationDeadline;
     
-    @Column(name = "requirements", columnDefinition = "TEXT")
-    private String requirements;
-    
-    @Column(name = "benefits", columnDefinition = "TEXT")
-    private String benefits;
-    
-    @Column(name = "application_instructions", columnDefinition = "TEXT")
-    private String applicationInstructions;
-    
     @Column(name = "views_count")
     private Integer viewsCount = 0;
     
@@ -94,24 +99,44 @@ public class Job {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Set when the row is deleted; hidden from every query until PurgeService removes it
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    // The poster's own reference for imported jobs, unique per poster
+    @Column(name = "external_ref", length = 100)
+    private String externalRef;
+    
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "posted_by", nullable = false)
     private User postedBy;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
     
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private Set<JobApplication> applications = new HashSet<>();
     
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private Set<SavedJob> savedJobs = new HashSet<>();
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "job_skills",
                joinColumns = @JoinColumn(name = "job_id"),
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +14,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_job_applications_user_job", columnNames = {"user_id", "job_id"})
+       })
+@NamedEntityGraph(name = "JobApplication.summary", attributeNodes = {
+        @NamedAttributeNode(value = "user", subgraph = "user"),
+        @NamedAttributeNode(value = "job", subgraph = "job")
+}, subgraphs = {
+        @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("company")),
+        @NamedSubgraph(name = "job", attributeNodes = @NamedAttributeNode("company"))
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,9 +32,11 @@ import java.time.LocalDateTime;
 public class JobApplication {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_applications_id")
+    @TableGenerator(name = "job_applications_id", table = "id_generators", pkColumnValue = "job_applications", allocationSize = 50)
     private Long id;
     
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "cover_letter", columnDefinition = "TEXT")
     private String coverLetter;
     
@@ -56,10 +70,14 @@ public class JobApplication {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
@@ -0,0 +1,52 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Long text bodies of a job, kept out of the {@code jobs} row so list pages, counts and
+ * scheduled scans read a narrow row. Shares the job's primary key and is only loaded by
+ * the job detail endpoints. The foreign key cascades on delete, so jobs removed through
+ * company or user cascades take their details with them.
+ */
+@Entity
+@Table(name = "job_details")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDetails {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    // Left uncompressed, keyword search matches it in SQL
+    @Column(name = "description", columnDefinition = "TEXT", nullable = false)
+    private String description;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "requirements", columnDefinition = "TEXT")
+    private String requirements;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "benefits", columnDefinition = "TEXT")
+    private String benefits;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "application_instructions", columnDefinition = "TEXT")
+    private String applicationInstructions;
+}
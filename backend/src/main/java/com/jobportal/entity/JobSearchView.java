@@ -0,0 +1,162 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized read model for public job listings: one row per active job carrying the
+ * company, category and poster fields a list card shows, so listing and search read a
+ * single table. Written only by {@code JobSearchViewService} whenever a job, company,
+ * category or poster changes; never edited directly. Shares the job's primary key and
+ * its foreign key cascades on delete, like {@link JobDetails}.
+ */
+@Entity
+@Table(name = "job_search_view")
+@Data
+@NoArgsConstructor
+public class JobSearchView {
+
+    @Id
+    @Column(name = "job_id")
+    private Long id;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "title_lower")
+    private String titleLower;
+
+    @Column(name = "summary", length = 300)
+    private String summary;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "location_lower")
+    private String locationLower;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private Job.JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level")
+    private Job.ExperienceLevel experienceLevel;
+
+    @Column(name = "min_salary", precision = 10, scale = 2)
+    private BigDecimal minSalary;
+
+    @Column(name = "max_salary", precision = 10, scale = 2)
+    private BigDecimal maxSalary;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    // Salaries converted to search-view.base-currency, null when the currency has no configured rate
+    @Column(name = "min_salary_base", precision = 12, scale = 2)
+    private BigDecimal minSalaryBase;
+
+    @Column(name = "max_salary_base", precision = 12, scale = 2)
+    private BigDecimal maxSalaryBase;
+
+    @Column(name = "is_remote")
+    private Boolean isRemote;
+
+    @Column(name = "application_deadline")
+    private LocalDateTime applicationDeadline;
+
+    @Column(name = "views_count")
+    private Integer viewsCount;
+
+    @Column(name = "applications_count")
+    private Integer applicationsCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "posted_by")
+    private Long postedById;
+
+    @Column(name = "poster_first_name")
+    private String posterFirstName;
+
+    @Column(name = "poster_last_name")
+    private String posterLastName;
+
+    @Column(name = "poster_email")
+    private String posterEmail;
+
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "company_name")
+    private String companyName;
+
+    @Column(name = "company_logo_url")
+    private String companyLogoUrl;
+
+    @Column(name = "company_industry")
+    private String companyIndustry;
+
+    @Column(name = "company_location")
+    private String companyLocation;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "category_icon")
+    private String categoryIcon;
+
+    @Column(name = "category_color")
+    private String categoryColor;
+
+    // Incremented on every write; new rows start at the current epoch millis so a row that is removed
+    // and later recreated never reuses a version of its previous life
+    @Column(name = "row_version", nullable = false)
+    private Long rowVersion;
+
+    // Comma separated, e.g. "1,4,9"; names come from the ReferenceDataCache skills snapshot
+    @Column(name = "skill_ids", length = 1000)
+    private String skillIds;
+
+    // Helper methods
+    public List<Long> getSkillIdList() {
+        List<Long> ids = new ArrayList<>();
+        if (skillIds != null && !skillIds.isEmpty()) {
+            for (String id : skillIds.split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+        }
+        return ids;
+    }
+
+    public void setSkillIdList(Collection<Long> ids) {
+        this.skillIds = ids.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -3,7 +3,9 @@ package com.jobportal.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -14,6 +16,14 @@ import java.time.LocalDateTime;
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"user_id", "job_id"})
        })
+@NamedEntityGraph(name = "SavedJob.summary", attributeNodes = {
+        @NamedAttributeNode(value = "job", subgraph = "job")
+}, subgraphs = {
+        @NamedSubgraph(name = "job", attributeNodes = {
+                @NamedAttributeNode("company"),
+                @NamedAttributeNode("category")
+        })
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,17 +31,22 @@ import java.time.LocalDateTime;
 public class SavedJob {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_jobs_id")
+    @TableGenerator(name = "saved_jobs_id", table = "id_generators", pkColumnValue = "saved_jobs", allocationSize = 50)
     private Long id;
     
     @CreatedDate
     @Column(name = "saved_at", nullable = false, updatable = false)
     private LocalDateTime savedAt;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
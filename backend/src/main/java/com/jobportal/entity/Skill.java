@@ -5,7 +5,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,7 +25,8 @@ import java.util.Set;
 public class Skill {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "skills_id")
+    @TableGenerator(name = "skills_id", table = "id_generators", pkColumnValue = "skills", allocationSize = 50)
     private Long id;
     
     @NotBlank
@@ -50,9 +53,13 @@ public class Skill {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(mappedBy = "skills", fetch = FetchType.LAZY)
     private Set<User> users = new HashSet<>();
     
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(mappedBy = "requiredSkills", fetch = FetchType.LAZY)
     private Set<Job> jobs = new HashSet<>();
     
@@ -0,0 +1,58 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.ArchivedJobApplication;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedJobApplicationRepository extends JpaRepository<ArchivedJobApplication, Long> {
+
+    // Same columns as JobApplicationRepository.SUMMARY_SELECT
+    String SUMMARY_SELECT = "SELECT ja.id AS id, ja.resumeUrl AS resumeUrl, ja.status AS status, ja.appliedAt AS appliedAt, " +
+            "ja.reviewedAt AS reviewedAt, ja.interviewScheduledAt AS interviewScheduledAt, " +
+            "ja.createdAt AS createdAt, ja.updatedAt AS updatedAt, u.id AS userId, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.email AS email, u.profilePicture AS profilePicture, j.id AS jobId, " +
+            "j.title AS jobTitle, j.location AS jobLocation, c.name AS companyName, c.logoUrl AS companyLogo " +
+            "FROM ArchivedJobApplication ja LEFT JOIN ja.user u LEFT JOIN ja.job j LEFT JOIN j.company c ";
+
+    // Lists rather than pages: callers continue a hot page and take an arbitrary offset/limit
+    @EntityGraph("ArchivedJobApplication.summary")
+    List<ArchivedJobApplication> findByUserIdOrderByAppliedAtDesc(Long userId, Pageable pageable);
+
+    @EntityGraph("ArchivedJobApplication.summary")
+    List<ArchivedJobApplication> findByJobIdOrderByAppliedAtDesc(Long jobId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE ja.user.id = :userId ORDER BY ja.appliedAt DESC")
+    List<JobApplicationRepository.SummaryRow> findSummaryByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE ja.job.id = :jobId ORDER BY ja.appliedAt DESC")
+    List<JobApplicationRepository.SummaryRow> findSummaryByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    long countByJobId(Long jobId);
+
+    // Same rows as JobApplicationRepository.streamForExport, for applications to archived jobs
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+            value = JobApplicationRepository.EXPORT_FETCH_SIZE), forCounting = false)
+    @Query("SELECT ja.id AS id, j.id AS jobId, j.title AS jobTitle, u.id AS applicantId, " +
+           "u.firstName AS firstName, u.lastName AS lastName, u.email AS email, u.phone AS phone, " +
+           "ja.status AS status, ja.appliedAt AS appliedAt, ja.reviewedAt AS reviewedAt, " +
+           "ja.interviewScheduledAt AS interviewScheduledAt, ja.resumeUrl AS resumeUrl " +
+           "FROM ArchivedJobApplication ja JOIN ja.job j JOIN ja.user u WHERE " +
+           "(:employerId IS NULL OR j.postedBy.id = :employerId) AND " +
+           "(:jobId IS NULL OR j.id = :jobId) " +
+           "ORDER BY ja.id")
+    Stream<JobApplicationRepository.ExportRow> streamForExport(@Param("employerId") Long employerId,
+                                                               @Param("jobId") Long jobId);
+}
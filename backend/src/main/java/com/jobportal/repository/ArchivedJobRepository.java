@@ -0,0 +1,25 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.ArchivedJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+
+    // Lists rather than pages: callers continue a hot page and take an arbitrary offset/limit
+    @EntityGraph("ArchivedJob.summary")
+    List<ArchivedJob> findByPostedByIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    long countByPostedById(Long userId);
+
+    @Query("SELECT DISTINCT j FROM ArchivedJob j LEFT JOIN FETCH j.requiredSkills WHERE j.id IN :ids")
+    List<ArchivedJob> fetchRequiredSkills(@Param("ids") Collection<Long> ids);
+}
@@ -4,10 +4,13 @@ import com.jobportal.entity.Company;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,8 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     
     Optional<Company> findByName(String name);
     
+    Optional<Company> findFirstByNameIgnoreCaseAndIsActiveTrue(String name);
+    
     Optional<Company> findByEmail(String email);
     
     Optional<Company> findByUser_Id(Long userId);
@@ -61,14 +66,43 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     @Query("SELECT COUNT(c) FROM Company c WHERE c.isVerified = true")
     long countVerifiedCompanies();
     
-    // Additional methods used in services
-    Page<Company> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+    // Additional methods used in services; the type is Company or Summary
+    <T> Page<T> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable, Class<T> type);
     
     Optional<Company> findByUser(com.jobportal.entity.User user);
     
-    List<Company> findByNameContainingIgnoreCaseAndIsActiveTrue(String name);
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
+    
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+    
+    @Query("SELECT c.updatedAt FROM Company c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    <T> List<T> findByNameContainingIgnoreCaseAndIsActiveTrue(String name, Class<T> type);
+    
+    <T> List<T> findByIndustryAndIsActiveTrue(String industry, Class<T> type);
+    
+    <T> List<T> findByIsVerifiedTrueAndIsActiveTrueOrderByCreatedAtDesc(Class<T> type);
+    
+    // Soft deletes; PurgeService removes the rows and everything that references them. A company deleted
+    // on its own lets go of its owner (unique user_id), who may create another; the purge goes by company id
+    @Modifying
+    @Query("UPDATE Company c SET c.deletedAt = :now, c.user = NULL WHERE c.id = :id")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
     
-    List<Company> findByIndustryAndIsActiveTrue(String industry);
+    // Keeps user_id: the owner's purge finds the company and its jobs through it
+    @Modifying
+    @Query("UPDATE Company c SET c.deletedAt = :now WHERE c.user.id = :userId")
+    int softDeleteByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
     
-    List<Company> findByIsVerifiedTrueAndIsActiveTrueOrderByCreatedAtDesc();
+    // Summary view of company responses; a closed projection, so only these columns are selected
+    interface Summary {
+        Long getId();
+        String getName();
+        String getLogoUrl();
+        String getIndustry();
+        String getCity();
+        String getCountry();
+        Boolean getIsVerified();
+    }
 }
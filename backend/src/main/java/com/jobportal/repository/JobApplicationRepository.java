@@ -1,16 +1,22 @@
 package com.jobportal.repository;
 
 import com.jobportal.entity.JobApplication;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
@@ -19,8 +25,10 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     
     List<JobApplication> findByJob_Id(Long jobId);
     
+    @EntityGraph("JobApplication.summary")
     Page<JobApplication> findByUser_Id(Long userId, Pageable pageable);
     
+    @EntityGraph("JobApplication.summary")
     Page<JobApplication> findByJob_Id(Long jobId, Pageable pageable);
     
     Optional<JobApplication> findByUser_IdAndJob_Id(Long userId, Long jobId);
@@ -33,6 +41,7 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     
     List<JobApplication> findByJob_IdAndStatus(Long jobId, JobApplication.ApplicationStatus status);
     
+    @EntityGraph("JobApplication.summary")
     @Query("SELECT ja FROM JobApplication ja WHERE " +
            "ja.job.postedBy.id = :employerId")
     Page<JobApplication> findByEmployer(@Param("employerId") Long employerId, Pageable pageable);
@@ -71,19 +80,130 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // Additional methods used in services
     boolean existsByUserAndJob(com.jobportal.entity.User user, com.jobportal.entity.Job job);
     
+    @EntityGraph("JobApplication.summary")
     Page<JobApplication> findByUserOrderByAppliedAtDesc(com.jobportal.entity.User user, Pageable pageable);
     
+    @EntityGraph("JobApplication.summary")
     Page<JobApplication> findByJobIdOrderByAppliedAtDesc(Long jobId, Pageable pageable);
     
+    @EntityGraph("JobApplication.summary")
     List<JobApplication> findByJobIdOrderByAppliedAtDesc(Long jobId);
     
+    @EntityGraph("JobApplication.summary")
     Page<JobApplication> findByStatusOrderByAppliedAtDesc(JobApplication.ApplicationStatus status, Pageable pageable);
     
+    @EntityGraph("JobApplication.summary")
     List<JobApplication> findByStatusOrderByAppliedAtDesc(JobApplication.ApplicationStatus status);
     
     long countByUser(com.jobportal.entity.User user);
     
+    // Summary rows for selections without coverLetter, notes or rejectionReason: the free text
+    // columns (the cover letter is compressed) are neither read nor decompressed
+    String SUMMARY_SELECT = "SELECT ja.id AS id, ja.resumeUrl AS resumeUrl, ja.status AS status, ja.appliedAt AS appliedAt, " +
+           "ja.reviewedAt AS reviewedAt, ja.interviewScheduledAt AS interviewScheduledAt, " +
+           "ja.createdAt AS createdAt, ja.updatedAt AS updatedAt, u.id AS userId, u.firstName AS firstName, " +
+           "u.lastName AS lastName, u.email AS email, u.profilePicture AS profilePicture, j.id AS jobId, " +
+           "j.title AS jobTitle, j.location AS jobLocation, c.name AS companyName, c.logoUrl AS companyLogo " +
+           "FROM JobApplication ja LEFT JOIN ja.user u LEFT JOIN ja.job j LEFT JOIN j.company c ";
+    
+    @Query(value = SUMMARY_SELECT + "WHERE ja.user.id = :userId ORDER BY ja.appliedAt DESC",
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.user.id = :userId")
+    Page<SummaryRow> findSummaryByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE ja.job.id = :jobId ORDER BY ja.appliedAt DESC",
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.id = :jobId")
+    Page<SummaryRow> findSummaryByJobId(@Param("jobId") Long jobId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE ja.status = :status ORDER BY ja.appliedAt DESC",
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.status = :status")
+    Page<SummaryRow> findSummaryByStatus(@Param("status") JobApplication.ApplicationStatus status, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE ja.id = :id")
+    Optional<SummaryRow> findSummaryById(@Param("id") Long id);
+    
     long countByJobId(Long jobId);
     
     boolean existsByUserAndJobId(com.jobportal.entity.User user, Long jobId);
+    
+    // Connector/J's row-by-row streaming mode (Integer.MIN_VALUE): rows are read off the socket as the
+    // stream is consumed instead of being buffered. The connection can run no other statement until
+    // the stream is closed, so streamed queries select projections only. MySQL only; H2 rejects it
+    String EXPORT_FETCH_SIZE = "" + Integer.MIN_VALUE;
+    
+    // Applicant export, read forward-only inside a read-only transaction; a null employer or job
+    // means no filter on it
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), forCounting = false)
+    @Query("SELECT ja.id AS id, j.id AS jobId, j.title AS jobTitle, u.id AS applicantId, " +
+           "u.firstName AS firstName, u.lastName AS lastName, u.email AS email, u.phone AS phone, " +
+           "ja.status AS status, ja.appliedAt AS appliedAt, ja.reviewedAt AS reviewedAt, " +
+           "ja.interviewScheduledAt AS interviewScheduledAt, ja.resumeUrl AS resumeUrl " +
+           "FROM JobApplication ja JOIN ja.job j JOIN ja.user u WHERE " +
+           "(:employerId IS NULL OR j.postedBy.id = :employerId) AND " +
+           "(:jobId IS NULL OR j.id = :jobId) " +
+           "ORDER BY ja.id")
+    Stream<ExportRow> streamForExport(@Param("employerId") Long employerId, @Param("jobId") Long jobId);
+    
+    // Resume of each application, falling back to the applicant's profile resume; withdrawn
+    // applications are left out of a whole job's bundle
+    @Query("SELECT ja.id AS id, j.id AS jobId, u.firstName AS firstName, u.lastName AS lastName, " +
+           "COALESCE(NULLIF(ja.resumeUrl, ''), u.resumeUrl) AS resumeUrl " +
+           "FROM JobApplication ja JOIN ja.job j JOIN ja.user u WHERE " +
+           "(:employerId IS NULL OR j.postedBy.id = :employerId) AND j.id = :jobId AND " +
+           "ja.status <> com.jobportal.entity.JobApplication$ApplicationStatus.WITHDRAWN " +
+           "ORDER BY ja.id")
+    List<ResumeRow> findResumesByJob(@Param("employerId") Long employerId, @Param("jobId") Long jobId);
+    
+    @Query("SELECT ja.id AS id, j.id AS jobId, u.firstName AS firstName, u.lastName AS lastName, " +
+           "COALESCE(NULLIF(ja.resumeUrl, ''), u.resumeUrl) AS resumeUrl " +
+           "FROM JobApplication ja JOIN ja.job j JOIN ja.user u WHERE " +
+           "(:employerId IS NULL OR j.postedBy.id = :employerId) AND ja.id IN :ids " +
+           "ORDER BY ja.id")
+    List<ResumeRow> findResumesByIdIn(@Param("employerId") Long employerId, @Param("ids") Collection<Long> ids);
+    
+    // Summary view of an application response; a closed projection, so only these columns are selected
+    interface SummaryRow {
+        Long getId();
+        String getResumeUrl();
+        JobApplication.ApplicationStatus getStatus();
+        LocalDateTime getAppliedAt();
+        LocalDateTime getReviewedAt();
+        LocalDateTime getInterviewScheduledAt();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getProfilePicture();
+        Long getJobId();
+        String getJobTitle();
+        String getJobLocation();
+        String getCompanyName();
+        String getCompanyLogo();
+    }
+    
+    interface ResumeRow {
+        Long getId();
+        Long getJobId();
+        String getFirstName();
+        String getLastName();
+        String getResumeUrl();
+    }
+    
+    // One applicant export line; a closed projection, so rows never enter the persistence context
+    interface ExportRow {
+        Long getId();
+        Long getJobId();
+        String getJobTitle();
+        Long getApplicantId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getPhone();
+        JobApplication.ApplicationStatus getStatus();
+        LocalDateTime getAppliedAt();
+        LocalDateTime getReviewedAt();
+        LocalDateTime getInterviewScheduledAt();
+        String getResumeUrl();
+    }
 }
@@ -0,0 +1,9 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.JobDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobDetailsRepository extends JpaRepository<JobDetails, Long> {
+}
@@ -3,14 +3,18 @@ package com.jobportal.repository;
 import com.jobportal.entity.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
@@ -39,7 +43,7 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE " +
            "j.isActive = true AND " +
            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "EXISTS (SELECT 1 FROM JobDetails d WHERE d.jobId = j.id AND LOWER(d.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) OR " +
            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
     
@@ -103,24 +107,53 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     long countByPostedBy(@Param("userId") Long userId);
     
     // Additional methods used in services
+    @EntityGraph("Job.summary")
+    Optional<Job> findSummaryById(Long id);
+    
+    @EntityGraph("Job.summary")
+    List<Job> findSummaryByIdIn(Collection<Long> ids);
+    
+    // Jobs a bulk import updates rather than creates
+    List<Job> findByPostedBy_IdAndExternalRefIn(Long postedById, Collection<String> externalRefs);
+    
+    // References of the poster's deleted or archived jobs, which an import must not recreate
+    @Query(value = "SELECT external_ref FROM jobs WHERE posted_by = :postedById AND external_ref IN (:refs) " +
+                   "AND deleted_at IS NOT NULL " +
+                   "UNION SELECT external_ref FROM archived_jobs WHERE posted_by = :postedById AND external_ref IN (:refs)",
+           nativeQuery = true)
+    List<String> findRetiredExternalRefs(@Param("postedById") Long postedById, @Param("refs") Collection<String> refs);
+    
+    @EntityGraph("Job.summary")
     Page<Job> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
     
+    @EntityGraph("Job.summary")
     List<Job> findByPostedByOrderByCreatedAtDesc(com.jobportal.entity.User user);
     
+    @EntityGraph("Job.summary")
+    Page<Job> findByPostedByOrderByCreatedAtDesc(com.jobportal.entity.User user, Pageable pageable);
+    
+    @EntityGraph("Job.summary")
     List<Job> findByCompanyIdAndIsActiveTrueOrderByCreatedAtDesc(Long companyId);
     
+    @EntityGraph("Job.summary")
     List<Job> findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(Long categoryId);
     
+    @EntityGraph("Job.summary")
     List<Job> findTop10ByIsActiveTrueOrderByCreatedAtDesc();
     
+    @EntityGraph("Job.summary")
     List<Job> findTop10ByIsActiveTrueOrderByViewsCountDesc();
     
     List<Job> findByApplicationDeadlineBeforeAndIsActiveTrue(LocalDateTime deadline);
     
+    @EntityGraph("Job.summary")
+    List<Job> findByIsActiveTrueAndIdGreaterThanOrderById(Long id, Pageable pageable);
+    
+    @EntityGraph("Job.summary")
     @Query("SELECT j FROM Job j WHERE " +
            "j.isActive = true AND " +
            "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "EXISTS (SELECT 1 FROM JobDetails d WHERE d.jobId = j.id AND LOWER(d.description) LIKE LOWER(CONCAT('%', :keyword, '%')))) AND " +
            "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
            "(:jobType IS NULL OR j.jobType = :jobType) AND " +
            "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
@@ -131,4 +164,43 @@ public interface JobRepository extends JpaRepository<Job, Long> {
                                   @Param("experienceLevel") Job.ExperienceLevel experienceLevel,
                                   @Param("isRemote") Boolean isRemote,
                                   Pageable pageable);
+    
+    // Initializes requiredSkills for a whole page of already-loaded jobs in one IN query
+    @Query("SELECT DISTINCT j FROM Job j LEFT JOIN FETCH j.requiredSkills WHERE j.id IN :ids")
+    List<Job> fetchRequiredSkills(@Param("ids") Collection<Long> ids);
+    
+    // A counted view is not an edit: a bulk update leaves updatedAt, and with it the job's Last-Modified, alone.
+    // Clears the persistence context, so a job loaded before is detached and no longer flushed
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.viewsCount = COALESCE(j.viewsCount, 0) + 1 WHERE j.id = :id")
+    int incrementViewsById(@Param("id") Long id);
+    
+    // Validators of a job detail response, read without loading the job or its associations
+    @Query("SELECT j.viewsCount AS viewsCount, j.applicationsCount AS applicationsCount, j.updatedAt AS updatedAt, " +
+           "c.updatedAt AS companyUpdatedAt, u.updatedAt AS posterUpdatedAt " +
+           "FROM Job j JOIN j.postedBy u LEFT JOIN j.company c WHERE j.id = :id")
+    Optional<DetailVersion> findDetailVersionById(@Param("id") Long id);
+    
+    // Soft deletes; PurgeService removes the rows and everything that references them
+    @Modifying
+    @Query("UPDATE Job j SET j.deletedAt = :now WHERE j.id = :id")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE Job j SET j.deletedAt = :now WHERE j.company.id = :companyId")
+    int softDeleteByCompanyId(@Param("companyId") Long companyId, @Param("now") LocalDateTime now);
+    
+    // Jobs the user posted plus every job of the company they own
+    @Modifying
+    @Query("UPDATE Job j SET j.deletedAt = :now WHERE j.postedBy.id = :userId OR " +
+           "j.company.id IN (SELECT c.id FROM Company c WHERE c.user.id = :userId)")
+    int softDeleteByOwner(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    interface DetailVersion {
+        Integer getViewsCount();
+        Integer getApplicationsCount();
+        LocalDateTime getUpdatedAt();
+        LocalDateTime getCompanyUpdatedAt();
+        LocalDateTime getPosterUpdatedAt();
+    }
 }
@@ -0,0 +1,134 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobSearchView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface JobSearchViewRepository extends JpaRepository<JobSearchView, Long> {
+
+    Page<JobSearchView> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // The first page only, without the count query
+    List<JobSearchView> findByOrderByCreatedAtDesc(Pageable pageable);
+
+    List<JobSearchView> findByCompanyIdOrderByCreatedAtDesc(Long companyId);
+
+    List<JobSearchView> findByCategoryIdOrderByCreatedAtDesc(Long categoryId);
+
+    List<JobSearchView> findTop10ByOrderByViewsCountDesc();
+
+    // Same filters as JobRepository.findJobsWithFilters; callers pass keyword and location lowercased
+    @Query("SELECT v FROM JobSearchView v WHERE " +
+           "(:keyword IS NULL OR v.titleLower LIKE CONCAT('%', :keyword, '%') OR " +
+           "EXISTS (SELECT 1 FROM JobDetails d WHERE d.jobId = v.id AND LOWER(d.description) LIKE CONCAT('%', :keyword, '%'))) AND " +
+           "(:location IS NULL OR v.locationLower LIKE CONCAT('%', :location, '%')) AND " +
+           "(:jobType IS NULL OR v.jobType = :jobType) AND " +
+           "(:experienceLevel IS NULL OR v.experienceLevel = :experienceLevel) AND " +
+           "(:isRemote IS NULL OR v.isRemote = :isRemote)")
+    Page<JobSearchView> search(@Param("keyword") String keyword,
+                               @Param("location") String location,
+                               @Param("jobType") Job.JobType jobType,
+                               @Param("experienceLevel") Job.ExperienceLevel experienceLevel,
+                               @Param("isRemote") Boolean isRemote,
+                               Pageable pageable);
+
+    // Syndication files, one id range at a time; read forward-only inside a read-only transaction
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobApplicationRepository.EXPORT_FETCH_SIZE),
+            forCounting = false)
+    @Query("SELECT v.id AS id, v.title AS title, v.summary AS summary, v.location AS location, " +
+           "v.jobType AS jobType, v.experienceLevel AS experienceLevel, v.minSalary AS minSalary, " +
+           "v.maxSalary AS maxSalary, v.currency AS currency, v.isRemote AS isRemote, " +
+           "v.applicationDeadline AS applicationDeadline, v.createdAt AS createdAt, v.updatedAt AS updatedAt, " +
+           "v.companyName AS companyName, v.categoryName AS categoryName " +
+           "FROM JobSearchView v WHERE v.id >= :fromId AND v.id < :toId ORDER BY v.id")
+    Stream<FeedRow> streamForFeed(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(v.id) FROM JobSearchView v")
+    Long findMaxId();
+
+    // Leaves row_version alone: cached list entries carry no counters (see JobFragmentCache)
+    @Modifying
+    @Query("UPDATE JobSearchView v SET v.viewsCount = :viewsCount, v.applicationsCount = :applicationsCount " +
+           "WHERE v.id = :jobId")
+    int updateCounters(@Param("jobId") Long jobId,
+                       @Param("viewsCount") Integer viewsCount,
+                       @Param("applicationsCount") Integer applicationsCount);
+
+    @Modifying
+    @Query("UPDATE JobSearchView v SET v.companyName = :name, v.companyLogoUrl = :logoUrl, " +
+           "v.companyIndustry = :industry, v.companyLocation = :location, v.rowVersion = v.rowVersion + 1 " +
+           "WHERE v.companyId = :companyId")
+    int updateCompany(@Param("companyId") Long companyId,
+                      @Param("name") String name,
+                      @Param("logoUrl") String logoUrl,
+                      @Param("industry") String industry,
+                      @Param("location") String location);
+
+    @Modifying
+    @Query("UPDATE JobSearchView v SET v.categoryName = :name, v.categoryIcon = :icon, v.categoryColor = :color, " +
+           "v.rowVersion = v.rowVersion + 1 " +
+           "WHERE v.categoryId = :categoryId")
+    int updateCategory(@Param("categoryId") Long categoryId,
+                       @Param("name") String name,
+                       @Param("icon") String icon,
+                       @Param("color") String color);
+
+    @Modifying
+    @Query("UPDATE JobSearchView v SET v.posterFirstName = :firstName, v.posterLastName = :lastName, " +
+           "v.posterEmail = :email, v.rowVersion = v.rowVersion + 1 WHERE v.postedById = :userId")
+    int updatePoster(@Param("userId") Long userId,
+                     @Param("firstName") String firstName,
+                     @Param("lastName") String lastName,
+                     @Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM JobSearchView v WHERE v.id IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query("DELETE FROM JobSearchView v WHERE v.companyId = :companyId")
+    int deleteByCompanyId(@Param("companyId") Long companyId);
+
+    @Modifying
+    @Query("DELETE FROM JobSearchView v WHERE v.postedById = :userId OR " +
+           "v.companyId IN (SELECT c.id FROM Company c WHERE c.user.id = :userId)")
+    int deleteByOwner(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM JobSearchView v WHERE v.id NOT IN (SELECT j.id FROM Job j WHERE j.isActive = true)")
+    int deleteInactive();
+
+    interface FeedRow {
+        Long getId();
+        String getTitle();
+        String getSummary();
+        String getLocation();
+        Job.JobType getJobType();
+        Job.ExperienceLevel getExperienceLevel();
+        BigDecimal getMinSalary();
+        BigDecimal getMaxSalary();
+        String getCurrency();
+        Boolean getIsRemote();
+        LocalDateTime getApplicationDeadline();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        String getCompanyName();
+        String getCategoryName();
+    }
+}
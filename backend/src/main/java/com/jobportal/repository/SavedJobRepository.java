@@ -3,6 +3,7 @@ package com.jobportal.repository;
 import com.jobportal.entity.SavedJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,8 +30,10 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     long countByJob(@Param("jobId") Long jobId);
     
     // Additional methods used in services
+    @EntityGraph("SavedJob.summary")
     Page<SavedJob> findByUserOrderBySavedAtDesc(com.jobportal.entity.User user, Pageable pageable);
     
+    @EntityGraph("SavedJob.summary")
     List<SavedJob> findByUserOrderBySavedAtDesc(com.jobportal.entity.User user);
     
     boolean existsByUserAndJob(com.jobportal.entity.User user, com.jobportal.entity.Job job);
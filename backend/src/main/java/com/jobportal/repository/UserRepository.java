@@ -1,11 +1,15 @@
 package com.jobportal.repository;
 
 import com.jobportal.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByEmail(String email);
     
+    @EntityGraph(attributePaths = "skills")
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findWithSkillsById(@Param("id") Long id);
+    
+    @EntityGraph(attributePaths = "skills")
+    @Query("SELECT DISTINCT u FROM User u WHERE u.id IN :ids")
+    List<User> findWithSkillsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"skills", "company"})
+    @Query("SELECT DISTINCT u FROM User u")
+    List<User> findAllWithSkills();
+    
+    @EntityGraph(attributePaths = {"skills", "company"})
     List<User> findByRole(User.Role role);
     
     List<User> findByIsActiveTrue();
@@ -39,4 +56,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
     long countActiveUsers();
+    
+    // Soft delete; PurgeService removes the row and everything that references it. The email is
+    // replaced (without an @, so it matches no address) to free the unique key for a new registration
+    @Modifying
+    @Query("UPDATE User u SET u.deletedAt = :now, u.email = CONCAT('deleted-', CAST(u.id AS String)) WHERE u.id = :id")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,234 @@
+package com.jobportal.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the first matching route group's limits. Counters are per route group and per key
+ * (client IP, and user id once authenticated), so neither rotating addresses from one account
+ * nor rotating accounts from one address escapes the budget.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int ROUTE_MEMO_SIZE = 4096;
+
+    private final RateLimitProperties properties;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    // Method and path -> matching group; cleared when full, so paths chosen by clients cannot pin it
+    private final Map<String, Optional<RouteGroup>> routeMemo = new ConcurrentHashMap<>();
+    private List<RouteGroup> routeGroups = new ArrayList<>();
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void init() {
+        List<RouteGroup> groups = new ArrayList<>();
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            groups.add(new RouteGroup(group,
+                    new SlidingWindowRateLimiter(group.getLimit(), group.getWindow(), properties.getMaxKeys())));
+            log.info("Rate limit group '{}': {} requests per {} on {} by {}",
+                    group.getName(), group.getLimit(), group.getWindow(), group.getPatterns(), group.getKeys());
+        }
+        routeGroups = groups;
+        if (!properties.isEnabled() || groups.isEmpty()) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (RouteGroup group : groups) {
+            long period = group.limiter.getWindowMillis();
+            sweeper.scheduleWithFixedDelay(() -> sweep(group), period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    private void sweep(RouteGroup group) {
+        int removed = group.limiter.sweep(System.currentTimeMillis());
+        if (group.limiter.isFull()) {
+            log.warn("Rate limit group '{}' tracks {} active keys; new keys are not limited until some go idle",
+                    group.config.getName(), group.limiter.size());
+        } else if (removed > 0) {
+            log.debug("Rate limit group '{}': swept {} idle keys", group.config.getName(), removed);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = resolveGroup(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>(group.config.getKeys().size());
+        for (RateLimitProperties.KeyType keyType : group.config.getKeys()) {
+            String candidate = resolveKey(request, keyType);
+            if (candidate != null) {
+                keys.add(candidate);
+            }
+        }
+
+        // Every key must admit the request before any is charged, so a refused request costs no budget
+        String key = null;
+        SlidingWindowRateLimiter.Decision decision = null;
+        for (String candidate : keys) {
+            SlidingWindowRateLimiter.Decision candidateDecision = group.limiter.check(candidate, now);
+            if (!candidateDecision.isAllowed()) {
+                key = candidate;
+                decision = candidateDecision;
+                break;
+            }
+        }
+        if (decision == null) {
+            for (int i = 0; i < keys.size(); i++) {
+                SlidingWindowRateLimiter.Decision candidateDecision = group.limiter.tryAcquire(keys.get(i), now);
+                // Headers report the tightest budget, or the one that refused the request
+                if (decision == null || !candidateDecision.isAllowed()
+                        || candidateDecision.getRemaining() < decision.getRemaining()) {
+                    key = keys.get(i);
+                    decision = candidateDecision;
+                }
+                if (!candidateDecision.isAllowed()) {
+                    // Refused by a concurrent request since the check: take back the keys already charged
+                    for (int j = 0; j < i; j++) {
+                        group.limiter.release(keys.get(j), now);
+                    }
+                    break;
+                }
+            }
+        }
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader("RateLimit-Policy", group.policy);
+        response.setHeader("RateLimit-Limit", group.limit);
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.getResetMillis())));
+
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Rate limit '{}' exceeded for {} on {}", group.config.getName(), key, request.getRequestURI());
+        long retryAfter = toSeconds(decision.getRetryAfterMillis());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Too many requests");
+        body.put("message", "Rate limit exceeded, retry in " + retryAfter + " seconds");
+        mapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private RouteGroup resolveGroup(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String route = request.getMethod() + " " + path;
+        Optional<RouteGroup> memo = routeMemo.get(route);
+        if (memo != null) {
+            return memo.orElse(null);
+        }
+        RouteGroup group = matchGroup(request.getMethod(), PathContainer.parsePath(path));
+        if (routeMemo.size() >= ROUTE_MEMO_SIZE) {
+            routeMemo.clear();
+        }
+        routeMemo.put(route, Optional.ofNullable(group));
+        return group;
+    }
+
+    private RouteGroup matchGroup(String method, PathContainer path) {
+        for (RouteGroup group : routeGroups) {
+            if (!group.config.getMethods().isEmpty() && !group.config.getMethods().contains(method)) {
+                continue;
+            }
+            for (PathPattern pattern : group.patterns) {
+                if (pattern.matches(path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Null when the key does not apply to this request (no user on anonymous requests)
+    private String resolveKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+                return "user:" + userDetails.getId();
+            }
+            return null;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class RouteGroup {
+        private final RateLimitProperties.Group config;
+        private final SlidingWindowRateLimiter limiter;
+        private final List<PathPattern> patterns;
+        private final String policy;
+        private final String limit;
+
+        private RouteGroup(RateLimitProperties.Group config, SlidingWindowRateLimiter limiter) {
+            this.config = config;
+            this.limiter = limiter;
+            this.patterns = config.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.policy = config.getLimit() + ";w=" + config.getWindow().toSeconds();
+            this.limit = String.valueOf(config.getLimit());
+        }
+    }
+}
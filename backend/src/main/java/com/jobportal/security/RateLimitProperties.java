@@ -0,0 +1,38 @@
+package com.jobportal.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound of tracked keys per route group; beyond it new keys are admitted untracked until idle keys are swept
+    private int maxKeys = 100_000;
+
+    // Evaluated in order, the first group matching the request path applies
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private int limit = 100;
+        private Duration window = Duration.ofMinutes(1);
+        // Each key gets its own counter and all must admit the request; USER applies to authenticated requests
+        private List<KeyType> keys = new ArrayList<>(List.of(KeyType.IP, KeyType.USER));
+    }
+
+    public enum KeyType {
+        IP, USER
+    }
+}
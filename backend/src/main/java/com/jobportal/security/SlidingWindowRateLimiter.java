@@ -0,0 +1,186 @@
+package com.jobportal.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sliding-window counter limiter. Each key keeps the current and previous fixed window
+ * counts packed into a single {@link AtomicLong}, so admitting a request is one CAS and
+ * the key map (a {@link ConcurrentHashMap}, striped per bin) is the only shared structure.
+ * <p>
+ * Keys idle for two windows carry no count that could still affect a decision, so
+ * {@link #sweep(long)} removes exactly those, off the request path. Active keys are never
+ * dropped: once the map holds max-keys entries, a new key first triggers a sweep (at most one
+ * per second), and if nothing was idle it is admitted without a counter rather than charged to
+ * a counter it would share with other keys.
+ */
+public class SlidingWindowRateLimiter {
+
+    // state layout: [window index: 24 bits][previous count: 20 bits][current count: 20 bits]
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = (1L << 24) - 1;
+    private static final long FULL_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong nextFullSweepMillis = new AtomicLong();
+
+    public SlidingWindowRateLimiter(int limit, Duration window, int maxKeys) {
+        if (limit <= 0 || limit >= COUNT_MASK) {
+            throw new IllegalArgumentException("Rate limit must be between 1 and " + (COUNT_MASK - 1));
+        }
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Counts the request against key if the budget allows it. While the map is full and holds no
+     * idle keys, a new key is admitted untracked.
+     */
+    public Decision tryAcquire(String key, long nowMillis) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (isFull() && !sweepWhenFull(nowMillis)) {
+                return new Decision(true, limit, limit - 1, windowMillis - nowMillis % windowMillis, 0);
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.lastSeenMillis = nowMillis;
+
+        long window = window(nowMillis);
+        while (true) {
+            long state = counter.state.get();
+            Decision decision = decide(state, window, nowMillis);
+            if (!decision.isAllowed()) {
+                return decision;
+            }
+            long next = (window << (COUNT_BITS * 2)) | (previous(state, window) << COUNT_BITS) | (current(state, window) + 1);
+            if (counter.state.compareAndSet(state, next)) {
+                return decision;
+            }
+        }
+    }
+
+    /**
+     * The decision tryAcquire would make for key, without counting the request.
+     */
+    public Decision check(String key, long nowMillis) {
+        Counter counter = counters.get(key);
+        return decide(counter == null ? 0 : counter.state.get(), window(nowMillis), nowMillis);
+    }
+
+    /**
+     * Takes back a request admitted by tryAcquire in the same window, when another key then refused it.
+     */
+    public void release(String key, long nowMillis) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            return;
+        }
+        long window = window(nowMillis);
+        while (true) {
+            long state = counter.state.get();
+            if (state >>> (COUNT_BITS * 2) != window || (state & COUNT_MASK) == 0) {
+                return;
+            }
+            if (counter.state.compareAndSet(state, state - 1)) {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public boolean isFull() {
+        return counters.size() >= maxKeys;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Removes keys that saw no request for two windows. O(keys), so it runs on a background
+     * thread; returns the number of keys removed.
+     */
+    public int sweep(long nowMillis) {
+        long idleBefore = nowMillis - windowMillis * 2;
+        int before = counters.size();
+        counters.values().removeIf(counter -> counter.lastSeenMillis < idleBefore);
+        return before - counters.size();
+    }
+
+    // Sweeps on the request path once the map is full, at most once per interval; true when there is room
+    private boolean sweepWhenFull(long nowMillis) {
+        long next = nextFullSweepMillis.get();
+        if (nowMillis >= next && nextFullSweepMillis.compareAndSet(next, nowMillis + FULL_SWEEP_INTERVAL_MILLIS)) {
+            sweep(nowMillis);
+        }
+        return !isFull();
+    }
+
+    private Decision decide(long state, long window, long nowMillis) {
+        long previous = previous(state, window);
+        long current = current(state, window);
+        long elapsed = nowMillis % windowMillis;
+        double previousWeight = (double) (windowMillis - elapsed) / windowMillis;
+        long estimated = (long) (previous * previousWeight) + current;
+        long resetMillis = windowMillis - elapsed;
+        if (estimated >= limit) {
+            return new Decision(false, limit, 0, resetMillis,
+                    retryAfterMillis(previous, current, previousWeight, resetMillis));
+        }
+        return new Decision(true, limit, limit - estimated - 1, resetMillis, 0);
+    }
+
+    private long window(long nowMillis) {
+        return (nowMillis / windowMillis) & WINDOW_MASK;
+    }
+
+    // Count of the window before the given one, as recorded in state
+    private static long previous(long state, long window) {
+        long stateWindow = state >>> (COUNT_BITS * 2);
+        if (stateWindow == window) {
+            return (state >>> COUNT_BITS) & COUNT_MASK;
+        }
+        return stateWindow == ((window - 1) & WINDOW_MASK) ? state & COUNT_MASK : 0;
+    }
+
+    private static long current(long state, long window) {
+        return state >>> (COUNT_BITS * 2) == window ? state & COUNT_MASK : 0;
+    }
+
+    private long retryAfterMillis(long previous, long current, double previousWeight, long resetMillis) {
+        if (current >= limit) {
+            // Next window starts with this window's count as its weighted previous count
+            return resetMillis + (long) (windowMillis * (1.0 - (double) limit / (current + 1)));
+        }
+        double weightNeeded = (double) (limit - current) / previous;
+        return Math.max(1, (long) ((previousWeight - weightNeeded) * windowMillis) + 1);
+    }
+
+    private static final class Counter {
+        private final AtomicLong state = new AtomicLong();
+        private volatile long lastSeenMillis;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Decision {
+        private final boolean allowed;
+        private final int limit;
+        private final long remaining;
+        private final long resetMillis;
+        private final long retryAfterMillis;
+    }
+}
@@ -0,0 +1,187 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.entity.User;
+import com.jobportal.repository.ArchivedJobApplicationRepository;
+import com.jobportal.repository.JobApplicationRepository;
+import com.jobportal.repository.JobApplicationRepository.ExportRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes the applicants to an employer's jobs as CSV or NDJSON while they are read: rows come from a
+ * forward-only result set streamed row by row and are written one at a time, so memory use does not
+ * depend on the number of applicants. Applications to archived jobs follow the others.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("applicationId", ExportRow::getId),
+            new Column("jobId", ExportRow::getJobId),
+            new Column("jobTitle", ExportRow::getJobTitle),
+            new Column("applicantId", ExportRow::getApplicantId),
+            new Column("firstName", ExportRow::getFirstName),
+            new Column("lastName", ExportRow::getLastName),
+            new Column("email", ExportRow::getEmail),
+            new Column("phone", ExportRow::getPhone),
+            new Column("status", ExportRow::getStatus),
+            new Column("appliedAt", ExportRow::getAppliedAt),
+            new Column("reviewedAt", ExportRow::getReviewedAt),
+            new Column("interviewScheduledAt", ExportRow::getInterviewScheduledAt),
+            new Column("resumeUrl", ExportRow::getResumeUrl));
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ArchivedJobApplicationRepository archivedJobApplicationRepository;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public static Format of(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unsupported export format: " + format + " (csv or ndjson)");
+            }
+        }
+    }
+
+    // Employers get the applicants to their own jobs, admins everyone's; a job id narrows it to that
+    // job. Returns the number of rows written
+    @Transactional(readOnly = true)
+    public long export(User currentUser, Long jobId, Format format, OutputStream out) throws IOException {
+        Long employerId = currentUser.isAdmin() ? null : currentUser.getId();
+        RowWriter writer = format == Format.CSV ? new CsvWriter(out) : new NdjsonWriter(out);
+        long count = 0;
+        try (Stream<ExportRow> rows = jobApplicationRepository.streamForExport(employerId, jobId)) {
+            count += writeAll(rows, false, writer);
+        }
+        try (Stream<ExportRow> rows = archivedJobApplicationRepository.streamForExport(employerId, jobId)) {
+            count += writeAll(rows, true, writer);
+        }
+        writer.finish();
+        log.info("Exported {} applicants as {} for user {}", count, format, currentUser.getId());
+        return count;
+    }
+
+    private static long writeAll(Stream<ExportRow> rows, boolean archived, RowWriter writer) throws IOException {
+        long count = 0;
+        Iterator<ExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.write(iterator.next(), archived);
+            count++;
+        }
+        return count;
+    }
+
+    private record Column(String name, Function<ExportRow, Object> value) {
+    }
+
+    private interface RowWriter {
+
+        void write(ExportRow row, boolean archived) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // RFC 4180: values containing a separator, quote or line break are quoted. Text starting with a
+    // formula character is prefixed with ' so spreadsheets do not evaluate applicant-supplied input
+    private static final class CsvWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            for (Column column : COLUMNS) {
+                writer.write(column.name());
+                writer.write(',');
+            }
+            writer.write("archived\r\n");
+        }
+
+        @Override
+        public void write(ExportRow row, boolean archived) throws IOException {
+            for (Column column : COLUMNS) {
+                Object value = column.value().apply(row);
+                if (value != null) {
+                    writer.write(value instanceof String text ? escape(text) : value.toString());
+                }
+                writer.write(',');
+            }
+            writer.write(archived ? "true\r\n" : "false\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // One JSON object per line, dates in the API's ISO format
+    private final class NdjsonWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ExportRow row, boolean archived) throws IOException {
+            generator.writeStartObject();
+            for (Column column : COLUMNS) {
+                generator.writeObjectField(column.name(), column.value().apply(row));
+            }
+            generator.writeBooleanField("archived", archived);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobportal.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Pages through hot rows first and continues into the archive tables once they run out. Pages
+ * that lie entirely within hot data never touch the archive and report the hot total (they are
+ * never the last page); from the page where hot data ends, the total includes archived rows.
+ */
+final class ArchivePaging {
+
+    private ArchivePaging() {
+    }
+
+    static <T> Page<T> page(Pageable pageable, Function<Pageable, Page<T>> hot,
+                            LongSupplier archivedCount, Function<Pageable, List<T>> archived) {
+        Page<T> hotPage = hot.apply(pageable);
+        long hotTotal = hotPage.getTotalElements();
+        if (pageable.getOffset() + pageable.getPageSize() < hotTotal) {
+            return hotPage;
+        }
+
+        long archivedTotal = archivedCount.getAsLong();
+        List<T> content = new ArrayList<>(hotPage.getContent());
+        int missing = pageable.getPageSize() - content.size();
+        if (missing > 0 && archivedTotal > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - hotTotal);
+            content.addAll(archived.apply(new OffsetPageable(archiveOffset, missing, pageable.getSort())));
+        }
+        return new PageImpl<>(content, pageable, hotTotal + archivedTotal);
+    }
+
+    // Offset/limit that need not be a multiple of the page size
+    private record OffsetPageable(long offset, int limit, Sort sort) implements Pageable {
+
+        @Override
+        public int getPageNumber() {
+            return (int) (offset / limit);
+        }
+
+        @Override
+        public int getPageSize() {
+            return limit;
+        }
+
+        @Override
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Sort getSort() {
+            return sort;
+        }
+
+        @Override
+        public Pageable next() {
+            return new OffsetPageable(offset + limit, limit, sort);
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return new OffsetPageable(Math.max(0, offset - limit), limit, sort);
+        }
+
+        @Override
+        public Pageable first() {
+            return new OffsetPageable(0, limit, sort);
+        }
+
+        @Override
+        public Pageable withPage(int pageNumber) {
+            return new OffsetPageable((long) pageNumber * limit, limit, sort);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return offset > 0;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.jobportal.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -17,18 +18,25 @@ import java.util.Optional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final JobSearchViewService jobSearchViewService;
+    private final ReferenceDataCache referenceDataCache;
 
     public Category createCategory(Category category) {
         category.setIsActive(true);
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        referenceDataCache.reloadAfterCommit();
+        return savedCategory;
     }
 
+    // Reads come from the in-memory snapshot; the returned entities are shared and must not be modified
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Category> findById(Long id) {
-        return categoryRepository.findById(id);
+        return referenceDataCache.findCategory(id);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Category> findByName(String name) {
-        return categoryRepository.findByName(name);
+        return referenceDataCache.findCategoryByName(name);
     }
 
     public Category updateCategory(Long id, Category categoryDetails) {
@@ -40,34 +48,55 @@ public class CategoryService {
         category.setIcon(categoryDetails.getIcon());
         category.setColor(categoryDetails.getColor());
 
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        jobSearchViewService.refreshCategory(savedCategory);
+        referenceDataCache.reloadAfterCommit();
+        return savedCategory;
     }
 
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
         categoryRepository.deleteById(id);
+        referenceDataCache.reloadAfterCommit();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Category> getAllCategories() {
-        return categoryRepository.findByIsActiveTrueOrderByNameAsc();
+        return referenceDataCache.getActiveCategories();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Category> getAllCategoriesIncludingInactive() {
-        return categoryRepository.findAll();
+        return referenceDataCache.getAllCategories();
+    }
+
+    // Changes whenever any category or skill changes
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getETag() {
+        return referenceDataCache.getETag();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getLastModified() {
+        return referenceDataCache.getLastModified();
     }
 
     public Category deactivateCategory(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
         category.setIsActive(false);
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        referenceDataCache.reloadAfterCommit();
+        return savedCategory;
     }
 
     public Category activateCategory(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
         category.setIsActive(true);
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        referenceDataCache.reloadAfterCommit();
+        return savedCategory;
     }
 }
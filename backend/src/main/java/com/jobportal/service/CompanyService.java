@@ -1,8 +1,10 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.PurgeTask;
 import com.jobportal.entity.Company;
 import com.jobportal.entity.User;
 import com.jobportal.repository.CompanyRepository;
+import com.jobportal.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,10 @@ import java.util.Optional;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final JobRepository jobRepository;
+    private final JobSearchViewService jobSearchViewService;
+    private final JobDetailCache jobDetailCache;
+    private final PurgeService purgeService;
 
     public Company createCompany(Company company, User user) {
         company.setUser(user);
@@ -28,10 +35,19 @@ public class CompanyService {
         return companyRepository.save(company);
     }
 
+    public Optional<Company> findActiveByName(String name) {
+        return companyRepository.findFirstByNameIgnoreCaseAndIsActiveTrue(name);
+    }
+
     public Optional<Company> findById(Long id) {
         return companyRepository.findById(id);
     }
 
+    // Validator for conditional GETs, read without loading the company
+    public Optional<LocalDateTime> findLastModified(Long id) {
+        return companyRepository.findUpdatedAtById(id);
+    }
+
     public Optional<Company> findByUser(User user) {
         return companyRepository.findByUser(user);
     }
@@ -64,10 +80,14 @@ public class CompanyService {
         company.setTwitterUrl(companyDetails.getTwitterUrl());
         company.setFacebookUrl(companyDetails.getFacebookUrl());
 
-        return companyRepository.save(company);
+        Company savedCompany = companyRepository.save(company);
+        jobSearchViewService.refreshCompany(savedCompany);
+        jobDetailCache.invalidateCompany(id);
+        return savedCompany;
     }
 
-    public void deleteCompany(Long id, User currentUser) {
+    // Hides the company and its jobs at once; the rows are purged in the background
+    public PurgeTask deleteCompany(Long id, User currentUser) {
         Company company = companyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
@@ -76,23 +96,42 @@ public class CompanyService {
             throw new RuntimeException("You don't have permission to delete this company");
         }
 
-        companyRepository.deleteById(id);
+        LocalDateTime now = LocalDateTime.now();
+        jobSearchViewService.removeByCompany(id);
+        jobDetailCache.invalidateCompany(id);
+        jobRepository.softDeleteByCompanyId(id, now);
+        companyRepository.softDeleteById(id, now);
+        return purgeService.requestPurge(PurgeTask.Target.COMPANY, id, currentUser.getId());
     }
 
-    public Page<Company> getAllCompanies(Pageable pageable) {
-        return companyRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+    @Transactional(readOnly = true)
+    public <T> Page<T> getAllCompanies(Pageable pageable, Class<T> type) {
+        return companyRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable, type);
     }
 
-    public List<Company> searchCompanies(String keyword) {
-        return companyRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(keyword);
+    @Transactional(readOnly = true)
+    public <T> List<T> searchCompanies(String keyword, Class<T> type) {
+        return companyRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(keyword, type);
     }
 
-    public List<Company> getCompaniesByIndustry(String industry) {
-        return companyRepository.findByIndustryAndIsActiveTrue(industry);
+    @Transactional(readOnly = true)
+    public <T> List<T> getCompaniesByIndustry(String industry, Class<T> type) {
+        return companyRepository.findByIndustryAndIsActiveTrue(industry, type);
     }
 
-    public List<Company> getVerifiedCompanies() {
-        return companyRepository.findByIsVerifiedTrueAndIsActiveTrueOrderByCreatedAtDesc();
+    @Transactional(readOnly = true)
+    public <T> List<T> getVerifiedCompanies(Class<T> type) {
+        return companyRepository.findByIsVerifiedTrueAndIsActiveTrueOrderByCreatedAtDesc(type);
+    }
+
+    @Transactional(readOnly = true)
+    public <T> List<T> findAllById(List<Long> ids, Class<T> type) {
+        return companyRepository.findByIdIn(ids, type);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CompanyRepository.Summary> findSummary(Long id) {
+        return companyRepository.findProjectedById(id, CompanyRepository.Summary.class);
     }
 
     public Company verifyCompany(Long companyId) {
@@ -106,7 +145,10 @@ public class CompanyService {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
         company.setLogoUrl(logoUrl);
-        return companyRepository.save(company);
+        Company savedCompany = companyRepository.save(company);
+        jobSearchViewService.refreshCompany(savedCompany);
+        jobDetailCache.invalidateCompany(companyId);
+        return savedCompany;
     }
 
     public Company updateCompanyCoverImage(Long companyId, String coverImageUrl) {
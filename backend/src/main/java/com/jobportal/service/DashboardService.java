@@ -0,0 +1,114 @@
+package com.jobportal.service;
+
+import com.jobportal.config.DashboardProperties;
+import com.jobportal.config.QueryCount;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds GET /api/dashboard from independent sections that run concurrently, each in its own
+ * read-only transaction and within its own timeout. A section that fails or runs late is reported
+ * under errors and the rest is returned; sections still running when the response is assembled
+ * are cancelled, so no work outlives the request. Tasks carry the caller's security context, so
+ * replica routing keeps the user's reads sticky to the primary after a write, and the request's
+ * {@link QueryCount} scope, so their statements count toward the request.
+ *
+ * <p>Each request fans out on its own executor of at most dashboard.parallelism threads, shut down
+ * before the response is returned: the Java 17 stand-in for a structured task scope. A request
+ * holds no more pooled connections than that, and a slow request cannot take threads from others.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    private final DashboardProperties properties;
+    private final SavedJobService savedJobService;
+    private final JobApplicationService jobApplicationService;
+    private final NotificationService notificationService;
+    private final JobService jobService;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public Map<String, Object> getDashboard(User user, boolean timings) {
+        Map<String, Callable<Object>> sections = new LinkedHashMap<>();
+        sections.put("savedJobsCount", () -> savedJobService.getSavedJobCountByUser(user));
+        sections.put("applicationsCount", () -> jobApplicationService.getApplicationCountByUser(user));
+        sections.put("unreadNotificationsCount", () -> notificationService.getUnreadNotificationCount(user));
+        sections.put("recentJobs", () -> jobService.getRecentJobs(properties.getRecentJobs(),
+                FieldSelection.of(FieldSelection.View.SUMMARY)));
+        if (user.isEmployer()) {
+            sections.put("myJobs", () -> jobService.getJobsByUser(user));
+            sections.put("applicantsCount", () -> jobApplicationService.getApplicationCountByEmployer(user));
+        }
+
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(Executors.newFixedThreadPool(
+                Math.max(1, Math.min(properties.getParallelism(), sections.size())), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+        long start = System.nanoTime();
+        Map<String, Long> elapsed = new ConcurrentHashMap<>();
+        Map<String, Future<Object>> futures = new LinkedHashMap<>();
+        sections.forEach((name, section) -> futures.put(name, executor.submit(QueryCount.propagate(() -> {
+            try {
+                return section.call();
+            } finally {
+                elapsed.put(name, millisSince(start));
+            }
+        }))));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+                String name = entry.getKey();
+                long remaining = start + properties.timeoutFor(name).toNanos() - System.nanoTime();
+                try {
+                    response.put(name, entry.getValue().get(Math.max(remaining, 0), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    errors.put(name, "Timed out");
+                } catch (ExecutionException e) {
+                    log.warn("Dashboard section {} failed for user {}", name, user.getId(), e.getCause());
+                    errors.put(name, e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    errors.put(name, "Interrupted");
+                }
+            }
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+        response.put("errors", errors);
+
+        if (timings) {
+            Map<String, Long> sectionTimings = new LinkedHashMap<>();
+            futures.keySet().forEach(name -> sectionTimings.put(name, elapsed.getOrDefault(name, millisSince(start))));
+            sectionTimings.put("total", millisSince(start));
+            response.put("timingsMs", sectionTimings);
+        }
+        return response;
+    }
+
+    private static long millisSince(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
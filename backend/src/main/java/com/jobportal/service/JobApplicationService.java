@@ -2,10 +2,12 @@ package com.jobportal.service;
 
 import com.jobportal.dto.ApplicationRequest;
 import com.jobportal.dto.ApplicationResponse;
+import com.jobportal.dto.FieldSelection;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.JobApplication;
 import com.jobportal.entity.Notification;
 import com.jobportal.entity.User;
+import com.jobportal.repository.ArchivedJobApplicationRepository;
 import com.jobportal.repository.JobApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,10 +28,11 @@ import java.util.Optional;
 public class JobApplicationService {
 
     private final JobApplicationRepository jobApplicationRepository;
+    private final ArchivedJobApplicationRepository archivedJobApplicationRepository;
     private final JobService jobService;
     private final NotificationService notificationService;
 
-    public JobApplication createApplication(ApplicationRequest applicationRequest, User user) {
+    public ApplicationResponse createApplication(ApplicationRequest applicationRequest, User user) {
         Job job = jobService.findById(applicationRequest.getJobId())
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
@@ -64,15 +68,24 @@ public class JobApplicationService {
                 "/jobs/" + job.getId() + "/applications"
         );
 
-        return savedApplication;
+        return ApplicationResponse.fromApplication(savedApplication);
     }
 
     public Optional<JobApplication> findById(Long id) {
         return jobApplicationRepository.findById(id);
     }
 
-    public JobApplication updateApplicationStatus(Long id, JobApplication.ApplicationStatus status, 
-                                                String notes, User currentUser) {
+    // Selections without the free text fields are read through the summary projection
+    @Transactional(readOnly = true)
+    public Optional<ApplicationResponse> getApplication(Long id, FieldSelection selection) {
+        if (!selection.needs(ApplicationResponse.DETAIL_FIELDS)) {
+            return jobApplicationRepository.findSummaryById(id).map(ApplicationResponse::fromSummaryRow);
+        }
+        return jobApplicationRepository.findById(id).map(ApplicationResponse::fromApplication);
+    }
+
+    public ApplicationResponse updateApplicationStatus(Long id, JobApplication.ApplicationStatus status, 
+                                                     String notes, User currentUser) {
         JobApplication application = jobApplicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
@@ -102,10 +115,10 @@ public class JobApplicationService {
                 "/applications/" + application.getId()
         );
 
-        return savedApplication;
+        return ApplicationResponse.fromApplication(savedApplication);
     }
 
-    public JobApplication scheduleInterview(Long id, LocalDateTime interviewTime, String notes, User currentUser) {
+    public ApplicationResponse scheduleInterview(Long id, LocalDateTime interviewTime, String notes, User currentUser) {
         JobApplication application = jobApplicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
@@ -129,7 +142,7 @@ public class JobApplicationService {
                 "/applications/" + application.getId()
         );
 
-        return savedApplication;
+        return ApplicationResponse.fromApplication(savedApplication);
     }
 
     public void withdrawApplication(Long id, User currentUser) {
@@ -145,34 +158,80 @@ public class JobApplicationService {
         jobApplicationRepository.save(application);
     }
 
-    public Page<JobApplication> getApplicationsByUser(User user, Pageable pageable) {
-        return jobApplicationRepository.findByUserOrderByAppliedAtDesc(user, pageable);
+    // Applications to archived jobs follow the hot ones once paging passes them
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> getApplicationsByUser(User user, Pageable pageable, FieldSelection selection) {
+        if (!selection.needs(ApplicationResponse.DETAIL_FIELDS)) {
+            return ArchivePaging.page(pageable,
+                    hot -> jobApplicationRepository.findSummaryByUserId(user.getId(), hot)
+                            .map(ApplicationResponse::fromSummaryRow),
+                    () -> archivedJobApplicationRepository.countByUserId(user.getId()),
+                    archived -> archivedJobApplicationRepository.findSummaryByUserId(user.getId(), archived)
+                            .stream().map(ApplicationResponse::fromSummaryRow).collect(Collectors.toList()));
+        }
+        return ArchivePaging.page(pageable,
+                hot -> jobApplicationRepository.findByUserOrderByAppliedAtDesc(user, hot)
+                        .map(ApplicationResponse::fromApplication),
+                () -> archivedJobApplicationRepository.countByUserId(user.getId()),
+                archived -> archivedJobApplicationRepository.findByUserIdOrderByAppliedAtDesc(user.getId(), archived)
+                        .stream().map(ApplicationResponse::fromArchivedApplication).collect(Collectors.toList()));
     }
 
-    public Page<JobApplication> getApplicationsByJob(Long jobId, Pageable pageable) {
-        return jobApplicationRepository.findByJobIdOrderByAppliedAtDesc(jobId, pageable);
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> getApplicationsByJob(Long jobId, Pageable pageable, FieldSelection selection) {
+        if (!selection.needs(ApplicationResponse.DETAIL_FIELDS)) {
+            return ArchivePaging.page(pageable,
+                    hot -> jobApplicationRepository.findSummaryByJobId(jobId, hot)
+                            .map(ApplicationResponse::fromSummaryRow),
+                    () -> archivedJobApplicationRepository.countByJobId(jobId),
+                    archived -> archivedJobApplicationRepository.findSummaryByJobId(jobId, archived)
+                            .stream().map(ApplicationResponse::fromSummaryRow).collect(Collectors.toList()));
+        }
+        return ArchivePaging.page(pageable,
+                hot -> jobApplicationRepository.findByJobIdOrderByAppliedAtDesc(jobId, hot)
+                        .map(ApplicationResponse::fromApplication),
+                () -> archivedJobApplicationRepository.countByJobId(jobId),
+                archived -> archivedJobApplicationRepository.findByJobIdOrderByAppliedAtDesc(jobId, archived)
+                        .stream().map(ApplicationResponse::fromArchivedApplication).collect(Collectors.toList()));
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplication> getApplicationsByJob(Long jobId) {
         return jobApplicationRepository.findByJobIdOrderByAppliedAtDesc(jobId);
     }
 
-    public Page<JobApplication> getApplicationsByStatus(JobApplication.ApplicationStatus status, Pageable pageable) {
-        return jobApplicationRepository.findByStatusOrderByAppliedAtDesc(status, pageable);
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> getApplicationsByStatus(JobApplication.ApplicationStatus status, Pageable pageable,
+                                                             FieldSelection selection) {
+        if (!selection.needs(ApplicationResponse.DETAIL_FIELDS)) {
+            return jobApplicationRepository.findSummaryByStatus(status, pageable).map(ApplicationResponse::fromSummaryRow);
+        }
+        return jobApplicationRepository.findByStatusOrderByAppliedAtDesc(status, pageable)
+                .map(ApplicationResponse::fromApplication);
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplication> getApplicationsByStatus(JobApplication.ApplicationStatus status) {
         return jobApplicationRepository.findByStatusOrderByAppliedAtDesc(status);
     }
 
+    @Transactional(readOnly = true)
     public long getApplicationCountByUser(User user) {
         return jobApplicationRepository.countByUser(user);
     }
 
+    // Applications received across all of the employer's jobs
+    @Transactional(readOnly = true)
+    public long getApplicationCountByEmployer(User employer) {
+        return jobApplicationRepository.countByEmployer(employer.getId());
+    }
+
+    @Transactional(readOnly = true)
     public long getApplicationCountByJob(Long jobId) {
         return jobApplicationRepository.countByJobId(jobId);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasUserAppliedForJob(User user, Long jobId) {
         return jobApplicationRepository.existsByUserAndJobId(user, jobId);
     }
@@ -0,0 +1,146 @@
+package com.jobportal.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves jobs that have been inactive for longer than archive.after, with their details, skills,
+ * applications and saved-job rows, into the archived_* tables. Each chunk of jobs is copied with
+ * INSERT ... SELECT and deleted from the hot tables in one transaction, so a job is always in
+ * exactly one place; chunks are independent and the run can stop at any point.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobArchiver {
+
+    // hot table, archive table, columns copied, column holding the job id; deleted in this order
+    private static final String[][] TABLES = {
+            {"saved_jobs", "archived_saved_jobs", "id, job_id, saved_at, user_id", "job_id"},
+            {"job_applications", "archived_job_applications",
+                    "id, applied_at, created_at, interview_scheduled_at, job_id, reviewed_at, updated_at, user_id, "
+                            + "cover_letter, notes, rejection_reason, resume_url, status", "job_id"},
+            {"job_skills", "archived_job_skills", "job_id, skill_id", "job_id"},
+            {"job_details", "archived_job_details",
+                    "job_id, application_instructions, benefits, description, requirements", "job_id"},
+            {"jobs", "archived_jobs",
+                    "id, applications_count, currency, is_active, is_remote, max_salary, min_salary, views_count, "
+                            + "application_deadline, category_id, company_id, created_at, posted_by, updated_at, "
+                            + "summary, location, title, experience_level, job_type, external_ref", "id"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobDetailCache jobDetailCache;
+
+    private ScheduledExecutorService scheduler;
+
+    @Value("${archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${archive.after:90d}")
+    private Duration after;
+
+    @Value("${archive.interval:1h}")
+    private Duration interval;
+
+    @Value("${archive.chunk-size:100}")
+    private int chunkSize;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void runSafely() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.error("Job archiving failed", e);
+        }
+    }
+
+    // Returns the number of jobs moved
+    public int archive() {
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(after);
+        String select = "SELECT id FROM jobs WHERE is_active = false AND deleted_at IS NULL AND "
+                + "(updated_at < ? OR (updated_at IS NULL AND created_at < ?)) ORDER BY id LIMIT ?";
+
+        int moved = 0;
+        while (true) {
+            List<Long> candidates = jdbcTemplate.queryForList(select, Long.class, cutoff, cutoff, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Integer chunk = transactionTemplate.execute(status -> moveChunk(candidates));
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            moved += chunk;
+        }
+        if (moved > 0) {
+            log.info("Archived {} jobs inactive since before {} in {} ms", moved, cutoff, System.currentTimeMillis() - started);
+        }
+        return moved;
+    }
+
+    private int moveChunk(List<Long> candidates) {
+        // Re-checked under a row lock: a job reactivated or deleted since the scan stays where it is
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM jobs WHERE id IN (" + placeholders(candidates.size())
+                + ") AND is_active = false AND deleted_at IS NULL FOR UPDATE", Long.class, candidates.toArray());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = " IN (" + placeholders(ids.size()) + ")";
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> insertArgs = new ArrayList<>();
+        insertArgs.add(now);
+        insertArgs.addAll(ids);
+
+        for (String[] table : TABLES) {
+            jdbcTemplate.update("INSERT INTO " + table[1] + " (" + table[2] + ", archived_at) SELECT " + table[2]
+                    + ", ? FROM " + table[0] + " WHERE " + table[3] + in, insertArgs.toArray());
+        }
+        jdbcTemplate.update("DELETE FROM job_search_view WHERE job_id" + in, ids.toArray());
+        for (String[] table : TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table[0] + " WHERE " + table[3] + in, ids.toArray());
+        }
+        jobDetailCache.invalidateJobs(ids);
+        return ids.size();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
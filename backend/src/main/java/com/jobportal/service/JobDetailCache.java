@@ -0,0 +1,420 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.JobDetailCacheProperties;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.dto.JobResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Two-tier cache of assembled job detail responses. L1 is a small on-heap LRU of response
+ * objects; L2 is a ring buffer in direct memory holding the responses as JSON, so a much larger
+ * working set costs no heap and no GC work. Entries are stamped with a generation and checked on
+ * every read against the generation of their job, company and poster and against the reference
+ * data version; invalidation just bumps a generation after commit and never has to find entries.
+ *
+ * <p>Admission uses a frequency sketch: a job enters L2 only once it has been requested before,
+ * and displaces the L1 LRU victim only when it is requested more often, so a crawler walking every
+ * job once does not push popular jobs out.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobDetailCache {
+
+    // Generation maps are reset (invalidating everything cached) once they track this many entities
+    private static final int MAX_TRACKED_GENERATIONS = 10_000;
+
+    private final JobDetailCacheProperties properties;
+    private final ReferenceDataCache referenceDataCache;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Long> jobGenerations = new ConcurrentHashMap<>();
+    private final Map<Long, Long> companyGenerations = new ConcurrentHashMap<>();
+    private final Map<Long, Long> posterGenerations = new ConcurrentHashMap<>();
+    private volatile long floor;
+
+    private FrequencySketch sketch;
+    private LinkedHashMap<Long, HeapEntry> l1;
+    private OffHeapStore l2;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        sketch = new FrequencySketch(properties.getSketchSize());
+        l1 = new LinkedHashMap<>(16, 0.75f, true);
+        l2 = new OffHeapStore((int) Math.min(properties.getL2Capacity().toBytes(), Integer.MAX_VALUE));
+        log.info("Job detail cache: {} entries on heap, {} off heap", properties.getL1Size(), properties.getL2Capacity());
+    }
+
+    // Assembled response, a copy the caller may modify (e.g. to fill in live counters), and its content tag
+    public record Detail(JobResponse response, String contentTag) {
+
+        // Strong ETag of the response as filled in for this request; null without a content tag
+        public String eTag(FieldSelection selection) {
+            return contentTag == null ? null : JobDetailCache.eTag(contentTag, response.getViewsCount(),
+                    response.getApplicationsCount(), response.getUpdatedAt(), selection);
+        }
+    }
+
+    /**
+     * Strong ETag of a detail response: the content tag, plus the counters and updatedAt written
+     * into the response per request, plus the field selection when it is not the default.
+     */
+    public static String eTag(String contentTag, Integer viewsCount, Integer applicationsCount,
+                              LocalDateTime updatedAt, FieldSelection selection) {
+        StringBuilder eTag = new StringBuilder("\"").append(contentTag)
+                .append('-').append(viewsCount)
+                .append('-').append(applicationsCount);
+        if (updatedAt != null) {
+            eTag.append('-').append(Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC))).append('.').append(updatedAt.getNano());
+        }
+        if (!selection.isDefault(FieldSelection.View.DETAIL)) {
+            eTag.append('-').append(Integer.toHexString(selection.key().hashCode()));
+        }
+        return eTag.append('"').toString();
+    }
+
+    // Content tag of the cached response while it is current, without reading or deserializing it;
+    // null when the job is not cached
+    public String cachedContentTag(Long jobId) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        HeapEntry cached;
+        synchronized (l1) {
+            cached = l1.get(jobId);
+        }
+        if (cached != null && isCurrent(jobId, cached.stamp)) {
+            return cached.stamp.contentTag;
+        }
+        OffHeapStore.Slot slot = l2.slot(jobId);
+        return slot != null && isCurrent(jobId, slot.stamp) ? slot.stamp.contentTag : null;
+    }
+
+    /**
+     * Generation to pass to {@link #get}, read before the loading transaction's first query: an entity
+     * invalidated after it was read carries a newer generation, so a response loaded from a snapshot
+     * that predates the change is never served as current.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public Detail get(Long jobId, long filledAt, Supplier<JobResponse> loader) {
+        if (!properties.isEnabled()) {
+            JobResponse response = loader.get();
+            return new Detail(response, contentTag(response));
+        }
+        int frequency = sketch.increment(jobId);
+
+        HeapEntry cached;
+        synchronized (l1) {
+            cached = l1.get(jobId);
+        }
+        if (cached != null) {
+            if (isCurrent(jobId, cached.stamp)) {
+                return new Detail(copy(cached.response), cached.stamp.contentTag);
+            }
+            synchronized (l1) {
+                l1.remove(jobId, cached);
+            }
+        }
+
+        OffHeapStore.Slot slot = l2.slot(jobId);
+        if (slot != null) {
+            byte[] bytes = isCurrent(jobId, slot.stamp) ? l2.read(slot) : null;
+            if (bytes != null) {
+                JobResponse response = deserialize(bytes);
+                if (response != null) {
+                    admitToHeap(jobId, new HeapEntry(slot.stamp, response));
+                    return new Detail(copy(response), slot.stamp.contentTag);
+                }
+            }
+            l2.remove(jobId, slot);
+        }
+
+        long referenceVersion = referenceDataCache.getVersion();
+        JobResponse response = loader.get();
+        Stamp stamp = new Stamp(filledAt, referenceVersion,
+                response.getCompany() != null ? response.getCompany().getId() : null,
+                response.getPostedBy() != null ? response.getPostedBy().getId() : null,
+                System.currentTimeMillis() + properties.getTtl().toMillis(),
+                contentTag(response));
+
+        admitToHeap(jobId, new HeapEntry(stamp, response));
+        if (frequency > 1) {
+            byte[] bytes = serialize(response);
+            if (bytes != null && bytes.length <= properties.getMaxEntrySize().toBytes()) {
+                l2.put(jobId, stamp, bytes);
+            }
+        }
+        return new Detail(copy(response), stamp.contentTag);
+    }
+
+    // Counters and updatedAt are left out of the hash; eTag adds them per response
+    private String contentTag(JobResponse response) {
+        JobResponse content = copy(response);
+        content.setViewsCount(null);
+        content.setApplicationsCount(null);
+        content.setUpdatedAt(null);
+        byte[] bytes = serialize(content);
+        if (bytes == null) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return "job-" + response.getId() + "-" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length);
+    }
+
+    public void invalidateJob(Long jobId) {
+        invalidateJobs(List.of(jobId));
+    }
+
+    public void invalidateJobs(Collection<Long> jobIds) {
+        afterCommit(() -> jobIds.forEach(jobId -> bump(jobGenerations, jobId)));
+    }
+
+    public void invalidateCompany(Long companyId) {
+        afterCommit(() -> bump(companyGenerations, companyId));
+    }
+
+    public void invalidatePoster(Long userId) {
+        afterCommit(() -> bump(posterGenerations, userId));
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private void bump(Map<Long, Long> generations, Long id) {
+        if (id == null) {
+            return;
+        }
+        long next = generation.incrementAndGet();
+        if (generations.size() >= MAX_TRACKED_GENERATIONS) {
+            floor = next;
+            jobGenerations.clear();
+            companyGenerations.clear();
+            posterGenerations.clear();
+            return;
+        }
+        generations.put(id, next);
+    }
+
+    private boolean isCurrent(Long jobId, Stamp stamp) {
+        return stamp.generation >= floor
+                && System.currentTimeMillis() < stamp.expiresAt
+                && stamp.referenceVersion == referenceDataCache.getVersion()
+                && jobGenerations.getOrDefault(jobId, 0L) <= stamp.generation
+                && (stamp.companyId == null || companyGenerations.getOrDefault(stamp.companyId, 0L) <= stamp.generation)
+                && (stamp.posterId == null || posterGenerations.getOrDefault(stamp.posterId, 0L) <= stamp.generation);
+    }
+
+    private void admitToHeap(Long jobId, HeapEntry entry) {
+        synchronized (l1) {
+            if (l1.size() >= properties.getL1Size() && !l1.containsKey(jobId)) {
+                Map.Entry<Long, HeapEntry> victim = l1.entrySet().iterator().next();
+                if (sketch.frequency(jobId) <= sketch.frequency(victim.getKey())) {
+                    return;
+                }
+                l1.remove(victim.getKey());
+            }
+            l1.put(jobId, entry);
+        }
+    }
+
+    // Cached responses are shared; nested summaries are never modified, so a shallow copy is enough
+    private static JobResponse copy(JobResponse source) {
+        JobResponse copy = new JobResponse();
+        BeanUtils.copyProperties(source, copy);
+        return copy;
+    }
+
+    private byte[] serialize(JobResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            log.warn("Job detail cache: could not serialize job {}", response.getId(), e);
+            return null;
+        }
+    }
+
+    private JobResponse deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, JobResponse.class);
+        } catch (IOException e) {
+            log.warn("Job detail cache: dropping unreadable entry", e);
+            return null;
+        }
+    }
+
+    private record Stamp(long generation, long referenceVersion, Long companyId, Long posterId, long expiresAt,
+                         String contentTag) {
+    }
+
+    private record HeapEntry(Stamp stamp, JobResponse response) {
+    }
+
+    /**
+     * Append-only ring over one direct buffer. Positions grow forever; a slot written at
+     * {@code start} is intact while {@code head - capacity <= start}. Entries never wrap: one that
+     * does not fit before the end starts again at offset zero.
+     */
+    private static final class OffHeapStore {
+
+        private record Slot(Stamp stamp, long start, int length) {
+        }
+
+        private final ByteBuffer buffer;
+        private final int capacity;
+        private final Map<Long, Slot> index = new ConcurrentHashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private long head;
+
+        private OffHeapStore(int capacity) {
+            this.capacity = capacity;
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+        }
+
+        private Slot slot(Long key) {
+            return index.get(key);
+        }
+
+        private byte[] read(Slot slot) {
+            lock.readLock().lock();
+            try {
+                if (head - capacity > slot.start) {
+                    return null;
+                }
+                byte[] bytes = new byte[slot.length];
+                buffer.get((int) (slot.start % capacity), bytes);
+                return bytes;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void put(Long key, Stamp stamp, byte[] bytes) {
+            if (bytes.length > capacity) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                long start = head;
+                int offset = (int) (start % capacity);
+                if (offset + bytes.length > capacity) {
+                    start += capacity - offset;
+                    offset = 0;
+                }
+                head = start + bytes.length;
+                buffer.put(offset, bytes);
+                index.put(key, new Slot(stamp, start, bytes.length));
+                if (offset == 0) {
+                    // Once per lap: forget slots that have been overwritten
+                    long oldest = head - capacity;
+                    index.values().removeIf(slot -> slot.start < oldest);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(Long key, Slot slot) {
+            index.remove(key, slot);
+        }
+    }
+
+    /**
+     * Count-min sketch of recent request counts: four counters per key, the smallest is the
+     * estimate. Counters saturate at 15 and are halved every 10 x size increments, so the
+     * estimate follows current popularity rather than all-time totals.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final long[] SEEDS = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+        private final int[] counters;
+        private final int mask;
+        private final int resetAfter;
+        private int increments;
+
+        private FrequencySketch(int size) {
+            int width = Integer.highestOneBit(Math.max(size, 64) - 1) << 1;
+            this.counters = new int[width];
+            this.mask = width - 1;
+            this.resetAfter = width * 10;
+        }
+
+        // Returns the estimate including this request
+        private synchronized int increment(long key) {
+            int estimate = MAX_COUNT;
+            for (long seed : SEEDS) {
+                int index = index(key, seed);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                }
+                estimate = Math.min(estimate, counters[index]);
+            }
+            if (++increments >= resetAfter) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                increments /= 2;
+            }
+            return estimate;
+        }
+
+        private synchronized int frequency(long key) {
+            int estimate = MAX_COUNT;
+            for (long seed : SEEDS) {
+                estimate = Math.min(estimate, counters[index(key, seed)]);
+            }
+            return estimate;
+        }
+
+        private int index(long key, long seed) {
+            long hash = (key + seed) * 0xBF58476D1CE4E5B9L;
+            hash ^= hash >>> 31;
+            return (int) hash & mask;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jobportal.config.JsonFragmentProperties;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.JsonFragment;
+import com.jobportal.entity.JobSearchView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized list entries for job_search_view rows. An entry is reused while the row's
+ * row_version, the reference data version and the job's expired flag (computed from the
+ * deadline at serialization time) are unchanged, so list pages copy bytes instead of building
+ * and serializing a JobResponse per job. The view and application counters change with every
+ * view and application, so they are left out of the cached bytes and written in front of them
+ * from the row just read; counter updates do not touch row_version.
+ *
+ * <p>Also keeps gzipped copies of list pages that are served repeatedly with the same content,
+ * so hot pages skip serialization and compression as well, and the ETag each list URL was last
+ * served with, so a revalidation is answered before the list is queried. A remembered ETag holds
+ * until any listing changes here (bumped after commit) or the reference data changes, and for at
+ * most list-etag-ttl, which bounds how stale the counters in a 304'd page and changes made
+ * through other instances can be.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFragmentCache {
+
+    private final JsonFragmentProperties properties;
+    private final ReferenceDataCache referenceDataCache;
+    private final ObjectMapper objectMapper;
+
+    // Written per request in front of the cached entry
+    private static final Set<String> COUNTER_FIELDS = Set.of("viewsCount", "applicationsCount");
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private final Map<String, HotPage> pages = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, ServedList> servedLists = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong listGeneration = new AtomicLong();
+
+    public JsonFragment get(JobSearchView view, Supplier<JobResponse> response) {
+        long referenceVersion = referenceDataCache.getVersion();
+        boolean expired = view.getApplicationDeadline() != null
+                && LocalDateTime.now().isAfter(view.getApplicationDeadline());
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(view.getId());
+        }
+        if (entry == null || entry.rowVersion != view.getRowVersion()
+                || entry.referenceVersion != referenceVersion || entry.expired != expired) {
+            entry = new Entry(view.getRowVersion(), referenceVersion, expired, new JsonFragment(serialize(response.get())));
+            synchronized (entries) {
+                entries.put(view.getId(), entry);
+                if (entries.size() > properties.getMaxEntries()) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+            }
+        }
+        return entry.fragment.withLeadingProperties(counters(view));
+    }
+
+    // Entries for other views and field lists are serialized per request and not kept
+    public JsonFragment serialize(JobResponse response, FieldSelection selection) {
+        try {
+            return new JsonFragment(selection.writer(objectMapper, JobResponse.DETAIL_FIELDS).writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job " + response.getId(), e);
+        }
+    }
+
+    /**
+     * Gzipped body of the page at {@code url} once it has been served hot-page-threshold times
+     * with the same {@link #stamp}, else null. The body is serialized only for that one copy.
+     */
+    public byte[] gzipIfHot(String url, long stamp, Supplier<byte[]> body) {
+        if (!properties.isGzipHotPages()) {
+            return null;
+        }
+        synchronized (pages) {
+            HotPage page = pages.get(url);
+            if (page != null && page.stamp == stamp && page.gzipped != null) {
+                return page.gzipped;
+            }
+            if (page == null || page.stamp != stamp) {
+                page = new HotPage(stamp);
+                pages.put(url, page);
+                if (pages.size() > properties.getHotPages()) {
+                    pages.remove(pages.keySet().iterator().next());
+                }
+            }
+            if (++page.hits < properties.getHotPageThreshold()) {
+                return null;
+            }
+        }
+
+        byte[] gzipped = gzip(body.get());
+        synchronized (pages) {
+            HotPage page = pages.get(url);
+            if (page != null && page.stamp == stamp) {
+                page.gzipped = gzipped;
+            }
+        }
+        return gzipped;
+    }
+
+    // Called inside the transaction that changes a listing
+    public void listsChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            listGeneration.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                listGeneration.incrementAndGet();
+            }
+        });
+    }
+
+    // Read before the list is queried and passed to served(), so a change committed meanwhile is never hidden
+    public long listGeneration() {
+        return listGeneration.get();
+    }
+
+    // ETag the list at key was last served with, while it still holds; else null
+    public String servedETag(String key) {
+        ServedList served;
+        synchronized (servedLists) {
+            served = servedLists.get(key);
+        }
+        if (served == null || served.generation != listGeneration.get()
+                || served.referenceVersion != referenceDataCache.getVersion()
+                || System.nanoTime() - served.servedAt > properties.getListEtagTtl().toNanos()) {
+            return null;
+        }
+        return served.eTag;
+    }
+
+    public void served(String key, long generation, String eTag) {
+        ServedList served = new ServedList(generation, referenceDataCache.getVersion(), System.nanoTime(), eTag);
+        synchronized (servedLists) {
+            servedLists.put(key, served);
+            if (servedLists.size() > properties.getListEtags()) {
+                servedLists.remove(servedLists.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Identity of a list body (a page or list of fragments) from the fragments' checksums and the
+     * page position, so ETags and hot pages are decided without serializing the body. Bodies of
+     * the same URL with equal stamps serialize to the same bytes.
+     */
+    public static long stamp(Object body) {
+        long stamp = 17;
+        List<?> content;
+        if (body instanceof Page<?> page) {
+            stamp = stamp * 31 + page.getTotalElements();
+            stamp = stamp * 31 + page.getNumber();
+            stamp = stamp * 31 + page.getSize();
+            stamp = stamp * 31 + page.getSort().hashCode();
+            content = page.getContent();
+        } else {
+            content = (List<?>) body;
+        }
+        for (Object item : content) {
+            stamp = stamp * 31 + (item instanceof JsonFragment fragment ? fragment.getChecksum() : Objects.hashCode(item));
+        }
+        return stamp;
+    }
+
+    // Strong ETag for a list body
+    public static String eTag(String prefix, long stamp) {
+        return "\"" + prefix + "-" + Long.toHexString(stamp) + "\"";
+    }
+
+    private byte[] serialize(JobResponse response) {
+        try {
+            return objectMapper.writer(new SimpleFilterProvider().addFilter(FieldSelection.FILTER,
+                    SimpleBeanPropertyFilter.serializeAllExcept(COUNTER_FIELDS))).writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job " + response.getId(), e);
+        }
+    }
+
+    private static byte[] counters(JobSearchView view) {
+        return ("\"viewsCount\":" + view.getViewsCount() + ",\"applicationsCount\":" + view.getApplicationsCount() + ",")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Entry(long rowVersion, long referenceVersion, boolean expired, JsonFragment fragment) {
+    }
+
+    private record ServedList(long generation, long referenceVersion, long servedAt, String eTag) {
+    }
+
+    private static final class HotPage {
+
+        private final long stamp;
+        private int hits;
+        private byte[] gzipped;
+
+        private HotPage(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.jobportal.dto.JobImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a bulk import feed one row at a time, so a feed of any length is parsed in constant
+ * memory. CSV feeds start with a header row naming {@link JobImportRow} properties; list columns
+ * (skills, requiredSkillIds) separate their values with ; or |. NDJSON feeds hold one object per
+ * line. A row that cannot be parsed is returned with an error and does not stop the feed.
+ */
+public final class JobImportFeed implements Closeable {
+
+    private static final Set<String> LIST_COLUMNS = Set.of("skills", "requiredSkillIds");
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format of(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unsupported import format: " + format + " (csv or ndjson)");
+            }
+        }
+
+        public static Format forFilename(String filename) {
+            String lower = filename.toLowerCase();
+            return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+        }
+    }
+
+    // number counts data rows from 1; job is null when error is set
+    public record Row(long number, JobImportRow job, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long number;
+
+    public JobImportFeed(InputStream in, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // The next row, or null at the end of the feed
+    public Row next() throws IOException {
+        return format == Format.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        number++;
+        try {
+            return new Row(number, objectMapper.readValue(line, JobImportRow.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(number, null, describe(e));
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+                names.set(0, names.get(0).substring(1));
+            }
+            header = names.stream().map(String::trim).collect(Collectors.toList());
+        }
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        number++;
+        if (values.size() != header.size()) {
+            return new Row(number, null, "Expected " + header.size() + " columns, found " + values.size());
+        }
+        Map<String, Object> properties = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            properties.put(header.get(i), LIST_COLUMNS.contains(header.get(i))
+                    ? Arrays.stream(value.split("[;|]")).map(String::trim).filter(item -> !item.isEmpty())
+                            .collect(Collectors.toList())
+                    : value);
+        }
+        try {
+            return new Row(number, objectMapper.convertValue(properties, JobImportRow.class), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(number, null, e.getCause() instanceof JsonProcessingException cause
+                    ? describe(cause) : "Invalid row");
+        }
+    }
+
+    // RFC 4180 record: quoted fields may contain separators, doubled quotes and line breaks
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        for (int c; (c = reader.read()) != -1; ) {
+            read = true;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    reader.read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+        return c;
+    }
+
+    private static String describe(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            if (e instanceof InvalidFormatException invalid) {
+                return "Invalid value for " + field + ": " + invalid.getValue();
+            }
+            return "Invalid value for " + field;
+        }
+        return "Malformed row: " + e.getOriginalMessage();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
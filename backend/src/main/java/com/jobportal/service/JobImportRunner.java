@@ -0,0 +1,58 @@
+package com.jobportal.service;
+
+import com.jobportal.config.JobImportProperties;
+import com.jobportal.dto.JobImportReport;
+import com.jobportal.entity.User;
+import com.jobportal.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line job import, for feeds too large to upload:
+ * <pre>
+ * java -jar job-portal.jar --spring.main.web-application-type=none \
+ *     --job-import.file=jobs.csv --job-import.posted-by=hr@example.com
+ * </pre>
+ * Exits with status 1 when any row failed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobImportRunner implements ApplicationRunner {
+
+    private final JobImportService jobImportService;
+    private final UserRepository userRepository;
+    private final JobImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.getFile() == null || properties.getFile().isBlank()) {
+            return;
+        }
+        Path file = Path.of(properties.getFile());
+        User poster = userRepository.findByEmail(properties.getPostedBy())
+                .orElseThrow(() -> new RuntimeException("job-import.posted-by is not a known user: " + properties.getPostedBy()));
+        JobImportReport report;
+        try (InputStream in = Files.newInputStream(file)) {
+            report = jobImportService.importFeed(in, JobImportFeed.Format.forFilename(file.toString()), poster);
+        }
+        for (JobImportReport.RowError error : report.getErrors()) {
+            log.warn("Row {} ({}): {}", error.row(), error.externalRef(), error.message());
+        }
+        if (report.isErrorsTruncated()) {
+            log.warn("Further row errors were not listed");
+        }
+        int status = report.getFailed() > 0 ? 1 : 0;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,256 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.JobImportProperties;
+import com.jobportal.dto.JobImportReport;
+import com.jobportal.dto.JobImportRow;
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Company;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobDetails;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.repository.JobDetailsRepository;
+import com.jobportal.repository.JobRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk job import. The feed is read a row at a time; each row is validated and its company,
+ * category and skills are resolved in memory (categories and skills from the reference data
+ * snapshot, companies looked up once per import), and rows are written in transactions of
+ * job-import.batch-size jobs. Jobs are matched on the poster's external reference: importing a
+ * feed again updates the jobs it created, and references of deleted or archived jobs are skipped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobImportService {
+
+    private final JobRepository jobRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final CompanyService companyService;
+    private final ReferenceDataCache referenceDataCache;
+    private final JobSearchViewService jobSearchViewService;
+    private final JobDetailCache jobDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final JobImportProperties properties;
+
+    private enum Outcome {
+        CREATED, UPDATED, SKIPPED
+    }
+
+    private record Resolved(long number, JobImportRow row, Company company, Category category, Set<Skill> skills) {
+    }
+
+    public JobImportReport importFeed(InputStream in, JobImportFeed.Format format, User poster) throws IOException {
+        if (!poster.isEmployer() && !poster.isAdmin()) {
+            throw new RuntimeException("Only employers can import jobs");
+        }
+        long started = System.currentTimeMillis();
+        JobImportReport report = new JobImportReport();
+        // Company id or lower-cased name -> company, for the whole import
+        Map<String, Optional<Company>> companies = new HashMap<>();
+        List<Resolved> batch = new ArrayList<>(properties.getBatchSize());
+        try (JobImportFeed feed = new JobImportFeed(in, format, objectMapper)) {
+            for (JobImportFeed.Row row; (row = feed.next()) != null; ) {
+                report.setRows(report.getRows() + 1);
+                if (row.error() != null) {
+                    fail(report, row.number(), null, row.error());
+                    continue;
+                }
+                try {
+                    batch.add(resolve(row.number(), row.job(), companies));
+                } catch (RuntimeException e) {
+                    fail(report, row.number(), row.job().getExternalRef(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() >= properties.getBatchSize()) {
+                    write(batch, poster, report);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch, poster, report);
+        }
+        report.setDurationMs(System.currentTimeMillis() - started);
+        log.info("Imported jobs for user {}: {} rows, {} created, {} updated, {} skipped, {} failed in {} ms",
+                poster.getId(), report.getRows(), report.getCreated(), report.getUpdated(), report.getSkipped(),
+                report.getFailed(), report.getDurationMs());
+        return report;
+    }
+
+    private Resolved resolve(long number, JobImportRow row, Map<String, Optional<Company>> companies) {
+        Set<ConstraintViolation<JobImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new RuntimeException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        Company company = null;
+        if (row.getCompanyId() != null) {
+            company = companies.computeIfAbsent("#" + row.getCompanyId(), key -> companyService.findById(row.getCompanyId()))
+                    .orElseThrow(() -> new RuntimeException("Unknown company id: " + row.getCompanyId()));
+        } else if (row.getCompany() != null) {
+            company = companies.computeIfAbsent(row.getCompany().toLowerCase(Locale.ROOT),
+                            key -> companyService.findActiveByName(row.getCompany()))
+                    .orElseThrow(() -> new RuntimeException("Unknown company: " + row.getCompany()));
+        }
+
+        Category category = null;
+        if (row.getCategoryId() != null) {
+            category = referenceDataCache.findCategory(row.getCategoryId())
+                    .orElseThrow(() -> new RuntimeException("Unknown category id: " + row.getCategoryId()));
+        } else if (row.getCategory() != null) {
+            category = referenceDataCache.findCategoryByName(row.getCategory())
+                    .orElseThrow(() -> new RuntimeException("Unknown category: " + row.getCategory()));
+        }
+
+        Set<Skill> skills = new HashSet<>();
+        if (row.getRequiredSkillIds() != null) {
+            for (Long id : row.getRequiredSkillIds()) {
+                skills.add(referenceDataCache.findSkill(id)
+                        .orElseThrow(() -> new RuntimeException("Unknown skill id: " + id)));
+            }
+        }
+        if (row.getSkills() != null) {
+            for (String name : row.getSkills()) {
+                skills.add(referenceDataCache.findSkillByName(name)
+                        .orElseThrow(() -> new RuntimeException("Unknown skill: " + name)));
+            }
+        }
+        return new Resolved(number, row, company, category, skills);
+    }
+
+    // A batch that fails to commit is retried one row per transaction, so one bad row only fails itself
+    private void write(List<Resolved> batch, User poster, JobImportReport report) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> save(batch, poster));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                Resolved resolved = batch.get(0);
+                log.warn("Job import row {} failed", resolved.number(), e);
+                fail(report, resolved.number(), resolved.row().getExternalRef(),
+                        "Could not be saved: " + firstLine(NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return;
+            }
+            log.warn("Job import batch of {} rows failed, retrying row by row", batch.size(), e);
+            batch.forEach(resolved -> write(List.of(resolved), poster, report));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            switch (outcomes.get(i)) {
+                case CREATED -> report.setCreated(report.getCreated() + 1);
+                case UPDATED -> report.setUpdated(report.getUpdated() + 1);
+                case SKIPPED -> {
+                    report.setSkipped(report.getSkipped() + 1);
+                    report.addError(batch.get(i).number(), batch.get(i).row().getExternalRef(),
+                            "A job with this reference was deleted or archived", properties.getMaxErrors());
+                }
+            }
+        }
+    }
+
+    // Returns the outcome of each row, in batch order
+    private List<Outcome> save(List<Resolved> batch, User poster) {
+        Set<String> refs = batch.stream().map(resolved -> resolved.row().getExternalRef()).collect(Collectors.toSet());
+        Map<String, Job> jobs = jobRepository.findByPostedBy_IdAndExternalRefIn(poster.getId(), refs).stream()
+                .collect(Collectors.toMap(Job::getExternalRef, Function.identity()));
+        List<Long> existingIds = jobs.values().stream().map(Job::getId).collect(Collectors.toList());
+        Set<String> retired = new HashSet<>(jobRepository.findRetiredExternalRefs(poster.getId(), refs));
+
+        List<Outcome> outcomes = new ArrayList<>();
+        // Reference -> job and its last row, in feed order; a reference repeated in a batch updates the same job
+        Map<String, Job> touched = new LinkedHashMap<>();
+        Map<String, JobImportRow> rows = new HashMap<>();
+        for (Resolved resolved : batch) {
+            JobImportRow row = resolved.row();
+            String ref = row.getExternalRef();
+            Job job = jobs.get(ref);
+            if (job == null && retired.contains(ref)) {
+                outcomes.add(Outcome.SKIPPED);
+                continue;
+            }
+            if (job == null) {
+                job = new Job();
+                job.setExternalRef(ref);
+                job.setPostedBy(poster);
+                job.setIsActive(true);
+                job.setViewsCount(0);
+                job.setApplicationsCount(0);
+                jobs.put(ref, job);
+                outcomes.add(Outcome.CREATED);
+            } else {
+                outcomes.add(Outcome.UPDATED);
+            }
+            JobService.applyFields(job, row);
+            job.setCompany(resolved.company());
+            job.setCategory(resolved.category());
+            job.getRequiredSkills().clear();
+            job.getRequiredSkills().addAll(resolved.skills());
+            touched.put(ref, job);
+            rows.put(ref, row);
+        }
+        if (touched.isEmpty()) {
+            return outcomes;
+        }
+
+        // Ids are assigned here, before the details rows that share them are created
+        jobRepository.saveAll(touched.values());
+        Map<Long, JobDetails> details = existingIds.isEmpty() ? new HashMap<>()
+                : jobDetailsRepository.findAllById(existingIds).stream()
+                        .collect(Collectors.toMap(JobDetails::getJobId, Function.identity()));
+        List<JobDetails> detailsToSave = new ArrayList<>();
+        touched.forEach((ref, job) -> {
+            JobDetails jobDetails = details.get(job.getId());
+            if (jobDetails == null) {
+                jobDetails = new JobDetails();
+                jobDetails.setJob(job);
+            }
+            JobService.applyDetails(jobDetails, rows.get(ref));
+            detailsToSave.add(jobDetails);
+        });
+        jobDetailsRepository.saveAll(detailsToSave);
+
+        // Flushed so the audited timestamps are set before they are copied into the search view
+        jobRepository.flush();
+        jobSearchViewService.refresh(touched.values());
+        jobDetailCache.invalidateJobs(existingIds);
+        return outcomes;
+    }
+
+    // Driver messages go on to quote the whole statement
+    private static String firstLine(String message) {
+        return message == null ? "unknown error" : message.lines().findFirst().orElse(message);
+    }
+
+    private void fail(JobImportReport report, long number, String externalRef, String message) {
+        report.setFailed(report.getFailed() + 1);
+        report.addError(number, externalRef, message, properties.getMaxErrors());
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobportal.service;
+
+import com.jobportal.config.JobSearchViewProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills job_search_view for databases that had jobs before the view existed, and repairs it
+ * after writes that bypassed the services. Chunks are separate transactions that upsert rows,
+ * so listings keep working while it runs.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchViewRebuild implements ApplicationRunner {
+
+    private final JobSearchViewService jobSearchViewService;
+    private final JobSearchViewProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isRebuildWhenStale() && jobSearchViewService.isStale()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        long rows = 0;
+        long lastId = 0;
+        List<Long> ids;
+        while (!(ids = jobSearchViewService.rebuildChunk(lastId, properties.getRebuildChunkSize())).isEmpty()) {
+            rows += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+        int removed = jobSearchViewService.removeInactive();
+        log.info("Rebuilt job_search_view: {} rows written, {} stale rows removed in {} ms",
+                rows, removed, System.currentTimeMillis() - started);
+    }
+}
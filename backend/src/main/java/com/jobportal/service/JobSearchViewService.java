@@ -0,0 +1,267 @@
+package com.jobportal.service;
+
+import com.jobportal.config.JobSearchViewProperties;
+import com.jobportal.dto.FieldSelection;
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.JsonFragment;
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Company;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobDetails;
+import com.jobportal.entity.JobSearchView;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.repository.JobDetailsRepository;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.JobSearchViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps job_search_view in step with the tables it copies from. Every mutation that changes
+ * a listed field calls in here inside its own transaction, so the view commits or rolls back
+ * together with the source row. Depends on repositories only; the domain services call it.
+ * Changed jobs are also passed on to {@link SyndicationService}, which rewrites their files, and
+ * every change but a counter update ends the list ETags remembered by {@link JobFragmentCache}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class JobSearchViewService {
+
+    private final JobSearchViewRepository jobSearchViewRepository;
+    private final JobRepository jobRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final JobFragmentCache jobFragmentCache;
+    private final SyndicationService syndicationService;
+    private final JobSearchViewProperties properties;
+
+    public void refresh(Job job) {
+        jobFragmentCache.listsChanged();
+        if (!Boolean.TRUE.equals(job.getIsActive())) {
+            remove(job.getId());
+            return;
+        }
+
+        JobSearchView view = jobSearchViewRepository.findById(job.getId()).orElseGet(() -> {
+            JobSearchView created = new JobSearchView();
+            created.setJob(job);
+            return created;
+        });
+        jobSearchViewRepository.save(copy(job, view));
+        syndicationService.markChanged(List.of(job.getId()));
+    }
+
+    // Bulk form for imports: the existing rows are read with one query
+    public void refresh(Collection<Job> jobs) {
+        jobFragmentCache.listsChanged();
+        remove(jobs.stream().filter(job -> !Boolean.TRUE.equals(job.getIsActive()))
+                .map(Job::getId).collect(Collectors.toList()));
+        List<Job> active = jobs.stream().filter(job -> Boolean.TRUE.equals(job.getIsActive())).collect(Collectors.toList());
+        if (active.isEmpty()) {
+            return;
+        }
+        Map<Long, JobSearchView> existing = jobSearchViewRepository.findAllById(
+                        active.stream().map(Job::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(JobSearchView::getId, Function.identity()));
+        jobSearchViewRepository.saveAll(active.stream().map(job -> {
+            JobSearchView view = existing.get(job.getId());
+            if (view == null) {
+                view = new JobSearchView();
+                view.setJob(job);
+            }
+            return copy(job, view);
+        }).collect(Collectors.toList()));
+        syndicationService.markChanged(active.stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
+    private JobSearchView copy(Job job, JobSearchView view) {
+        view.setTitle(job.getTitle());
+        view.setTitleLower(lower(job.getTitle()));
+        view.setSummary(job.getSummary());
+        view.setLocation(job.getLocation());
+        view.setLocationLower(lower(job.getLocation()));
+        view.setJobType(job.getJobType());
+        view.setExperienceLevel(job.getExperienceLevel());
+        view.setMinSalary(job.getMinSalary());
+        view.setMaxSalary(job.getMaxSalary());
+        view.setCurrency(job.getCurrency());
+        view.setMinSalaryBase(toBaseCurrency(job.getMinSalary(), job.getCurrency()));
+        view.setMaxSalaryBase(toBaseCurrency(job.getMaxSalary(), job.getCurrency()));
+        view.setIsRemote(job.getIsRemote());
+        view.setApplicationDeadline(job.getApplicationDeadline());
+        view.setViewsCount(job.getViewsCount());
+        view.setApplicationsCount(job.getApplicationsCount());
+        view.setCreatedAt(job.getCreatedAt());
+        view.setUpdatedAt(job.getUpdatedAt());
+
+        User poster = job.getPostedBy();
+        view.setPostedById(poster.getId());
+        view.setPosterFirstName(poster.getFirstName());
+        view.setPosterLastName(poster.getLastName());
+        view.setPosterEmail(poster.getEmail());
+
+        Company company = job.getCompany();
+        view.setCompanyId(company != null ? company.getId() : null);
+        view.setCompanyName(company != null ? company.getName() : null);
+        view.setCompanyLogoUrl(company != null ? company.getLogoUrl() : null);
+        view.setCompanyIndustry(company != null ? company.getIndustry() : null);
+        view.setCompanyLocation(company != null ? company.getFullAddress() : null);
+
+        Category category = job.getCategory();
+        view.setCategoryId(category != null ? category.getId() : null);
+        view.setCategoryName(category != null ? category.getName() : null);
+        view.setCategoryIcon(category != null ? category.getIcon() : null);
+        view.setCategoryColor(category != null ? category.getColor() : null);
+
+        view.setSkillIdList(job.getRequiredSkills().stream().map(Skill::getId).collect(Collectors.toList()));
+        view.setRowVersion(view.getRowVersion() == null
+                ? System.currentTimeMillis()
+                : Math.max(view.getRowVersion() + 1, System.currentTimeMillis()));
+        return view;
+    }
+
+    public void remove(Long jobId) {
+        remove(List.of(jobId));
+    }
+
+    public void remove(Collection<Long> jobIds) {
+        jobFragmentCache.listsChanged();
+        if (!jobIds.isEmpty()) {
+            jobSearchViewRepository.deleteByJobIds(jobIds);
+            syndicationService.markChanged(jobIds);
+        }
+    }
+
+    public void removeByCompany(Long companyId) {
+        jobFragmentCache.listsChanged();
+        if (jobSearchViewRepository.deleteByCompanyId(companyId) > 0) {
+            syndicationService.markAllChanged();
+        }
+    }
+
+    public void removeByOwner(Long userId) {
+        jobFragmentCache.listsChanged();
+        if (jobSearchViewRepository.deleteByOwner(userId) > 0) {
+            syndicationService.markAllChanged();
+        }
+    }
+
+    public void updateCounters(Job job) {
+        jobSearchViewRepository.updateCounters(job.getId(), job.getViewsCount(), job.getApplicationsCount());
+    }
+
+    public void refreshCompany(Company company) {
+        jobFragmentCache.listsChanged();
+        if (jobSearchViewRepository.updateCompany(company.getId(), company.getName(), company.getLogoUrl(),
+                company.getIndustry(), company.getFullAddress()) > 0) {
+            syndicationService.markAllChanged();
+        }
+    }
+
+    public void refreshCategory(Category category) {
+        jobFragmentCache.listsChanged();
+        if (jobSearchViewRepository.updateCategory(category.getId(), category.getName(), category.getIcon(),
+                category.getColor()) > 0) {
+            syndicationService.markAllChanged();
+        }
+    }
+
+    public void refreshPoster(User user) {
+        jobFragmentCache.listsChanged();
+        jobSearchViewRepository.updatePoster(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+
+    // One listed job from its single row, without the joins of the summary graph
+    @Transactional(readOnly = true)
+    public Optional<JobResponse> findResponse(Long jobId) {
+        return jobSearchViewRepository.findById(jobId)
+                .map(view -> JobResponse.fromSearchView(view, referenceDataCache.getSkillsById()));
+    }
+
+    // List entries are serialized once per row version and written into the page as raw JSON
+    @Transactional(readOnly = true)
+    public Page<JsonFragment> toFragments(Page<JobSearchView> views, FieldSelection selection) {
+        return views.map(fragments(views.getContent(), selection));
+    }
+
+    @Transactional(readOnly = true)
+    public List<JsonFragment> toFragments(List<JobSearchView> views, FieldSelection selection) {
+        return views.stream().map(fragments(views, selection)).collect(Collectors.toList());
+    }
+
+    // The cached summary entries serve the default list view. Other views and field lists are
+    // serialized per request; job_details is read for the page, in one query, only when they need it
+    private Function<JobSearchView, JsonFragment> fragments(List<JobSearchView> views, FieldSelection selection) {
+        Map<Long, Skill> skills = referenceDataCache.getSkillsById();
+        if (selection.isDefault(FieldSelection.View.SUMMARY)) {
+            return view -> jobFragmentCache.get(view, () -> JobResponse.fromSearchView(view, skills));
+        }
+        Map<Long, JobDetails> details = selection.needs(JobResponse.DETAIL_FIELDS) && !views.isEmpty()
+                ? jobDetailsRepository.findAllById(views.stream().map(JobSearchView::getId).collect(Collectors.toList()))
+                        .stream().collect(Collectors.toMap(JobDetails::getJobId, Function.identity()))
+                : Map.of();
+        return view -> {
+            JobResponse response = JobResponse.fromSearchView(view, skills);
+            response.applyDetails(details.get(view.getId()));
+            return jobFragmentCache.serialize(response, selection);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isStale() {
+        return jobSearchViewRepository.count() != jobRepository.countActiveJobs();
+    }
+
+    // Upserts the next chunk of active jobs in id order and returns their ids; empty when done
+    public List<Long> rebuildChunk(Long afterId, int size) {
+        List<Job> jobs = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderById(afterId, PageRequest.of(0, size));
+        List<Long> ids = jobs.stream().map(Job::getId).collect(Collectors.toList());
+        if (!ids.isEmpty()) {
+            jobRepository.fetchRequiredSkills(ids);
+            // Existing rows land in the persistence context, so refresh() finds them without a query each
+            jobSearchViewRepository.findAllById(ids);
+            jobs.forEach(this::refresh);
+        }
+        return ids;
+    }
+
+    public int removeInactive() {
+        jobFragmentCache.listsChanged();
+        int removed = jobSearchViewRepository.deleteInactive();
+        if (removed > 0) {
+            syndicationService.markAllChanged();
+        }
+        return removed;
+    }
+
+    private BigDecimal toBaseCurrency(BigDecimal amount, String currency) {
+        if (amount == null || currency == null) {
+            return null;
+        }
+        if (currency.equalsIgnoreCase(properties.getBaseCurrency())) {
+            return amount;
+        }
+        BigDecimal rate = properties.getRates().get(currency.toUpperCase());
+        return rate != null ? amount.multiply(rate).setScale(2, RoundingMode.HALF_UP) : null;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+}
@@ -1,20 +1,40 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.BatchResponse;
+import com.jobportal.dto.FieldSelection;
 import com.jobportal.dto.JobRequest;
+import com.jobportal.dto.PurgeTask;
 import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.JsonFragment;
+import com.jobportal.entity.ArchivedJob;
 import com.jobportal.entity.Job;
+import com.jobportal.entity.JobDetails;
 import com.jobportal.entity.User;
+import com.jobportal.repository.ArchivedJobRepository;
+import com.jobportal.repository.JobDetailsRepository;
 import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.JobSearchViewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,26 +42,25 @@ import java.util.Optional;
 @Transactional
 public class JobService {
 
+    private static final int SUMMARY_LENGTH = 300;
+    private static final int MAX_RECENT_JOBS = 50;
+
     private final JobRepository jobRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final JobSearchViewRepository jobSearchViewRepository;
+    private final ArchivedJobRepository archivedJobRepository;
     private final CompanyService companyService;
     private final CategoryService categoryService;
     private final SkillService skillService;
+    private final JobSearchViewService jobSearchViewService;
+    private final JobDetailCache jobDetailCache;
+    private final PurgeService purgeService;
+    private final SingleFlight singleFlight;
+    private final PlatformTransactionManager transactionManager;
 
-    public Job createJob(JobRequest jobRequest, User postedBy) {
+    public JobResponse createJob(JobRequest jobRequest, User postedBy) {
         Job job = new Job();
-        job.setTitle(jobRequest.getTitle());
-        job.setDescription(jobRequest.getDescription());
-        job.setLocation(jobRequest.getLocation());
-        job.setJobType(jobRequest.getJobType());
-        job.setExperienceLevel(jobRequest.getExperienceLevel());
-        job.setMinSalary(jobRequest.getMinSalary());
-        job.setMaxSalary(jobRequest.getMaxSalary());
-        job.setCurrency(jobRequest.getCurrency());
-        job.setIsRemote(jobRequest.getIsRemote());
-        job.setApplicationDeadline(jobRequest.getApplicationDeadline());
-        job.setRequirements(jobRequest.getRequirements());
-        job.setBenefits(jobRequest.getBenefits());
-        job.setApplicationInstructions(jobRequest.getApplicationInstructions());
+        applyFields(job, jobRequest);
         job.setPostedBy(postedBy);
         job.setIsActive(true);
         job.setViewsCount(0);
@@ -52,7 +71,7 @@ public class JobService {
             job.setCompany(companyService.findById(jobRequest.getCompanyId()).orElse(null));
         }
 
-        // Set category if provided
+        // Set category if provided; category and skills resolve from the reference data snapshot without a query
         if (jobRequest.getCategoryId() != null) {
             job.setCategory(categoryService.findById(jobRequest.getCategoryId()).orElse(null));
         }
@@ -61,21 +80,113 @@ public class JobService {
 
         // Add required skills
         if (jobRequest.getRequiredSkillIds() != null && !jobRequest.getRequiredSkillIds().isEmpty()) {
-            jobRequest.getRequiredSkillIds().forEach(skillId -> {
-                skillService.findById(skillId).ifPresent(skill -> {
-                    savedJob.getRequiredSkills().add(skill);
-                });
-            });
+            savedJob.getRequiredSkills().addAll(skillService.findAllById(jobRequest.getRequiredSkillIds()));
         }
 
-        return jobRepository.save(savedJob);
+        JobDetails details = new JobDetails();
+        details.setJob(savedJob);
+        applyDetails(details, jobRequest);
+        jobDetailsRepository.save(details);
+
+        // Flushed first so the audited timestamps are set before they are copied into the search view.
+        // The job is already managed: merging it again would reload each snapshot skill by id
+        jobRepository.flush();
+        jobSearchViewService.refresh(savedJob);
+        return JobResponse.fromJob(savedJob, details);
     }
 
     public Optional<Job> findById(Long id) {
         return jobRepository.findById(id);
     }
 
-    public Job updateJob(Long id, JobRequest jobRequest, User currentUser) {
+    @Transactional(readOnly = true)
+    public Optional<JobResponse> getJob(Long id) {
+        return getJob(id, true);
+    }
+
+    private Optional<JobResponse> getJob(Long id, boolean withDetails) {
+        return jobRepository.findSummaryById(id).map(job -> {
+            loadRequiredSkills(List.of(job));
+            return JobResponse.fromJob(job, withDetails ? jobDetailsRepository.findById(id).orElse(null) : null);
+        });
+    }
+
+    // Validators of the detail response before this request's view is counted, read with one query and
+    // without loading the job. The ETag is known only while the job's content is in the detail cache
+    @Transactional(readOnly = true)
+    public Optional<DetailValidators> findDetailValidators(Long id, FieldSelection selection) {
+        return jobRepository.findDetailVersionById(id).map(version -> {
+            String contentTag = selection.needs(JobResponse.DETAIL_FIELDS) ? jobDetailCache.cachedContentTag(id) : null;
+            String eTag = contentTag == null ? null : JobDetailCache.eTag(contentTag, version.getViewsCount(),
+                    version.getApplicationsCount(), version.getUpdatedAt(), selection);
+            return new DetailValidators(eTag, lastModified(version));
+        });
+    }
+
+    // Newest change among the rows the response is built from; categories and skills are covered by
+    // the reference data as a whole. Counted views do not move it
+    private long lastModified(JobRepository.DetailVersion version) {
+        long lastModified = categoryService.getLastModified();
+        for (LocalDateTime updatedAt : Arrays.asList(version.getUpdatedAt(), version.getCompanyUpdatedAt(),
+                version.getPosterUpdatedAt())) {
+            if (updatedAt != null) {
+                lastModified = Math.max(lastModified, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+        }
+        return lastModified;
+    }
+
+    public record DetailValidators(String eTag, long lastModified) {
+    }
+
+    // Counts a view and returns the detail response. The assembled response comes from the job
+    // detail cache; the row is still read (and updated) here, so a deleted or archived job is never
+    // served from the cache and the counters are always current. Selections without detail fields
+    // skip job_details and the cache, and carry no ETag: they are built from the job's single
+    // job_search_view row rather than the joined summary graph (inactive jobs have no row)
+    public Optional<JobDetailCache.Detail> viewJob(Long id, FieldSelection selection) {
+        // Before the first read opens the snapshot the detail is loaded from
+        long generation = jobDetailCache.generation();
+        Optional<Job> found = jobRepository.findById(id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        // The update detaches the job, so the increment below only fills in the response
+        Job job = found.get();
+        jobRepository.incrementViewsById(id);
+        job.incrementViews();
+        jobSearchViewService.updateCounters(job);
+
+        // Concurrent misses for the same job (just posted, or just invalidated while popular) share one
+        // load, only among requests that read the same generation
+        JobDetailCache.Detail detail = selection.needs(JobResponse.DETAIL_FIELDS)
+                ? jobDetailCache.get(id, generation, () -> singleFlight.execute("job-detail", List.of(id, generation),
+                        () -> getJob(id).orElseThrow(() -> new RuntimeException("Job not found"))))
+                : new JobDetailCache.Detail(jobSearchViewService.findResponse(id)
+                        .or(() -> getJob(id, false))
+                        .orElseThrow(() -> new RuntimeException("Job not found")), null);
+        detail.response().setViewsCount(job.getViewsCount());
+        detail.response().setApplicationsCount(job.getApplicationsCount());
+        detail.response().setUpdatedAt(job.getUpdatedAt());
+        return Optional.of(detail);
+    }
+
+    // Multi-get for pages that show many jobs: not counted as views, and built from IN queries
+    // (jobs with postedBy/company/category, their skills, and job_details when the selection needs it)
+    @Transactional(readOnly = true)
+    public BatchResponse<JobResponse> getJobs(List<Long> ids, FieldSelection selection) {
+        List<Job> jobs = jobRepository.findSummaryByIdIn(ids);
+        loadRequiredSkills(jobs);
+        Map<Long, JobDetails> details = selection.needs(JobResponse.DETAIL_FIELDS) && !jobs.isEmpty()
+                ? jobDetailsRepository.findAllById(jobs.stream().map(Job::getId).collect(Collectors.toList())).stream()
+                        .collect(Collectors.toMap(JobDetails::getJobId, Function.identity()))
+                : Map.of();
+        Map<Long, JobResponse> found = jobs.stream()
+                .collect(Collectors.toMap(Job::getId, job -> JobResponse.fromJob(job, details.get(job.getId()))));
+        return BatchResponse.of(ids, found, "Job not found");
+    }
+
+    public JobResponse updateJob(Long id, JobRequest jobRequest, User currentUser) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
@@ -84,19 +195,7 @@ public class JobService {
             throw new RuntimeException("You don't have permission to update this job");
         }
 
-        job.setTitle(jobRequest.getTitle());
-        job.setDescription(jobRequest.getDescription());
-        job.setLocation(jobRequest.getLocation());
-        job.setJobType(jobRequest.getJobType());
-        job.setExperienceLevel(jobRequest.getExperienceLevel());
-        job.setMinSalary(jobRequest.getMinSalary());
-        job.setMaxSalary(jobRequest.getMaxSalary());
-        job.setCurrency(jobRequest.getCurrency());
-        job.setIsRemote(jobRequest.getIsRemote());
-        job.setApplicationDeadline(jobRequest.getApplicationDeadline());
-        job.setRequirements(jobRequest.getRequirements());
-        job.setBenefits(jobRequest.getBenefits());
-        job.setApplicationInstructions(jobRequest.getApplicationInstructions());
+        applyFields(job, jobRequest);
 
         // Update company if provided
         if (jobRequest.getCompanyId() != null) {
@@ -111,17 +210,64 @@ public class JobService {
         // Update required skills
         job.getRequiredSkills().clear();
         if (jobRequest.getRequiredSkillIds() != null && !jobRequest.getRequiredSkillIds().isEmpty()) {
-            jobRequest.getRequiredSkillIds().forEach(skillId -> {
-                skillService.findById(skillId).ifPresent(skill -> {
-                    job.getRequiredSkills().add(skill);
-                });
-            });
+            job.getRequiredSkills().addAll(skillService.findAllById(jobRequest.getRequiredSkillIds()));
         }
 
-        return jobRepository.save(job);
+        JobDetails details = jobDetailsRepository.findById(id).orElseGet(() -> {
+            JobDetails created = new JobDetails();
+            created.setJob(job);
+            return created;
+        });
+        applyDetails(details, jobRequest);
+        jobDetailsRepository.save(details);
+
+        jobRepository.flush();
+        jobSearchViewService.refresh(job);
+        jobDetailCache.invalidateJob(id);
+        return JobResponse.fromJob(job, details);
     }
 
-    public void deleteJob(Long id, User currentUser) {
+    // Shared with the bulk import. Details and skills live in other tables, so updatedAt is always
+    // moved: the job's Last-Modified then covers an edit that only changed those
+    static void applyFields(Job job, JobRequest jobRequest) {
+        job.setUpdatedAt(LocalDateTime.now());
+        job.setTitle(jobRequest.getTitle());
+        job.setSummary(summarize(jobRequest.getDescription()));
+        job.setLocation(jobRequest.getLocation());
+        job.setJobType(jobRequest.getJobType());
+        job.setExperienceLevel(jobRequest.getExperienceLevel());
+        job.setMinSalary(jobRequest.getMinSalary());
+        job.setMaxSalary(jobRequest.getMaxSalary());
+        job.setCurrency(jobRequest.getCurrency());
+        job.setIsRemote(jobRequest.getIsRemote());
+        job.setApplicationDeadline(jobRequest.getApplicationDeadline());
+    }
+
+    static void applyDetails(JobDetails details, JobRequest jobRequest) {
+        details.setDescription(jobRequest.getDescription());
+        details.setRequirements(jobRequest.getRequirements());
+        details.setBenefits(jobRequest.getBenefits());
+        details.setApplicationInstructions(jobRequest.getApplicationInstructions());
+    }
+
+    // Whitespace-collapsed excerpt cut at a word boundary, sized for list cards
+    private static String summarize(String description) {
+        if (description == null) {
+            return null;
+        }
+        String text = description.replaceAll("\\s+", " ").trim();
+        if (text.length() <= SUMMARY_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', SUMMARY_LENGTH - 3);
+        if (cut < SUMMARY_LENGTH / 2) {
+            cut = SUMMARY_LENGTH - 3;
+        }
+        return text.substring(0, cut) + "...";
+    }
+
+    // Hides the job at once; it and its applications are purged in the background
+    public PurgeTask deleteJob(Long id, User currentUser) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
@@ -130,42 +276,117 @@ public class JobService {
             throw new RuntimeException("You don't have permission to delete this job");
         }
 
-        jobRepository.deleteById(id);
+        jobSearchViewService.remove(id);
+        jobDetailCache.invalidateJob(id);
+        jobRepository.softDeleteById(id, LocalDateTime.now());
+        return purgeService.requestPurge(PurgeTask.Target.JOB, id, currentUser.getId());
+    }
+
+    // Public listings read the denormalized job_search_view (active jobs only) instead of joining
+    // users, companies, categories and job_skills per page; entries are pre-serialized JobResponse JSON.
+    // They do not depend on the caller, so identical concurrent requests share one read (see listing())
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<JsonFragment> getAllJobs(Pageable pageable, FieldSelection selection) {
+        return listing("all-jobs", Arrays.asList(pageable, selection),
+                () -> jobSearchViewService.toFragments(jobSearchViewRepository.findAllByOrderByCreatedAtDesc(pageable), selection));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<JsonFragment> searchJobs(String keyword, String location, Job.JobType jobType, 
+                                       Job.ExperienceLevel experienceLevel, Boolean isRemote, Pageable pageable,
+                                       FieldSelection selection) {
+        String keywordLower = lower(keyword);
+        String locationLower = lower(location);
+        return listing("job-search",
+                Arrays.asList(keywordLower, locationLower, jobType, experienceLevel, isRemote, pageable, selection),
+                () -> jobSearchViewService.toFragments(jobSearchViewRepository.search(
+                        keywordLower, locationLower, jobType, experienceLevel, isRemote, pageable), selection));
+    }
+    @Transactional(readOnly = true)
+    public List<JobResponse> getJobsByUser(User user) {
+        return toResponses(jobRepository.findByPostedByOrderByCreatedAtDesc(user));
     }
 
-    public Page<Job> getAllJobs(Pageable pageable) {
-        return jobRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+    // Everything the user has posted, newest first; archived jobs follow once paging passes the hot ones
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobHistory(User user, Pageable pageable) {
+        return ArchivePaging.page(pageable,
+                hot -> {
+                    Page<Job> jobs = jobRepository.findByPostedByOrderByCreatedAtDesc(user, hot);
+                    loadRequiredSkills(jobs.getContent());
+                    return jobs.map(JobResponse::fromJob);
+                },
+                () -> archivedJobRepository.countByPostedById(user.getId()),
+                archived -> {
+                    List<ArchivedJob> jobs = archivedJobRepository.findByPostedByIdOrderByCreatedAtDesc(user.getId(), archived);
+                    if (!jobs.isEmpty()) {
+                        archivedJobRepository.fetchRequiredSkills(jobs.stream().map(ArchivedJob::getId).collect(Collectors.toList()));
+                    }
+                    return jobs.stream().map(JobResponse::fromArchivedJob).collect(Collectors.toList());
+                });
     }
 
-    public Page<Job> searchJobs(String keyword, String location, Job.JobType jobType, 
-                               Job.ExperienceLevel experienceLevel, Boolean isRemote, Pageable pageable) {
-        return jobRepository.findJobsWithFilters(keyword, location, jobType, experienceLevel, isRemote, pageable);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JsonFragment> getJobsByCompany(Long companyId, FieldSelection selection) {
+        return listing("company-jobs", Arrays.asList(companyId, selection),
+                () -> jobSearchViewService.toFragments(jobSearchViewRepository.findByCompanyIdOrderByCreatedAtDesc(companyId), selection));
     }
 
-    public List<Job> getJobsByUser(User user) {
-        return jobRepository.findByPostedByOrderByCreatedAtDesc(user);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JsonFragment> getJobsByCategory(Long categoryId, FieldSelection selection) {
+        return listing("category-jobs", Arrays.asList(categoryId, selection),
+                () -> jobSearchViewService.toFragments(jobSearchViewRepository.findByCategoryIdOrderByCreatedAtDesc(categoryId), selection));
     }
 
-    public List<Job> getJobsByCompany(Long companyId) {
-        return jobRepository.findByCompanyIdAndIsActiveTrueOrderByCreatedAtDesc(companyId);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JsonFragment> getRecentJobs(int limit, FieldSelection selection) {
+        int size = Math.max(1, Math.min(limit, MAX_RECENT_JOBS));
+        return listing("recent-jobs", List.of(size, selection), () -> jobSearchViewService.toFragments(
+                jobSearchViewRepository.findByOrderByCreatedAtDesc(PageRequest.of(0, size)), selection));
     }
 
-    public List<Job> getJobsByCategory(Long categoryId) {
-        return jobRepository.findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(categoryId);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JsonFragment> getFeaturedJobs(FieldSelection selection) {
+        return listing("featured-jobs", selection,
+                () -> jobSearchViewService.toFragments(jobSearchViewRepository.findTop10ByOrderByViewsCountDesc(), selection));
     }
 
-    public List<Job> getRecentJobs(int limit) {
-        return jobRepository.findTop10ByIsActiveTrueOrderByCreatedAtDesc();
+    // The listing methods are SUPPORTS rather than read-only transactional so that callers waiting on
+    // another caller's read hold no connection; only the one running it opens a read-only transaction
+    // (joining the caller's, if there is one). Fragments and pages are immutable, so sharing them is safe
+    private <T> T listing(String group, Object key, Supplier<T> read) {
+        return singleFlight.execute(group, key, () -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            return transaction.execute(status -> read.get());
+        });
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+
+    // List queries fetch postedBy/company/category through the "Job.summary" entity graph;
+    // skills are a collection, so they are loaded for the whole page in one extra query
+    private void loadRequiredSkills(List<Job> jobs) {
+        if (!jobs.isEmpty()) {
+            Collection<Long> ids = jobs.stream().map(Job::getId).collect(Collectors.toList());
+            jobRepository.fetchRequiredSkills(ids);
+        }
     }
 
-    public List<Job> getFeaturedJobs() {
-        return jobRepository.findTop10ByIsActiveTrueOrderByViewsCountDesc();
+    // Responses are built before the transaction ends; open-in-view is off, so nothing
+    // lazy can be touched once the entities leave the service
+    private List<JobResponse> toResponses(List<Job> jobs) {
+        loadRequiredSkills(jobs);
+        return jobs.stream().map(JobResponse::fromJob).collect(Collectors.toList());
     }
 
     public Job incrementViews(Long jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
         job.incrementViews();
+        jobSearchViewService.updateCounters(job);
         return jobRepository.save(job);
     }
 
@@ -173,6 +394,7 @@ public class JobService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
         job.incrementApplications();
+        jobSearchViewService.updateCounters(job);
         return jobRepository.save(job);
     }
 
@@ -186,5 +408,8 @@ public class JobService {
             job.setIsActive(false);
             jobRepository.save(job);
         });
+        List<Long> ids = expiredJobs.stream().map(Job::getId).collect(Collectors.toList());
+        jobSearchViewService.remove(ids);
+        jobDetailCache.invalidateJobs(ids);
     }
 }
@@ -34,18 +34,22 @@ public class NotificationService {
         return notificationRepository.save(notification);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getNotificationsByUser(User user) {
         return notificationRepository.findByUserOrderByCreatedAtDesc(user);
     }
 
+    @Transactional(readOnly = true)
     public Page<Notification> getNotificationsByUser(User user, Pageable pageable) {
         return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getUnreadNotificationsByUser(User user) {
         return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
     }
 
+    @Transactional(readOnly = true)
     public long getUnreadNotificationCount(User user) {
         return notificationRepository.countByUserAndIsReadFalse(user);
     }
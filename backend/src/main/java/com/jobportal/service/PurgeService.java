@@ -0,0 +1,212 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.PurgeTask;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Physically removes soft-deleted users, companies and jobs. Deletes are plain SQL, children
+ * before parents, and rows are removed purge.chunk-size ids at a time in auto-committed
+ * statements, so no entity graph is loaded and no lock is held for long. A purge starts after
+ * the transaction that marked the row deleted commits; rows still marked at startup (an
+ * interrupted purge) are queued again, so the deleted_at flag is the durable work queue.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PurgeService implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // One purge at a time keeps the delete load on the primary predictable
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, PurgeTask> tasks = new ConcurrentHashMap<>();
+
+    @Value("${purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${purge.task-retention:1h}")
+    private Duration taskRetention;
+
+    @Value("${purge.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    public PurgeTask requestPurge(PurgeTask.Target target, Long targetId, Long requestedBy) {
+        pruneFinishedTasks();
+        PurgeTask task = new PurgeTask(UUID.randomUUID().toString(), target, targetId, requestedBy);
+        tasks.put(task.getId(), task);
+        eventPublisher.publishEvent(task);
+        return task;
+    }
+
+    public Optional<PurgeTask> getTask(String id) {
+        return Optional.ofNullable(tasks.get(id));
+    }
+
+    // Runs after commit, or immediately when requested outside a transaction; dropped on rollback
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPurgeRequested(PurgeTask task) {
+        executor.execute(() -> execute(task));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!resumeOnStartup) {
+            return;
+        }
+        requeue(PurgeTask.Target.USER, "users");
+        requeue(PurgeTask.Target.COMPANY, "companies");
+        requeue(PurgeTask.Target.JOB, "jobs");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void requeue(PurgeTask.Target target, String table) {
+        for (Long id : jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE deleted_at IS NOT NULL", Long.class)) {
+            log.info("Resuming purge of {} {}", target, id);
+            requestPurge(target, id, null);
+        }
+    }
+
+    private void execute(PurgeTask task) {
+        task.setStartedAt(LocalDateTime.now());
+        task.setStatus(PurgeTask.Status.RUNNING);
+        try {
+            switch (task.getTarget()) {
+                case USER -> purgeUser(task);
+                case COMPANY -> purgeCompany(task);
+                case JOB -> purgeJob(task);
+            }
+            task.setStep(null);
+            task.setStatus(PurgeTask.Status.COMPLETED);
+            log.info("Purged {} {}: {} rows in {} ms", task.getTarget(), task.getTargetId(), task.getRowsDeleted(),
+                    Duration.between(task.getStartedAt(), LocalDateTime.now()).toMillis());
+        } catch (RuntimeException e) {
+            // The row stays soft-deleted and the purge is retried on the next start
+            log.error("Purge of {} {} failed at {}", task.getTarget(), task.getTargetId(), task.getStep(), e);
+            task.setError(e.getMessage());
+            task.setStatus(PurgeTask.Status.FAILED);
+        } finally {
+            task.setFinishedAt(LocalDateTime.now());
+        }
+    }
+
+    private void purgeUser(PurgeTask task) {
+        Long userId = task.getTargetId();
+        if (!isMarkedDeleted("users", userId)) {
+            return;
+        }
+        // Rows other users see go first
+        deleteInChunks(task, "job_applications", "user_id = ?", userId);
+        deleteInChunks(task, "saved_jobs", "user_id = ?", userId);
+        deleteInChunks(task, "notifications", "user_id = ?", userId);
+        delete(task, "user_skills", "user_id = ?", userId);
+        deleteInChunks(task, "archived_job_applications", "user_id = ?", userId);
+        deleteInChunks(task, "archived_saved_jobs", "user_id = ?", userId);
+        String owned = "posted_by = ? OR company_id IN (SELECT id FROM companies WHERE user_id = ?)";
+        purgeJobsWhere(task, "", owned, userId, userId);
+        purgeJobsWhere(task, "archived_", owned, userId, userId);
+        delete(task, "companies", "user_id = ?", userId);
+        delete(task, "users", "id = ?", userId);
+    }
+
+    private void purgeCompany(PurgeTask task) {
+        Long companyId = task.getTargetId();
+        if (!isMarkedDeleted("companies", companyId)) {
+            return;
+        }
+        purgeJobsWhere(task, "", "company_id = ?", companyId);
+        purgeJobsWhere(task, "archived_", "company_id = ?", companyId);
+        delete(task, "companies", "id = ?", companyId);
+    }
+
+    private void purgeJob(PurgeTask task) {
+        if (isMarkedDeleted("jobs", task.getTargetId())) {
+            purgeJobs(task, "", List.of(task.getTargetId()));
+        }
+    }
+
+    // Missing rows were already purged; live rows are never touched
+    private boolean isMarkedDeleted(String table, Long id) {
+        List<Long> marked = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE id = ? AND deleted_at IS NOT NULL", Long.class, id);
+        return !marked.isEmpty();
+    }
+
+    // tablePrefix "" for the hot tables, "archived_" for the copies JobArchiver moved out
+    private void purgeJobsWhere(PurgeTask task, String tablePrefix, String where, Object... args) {
+        String select = "SELECT id FROM " + tablePrefix + "jobs WHERE " + where + " ORDER BY id LIMIT " + chunkSize;
+        List<Long> jobIds;
+        while (!(jobIds = jdbcTemplate.queryForList(select, Long.class, args)).isEmpty()) {
+            purgeJobs(task, tablePrefix, jobIds);
+        }
+    }
+
+    private void purgeJobs(PurgeTask task, String tablePrefix, List<Long> jobIds) {
+        String in = "job_id IN (" + placeholders(jobIds.size()) + ")";
+        Object[] args = jobIds.toArray();
+        deleteInChunks(task, tablePrefix + "saved_jobs", in, args);
+        deleteInChunks(task, tablePrefix + "job_applications", in, args);
+        delete(task, tablePrefix + "job_skills", in, args);
+        if (tablePrefix.isEmpty()) {
+            delete(task, "job_search_view", in, args);
+        }
+        delete(task, tablePrefix + "job_details", in, args);
+        delete(task, tablePrefix + "jobs", "id IN (" + placeholders(jobIds.size()) + ")", args);
+    }
+
+    // For tables with a surrogate id and possibly many matching rows
+    private void deleteInChunks(PurgeTask task, String table, String where, Object... args) {
+        task.setStep(table);
+        String select = "SELECT id FROM " + table + " WHERE " + where + " ORDER BY id LIMIT " + chunkSize;
+        List<Long> ids;
+        while (!(ids = jdbcTemplate.queryForList(select, Long.class, args)).isEmpty()) {
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM " + table + " WHERE id IN (" + placeholders(ids.size()) + ")", ids.toArray());
+            task.setRowsDeleted(task.getRowsDeleted() + deleted);
+        }
+    }
+
+    private void delete(PurgeTask task, String table, String where, Object... args) {
+        task.setStep(table);
+        int deleted = jdbcTemplate.update("DELETE FROM " + table + " WHERE " + where, args);
+        task.setRowsDeleted(task.getRowsDeleted() + deleted);
+    }
+
+    private void pruneFinishedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(taskRetention);
+        tasks.values().removeIf(task -> task.isFinished() && task.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,305 @@
+package com.jobportal.service;
+
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Skill;
+import com.jobportal.repository.CategoryRepository;
+import com.jobportal.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory copy of the categories and skills tables. Readers get an immutable snapshot that is
+ * replaced as a whole, so a lookup never sees a half-applied change and never touches the
+ * database. Category and skill mutations call {@link #reloadAfterCommit()}; the periodic reload
+ * picks up changes made through other instances. The snapshot version is a fingerprint of the
+ * content, so every instance hands out the same ETag for the same data. Last-Modified is the newest
+ * updatedAt of the rows, moved on by at least a second when the content changes without one (a
+ * deleted row).
+ *
+ * <p>Snapshot entities are detached copies shared between threads: read them, or use them as
+ * association targets, but never modify them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCache {
+
+    private static final Comparator<Category> CATEGORY_ORDER =
+            Comparator.comparing(Category::getName, String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<Skill> SKILL_ORDER =
+            Comparator.comparing(Skill::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private final CategoryRepository categoryRepository;
+    private final SkillRepository skillRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${reference-data.refresh-interval:5m}")
+    private Duration refreshInterval;
+
+    @PostConstruct
+    public void start() {
+        reload();
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reference-data-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reloadSafely,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Called inside the mutating transaction; the snapshot is rebuilt once the change is visible
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reloadSafely();
+            }
+        });
+    }
+
+    public synchronized void reload() {
+        Snapshot loaded = new Snapshot(
+                categoryRepository.findAll().stream().map(ReferenceDataCache::copy).collect(Collectors.toList()),
+                skillRepository.findAll().stream().map(ReferenceDataCache::copy).collect(Collectors.toList()));
+        Snapshot previous = snapshot.get();
+        if (previous != null) {
+            loaded.lastModified = previous.version == loaded.version ? previous.lastModified
+                    : Math.max(loaded.lastModified, previous.lastModified + 1000);
+        }
+        snapshot.set(loaded);
+        if (previous == null || previous.version != loaded.version) {
+            log.info("Reference data loaded: {} categories, {} skills, version {}",
+                    loaded.categoriesById.size(), loaded.skillsById.size(), loaded.etag());
+        }
+    }
+
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Reference data reload failed; keeping the previous snapshot", e);
+        }
+    }
+
+    public long getVersion() {
+        return snapshot.get().version;
+    }
+
+    // Epoch millis, for Last-Modified
+    public long getLastModified() {
+        return snapshot.get().lastModified;
+    }
+
+    // Quoted, as the ETag header requires
+    public String getETag() {
+        return snapshot.get().etag();
+    }
+
+    public Optional<Category> findCategory(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.get().categoriesById.get(id));
+    }
+
+    // Case-insensitive like the MySQL column collation
+    public Optional<Category> findCategoryByName(String name) {
+        return Optional.ofNullable(name == null ? null : snapshot.get().categoriesByName.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    public List<Category> getActiveCategories() {
+        return snapshot.get().activeCategories;
+    }
+
+    public List<Category> getAllCategories() {
+        return snapshot.get().allCategories;
+    }
+
+    public Optional<Skill> findSkill(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.get().skillsById.get(id));
+    }
+
+    // Unknown ids are skipped, like JpaRepository.findAllById
+    public List<Skill> findSkills(Collection<Long> ids) {
+        Map<Long, Skill> skillsById = snapshot.get().skillsById;
+        return ids.stream().distinct().map(skillsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    public Map<Long, Skill> getSkillsById() {
+        return snapshot.get().skillsById;
+    }
+
+    public Optional<Skill> findSkillByName(String name) {
+        return Optional.ofNullable(name == null ? null : snapshot.get().skillsByName.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    public List<Skill> getActiveSkills() {
+        return snapshot.get().activeSkills;
+    }
+
+    public List<Skill> getAllSkills() {
+        return snapshot.get().allSkills;
+    }
+
+    public List<Skill> getActiveSkillsByCategory(Skill.SkillCategory category) {
+        return snapshot.get().activeSkillsByCategory.getOrDefault(category, List.of());
+    }
+
+    public List<Skill> searchActiveSkills(String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        return snapshot.get().activeSkills.stream()
+                .filter(skill -> skill.getName().toLowerCase(Locale.ROOT).contains(needle))
+                .collect(Collectors.toList());
+    }
+
+    // Copies only the columns; the lazy jobs/users collections stay empty
+    private static Category copy(Category source) {
+        Category category = new Category();
+        category.setId(source.getId());
+        category.setName(source.getName());
+        category.setDescription(source.getDescription());
+        category.setIcon(source.getIcon());
+        category.setColor(source.getColor());
+        category.setIsActive(source.getIsActive());
+        category.setCreatedAt(source.getCreatedAt());
+        category.setUpdatedAt(source.getUpdatedAt());
+        return category;
+    }
+
+    private static Skill copy(Skill source) {
+        Skill skill = new Skill();
+        skill.setId(source.getId());
+        skill.setName(source.getName());
+        skill.setDescription(source.getDescription());
+        skill.setCategory(source.getCategory());
+        skill.setIsActive(source.getIsActive());
+        skill.setCreatedAt(source.getCreatedAt());
+        skill.setUpdatedAt(source.getUpdatedAt());
+        return skill;
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Long, Category> categoriesById;
+        private final Map<String, Category> categoriesByName;
+        private final List<Category> allCategories;
+        private final List<Category> activeCategories;
+        private final Map<Long, Skill> skillsById;
+        private final Map<String, Skill> skillsByName;
+        private final List<Skill> allSkills;
+        private final List<Skill> activeSkills;
+        private final Map<Skill.SkillCategory, List<Skill>> activeSkillsByCategory;
+        private final long version;
+        private long lastModified;
+
+        private Snapshot(List<Category> categories, List<Skill> skills) {
+            categories.sort(Comparator.comparing(Category::getId));
+            skills.sort(Comparator.comparing(Skill::getId));
+
+            this.allCategories = List.copyOf(categories);
+            this.categoriesById = allCategories.stream()
+                    .collect(Collectors.toUnmodifiableMap(Category::getId, category -> category));
+            this.categoriesByName = allCategories.stream()
+                    .collect(Collectors.toUnmodifiableMap(category -> category.getName().toLowerCase(Locale.ROOT),
+                            category -> category, (first, second) -> first));
+            this.activeCategories = allCategories.stream()
+                    .filter(category -> Boolean.TRUE.equals(category.getIsActive()))
+                    .sorted(CATEGORY_ORDER)
+                    .collect(Collectors.toUnmodifiableList());
+
+            this.allSkills = List.copyOf(skills);
+            this.skillsById = allSkills.stream()
+                    .collect(Collectors.toUnmodifiableMap(Skill::getId, skill -> skill));
+            this.skillsByName = allSkills.stream()
+                    .collect(Collectors.toUnmodifiableMap(skill -> skill.getName().toLowerCase(Locale.ROOT),
+                            skill -> skill, (first, second) -> first));
+            this.activeSkills = allSkills.stream()
+                    .filter(skill -> Boolean.TRUE.equals(skill.getIsActive()))
+                    .sorted(SKILL_ORDER)
+                    .collect(Collectors.toUnmodifiableList());
+            Map<Skill.SkillCategory, List<Skill>> byCategory = new EnumMap<>(Skill.SkillCategory.class);
+            activeSkills.stream()
+                    .filter(skill -> skill.getCategory() != null)
+                    .collect(Collectors.groupingBy(Skill::getCategory, LinkedHashMap::new, Collectors.toUnmodifiableList()))
+                    .forEach(byCategory::put);
+            this.activeSkillsByCategory = byCategory;
+
+            this.version = fingerprint();
+            this.lastModified = Stream.concat(categories.stream().map(Category::getUpdatedAt), skills.stream().map(Skill::getUpdatedAt))
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .map(updatedAt -> updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                    .orElse(0L);
+        }
+
+        // FNV-1a over the content columns in id order; timestamps are left out because their precision depends on
+        // whether the row was read back from the database or is still the instance that was saved
+        private long fingerprint() {
+            long hash = 0xcbf29ce484222325L;
+            for (Category category : allCategories) {
+                hash = mix(hash, "c", category.getId(), category.getName(), category.getDescription(), category.getIcon(),
+                        category.getColor(), category.getIsActive());
+            }
+            for (Skill skill : allSkills) {
+                hash = mix(hash, "s", skill.getId(), skill.getName(), skill.getDescription(), skill.getCategory(),
+                        skill.getIsActive());
+            }
+            return hash;
+        }
+
+        private static long mix(long hash, Object... values) {
+            for (Object value : values) {
+                String text = String.valueOf(value);
+                for (int i = 0; i < text.length(); i++) {
+                    hash ^= text.charAt(i);
+                    hash *= 0x100000001b3L;
+                }
+                hash ^= 0x1f;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        private String etag() {
+            return "\"ref-" + Long.toHexString(version) + "\"";
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.jobportal.service;
+
+import com.jobportal.config.ResumeBundleProperties;
+import com.jobportal.entity.User;
+import com.jobportal.repository.JobApplicationRepository;
+import com.jobportal.repository.JobApplicationRepository.ResumeRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ZIP bundles of applicants' resumes. The bundle is planned inside a short read-only transaction
+ * (which applications, which files, how large in total) and then written on the fly from the upload
+ * directory into the response: no temp file, and nothing held in memory beyond a copy buffer.
+ * Already compressed formats such as PDF are stored rather than deflated; a stored entry needs its
+ * CRC before its data, so those files are read twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeBundleService {
+
+    private static final String DOWNLOAD_PATH = "/api/files/download/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ResumeBundleProperties properties;
+
+    public record Entry(String name, Path path, boolean stored) {
+    }
+
+    // Applications without a readable resume are listed in a MISSING.txt entry instead
+    public record Bundle(List<Entry> entries, List<String> missing, long totalSize) {
+    }
+
+    // Employers may bundle applications to their own jobs, admins any
+    @Transactional(readOnly = true)
+    public Bundle forJob(User currentUser, Long jobId, Path uploadPath) {
+        return plan(jobApplicationRepository.findResumesByJob(employerFilter(currentUser), jobId), uploadPath);
+    }
+
+    @Transactional(readOnly = true)
+    public Bundle forApplications(User currentUser, Collection<Long> applicationIds, Path uploadPath) {
+        return plan(jobApplicationRepository.findResumesByIdIn(employerFilter(currentUser), applicationIds), uploadPath);
+    }
+
+    private static Long employerFilter(User currentUser) {
+        return currentUser.isAdmin() ? null : currentUser.getId();
+    }
+
+    private Bundle plan(List<ResumeRow> rows, Path uploadPath) {
+        if (rows.isEmpty()) {
+            throw new RuntimeException("No applications found");
+        }
+        long maxSize = properties.getMaxSize().toBytes();
+        List<Entry> entries = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        long totalSize = 0;
+        for (ResumeRow row : rows) {
+            String applicant = "Application " + row.getId() + " (" + row.getFirstName() + " " + row.getLastName() + ")";
+            Path path = resolve(row.getResumeUrl(), uploadPath);
+            if (path == null) {
+                missing.add(applicant + ": no resume");
+                continue;
+            }
+            if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+                missing.add(applicant + ": resume file not found");
+                continue;
+            }
+            try {
+                totalSize += Files.size(path);
+            } catch (IOException e) {
+                missing.add(applicant + ": resume file not readable");
+                continue;
+            }
+            if (totalSize > maxSize) {
+                throw new RuntimeException("The selected resumes exceed " + describe(properties.getMaxSize())
+                        + "; select fewer applications");
+            }
+            String extension = extension(path.getFileName().toString());
+            entries.add(new Entry(entryName(row, extension), path,
+                    properties.getStoredExtensions().contains(extension)));
+        }
+        if (entries.isEmpty()) {
+            throw new RuntimeException("None of the selected applications has a resume on file");
+        }
+        return new Bundle(entries, missing, totalSize);
+    }
+
+    // Resume URLs point at the download endpoint; only plain file names inside the upload directory are accepted
+    private static Path resolve(String resumeUrl, Path uploadPath) {
+        if (resumeUrl == null || !resumeUrl.startsWith(DOWNLOAD_PATH)) {
+            return null;
+        }
+        String filename = resumeUrl.substring(DOWNLOAD_PATH.length());
+        if (filename.isEmpty() || filename.contains("..") || filename.contains("/") || filename.contains("\\")) {
+            return null;
+        }
+        Path path = uploadPath.resolve(filename).normalize();
+        return path.startsWith(uploadPath.normalize()) ? path : null;
+    }
+
+    private static String entryName(ResumeRow row, String extension) {
+        String name = "job-" + row.getJobId() + "/" + sanitize(row.getLastName()) + "_" + sanitize(row.getFirstName())
+                + "_application-" + row.getId();
+        return extension.isEmpty() ? name : name + "." + extension;
+    }
+
+    private static String sanitize(String value) {
+        return value == null ? "" : value.replaceAll("[^A-Za-z0-9.-]+", "-");
+    }
+
+    private static String describe(DataSize size) {
+        return size.toMegabytes() > 0 ? size.toMegabytes() + " MB" : size.toKilobytes() + " KB";
+    }
+
+    private static String extension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase();
+    }
+
+    // The size cap is checked again while writing, in case files were replaced since planning
+    public void write(Bundle bundle, OutputStream out) throws IOException {
+        long maxSize = properties.getMaxSize().toBytes();
+        long written = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (Entry entry : bundle.entries()) {
+            ZipEntry zipEntry = new ZipEntry(entry.name());
+            zipEntry.setLastModifiedTime(Files.getLastModifiedTime(entry.path()));
+            long size;
+            if (entry.stored()) {
+                CRC32 crc = new CRC32();
+                size = 0;
+                try (InputStream in = Files.newInputStream(entry.path())) {
+                    for (int read; (read = in.read(buffer)) > 0; size += read) {
+                        crc.update(buffer, 0, read);
+                    }
+                }
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(size);
+                zipEntry.setCompressedSize(size);
+                zipEntry.setCrc(crc.getValue());
+            } else {
+                size = Files.size(entry.path());
+            }
+            written += size;
+            if (written > maxSize) {
+                throw new IOException("Resume bundle grew past " + describe(properties.getMaxSize()) + " while writing");
+            }
+            zip.putNextEntry(zipEntry);
+            try (InputStream in = Files.newInputStream(entry.path())) {
+                for (int read; (read = in.read(buffer)) > 0; ) {
+                    zip.write(buffer, 0, read);
+                }
+            }
+            zip.closeEntry();
+        }
+        if (!bundle.missing().isEmpty()) {
+            zip.putNextEntry(new ZipEntry("MISSING.txt"));
+            zip.write((String.join("\r\n", bundle.missing()) + "\r\n").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        // Completes the archive without closing the response stream
+        zip.finish();
+        zip.flush();
+        log.info("Wrote resume bundle: {} files, {} bytes", bundle.entries().size(), written);
+    }
+}
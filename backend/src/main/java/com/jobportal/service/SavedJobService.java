@@ -1,5 +1,6 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.SavedJobResponse;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.SavedJob;
 import com.jobportal.entity.User;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -46,18 +48,24 @@ public class SavedJobService {
         savedJobRepository.delete(savedJob);
     }
 
-    public List<SavedJob> getSavedJobsByUser(User user) {
-        return savedJobRepository.findByUserOrderBySavedAtDesc(user);
+    @Transactional(readOnly = true)
+    public List<SavedJobResponse> getSavedJobsByUser(User user) {
+        return savedJobRepository.findByUserOrderBySavedAtDesc(user).stream()
+                .map(SavedJobResponse::fromSavedJob)
+                .collect(Collectors.toList());
     }
 
-    public Page<SavedJob> getSavedJobsByUser(User user, Pageable pageable) {
-        return savedJobRepository.findByUserOrderBySavedAtDesc(user, pageable);
+    @Transactional(readOnly = true)
+    public Page<SavedJobResponse> getSavedJobsByUser(User user, Pageable pageable) {
+        return savedJobRepository.findByUserOrderBySavedAtDesc(user, pageable).map(SavedJobResponse::fromSavedJob);
     }
 
+    @Transactional(readOnly = true)
     public boolean isJobSavedByUser(Long jobId, User user) {
         return savedJobRepository.existsByUserAndJobId(user, jobId);
     }
 
+    @Transactional(readOnly = true)
     public long getSavedJobCountByUser(User user) {
         return savedJobRepository.countByUser(user);
     }
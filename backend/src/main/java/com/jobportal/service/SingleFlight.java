@@ -0,0 +1,116 @@
+package com.jobportal.service;
+
+import com.jobportal.config.QueryCount;
+import com.jobportal.config.SingleFlightProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the read, callers arriving
+ * while it is in flight wait for and share its result (or its exception). Nothing is kept once the
+ * read completes, so this is not a cache; it only stops a burst of requests for the same hot job or
+ * listing from running the same queries hundreds of times at once. Results are shared between
+ * threads and must not be modified by callers.
+ *
+ * <p>Every call is counted in {@code singleflight.calls}, tagged with the group and with
+ * {@code role=leader} (ran the read) or {@code role=follower} (shared a result); followers / all
+ * calls is the coalescing ratio.
+ *
+ * <p>The statements the leader ran are charged to each follower's {@link QueryCount} scope too, so
+ * a request's count covers the reads its response depends on, whichever thread ran them.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaders = new ConcurrentHashMap<>();
+    private final Map<String, Counter> followers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("singleflight.in.flight", inFlight, Map::size)
+                .description("Coalesced reads currently running")
+                .register(meterRegistry);
+    }
+
+    // The key must have value equality (records, strings, Arrays.asList of such values)
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> read) {
+        if (!properties.isEnabled(group)) {
+            return read.get();
+        }
+        Key flightKey = new Key(group, key);
+        Flight flight = new Flight();
+        Flight running = inFlight.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            counter(followers, group, "follower").increment();
+            try {
+                return (T) await(running.result);
+            } finally {
+                QueryCount.record(running.statements);
+            }
+        }
+
+        counter(leaders, group, "leader").increment();
+        QueryCount.Scope scope = QueryCount.start("single-flight " + group);
+        try {
+            T result = read.get();
+            flight.statements = scope.getStatements();
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.statements = scope.getStatements();
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            scope.close();
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    // Followers see the leader's exception as thrown, so callers handle it as they would their own
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String group, String role) {
+        return counters.computeIfAbsent(group, name -> Counter.builder("singleflight.calls")
+                .description("Coalescable reads by whether they ran the read or shared another caller's result")
+                .tag("group", name)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+
+    private record Key(String group, Object key) {
+    }
+
+    // Statements are set before the result completes, so followers see them once join() returns
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile Map<String, Integer> statements = Map.of();
+    }
+}
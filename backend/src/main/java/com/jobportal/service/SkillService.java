@@ -5,8 +5,10 @@ import com.jobportal.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,18 +19,29 @@ import java.util.Optional;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     public Skill createSkill(Skill skill) {
         skill.setIsActive(true);
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.reloadAfterCommit();
+        return savedSkill;
     }
 
+    // Reads come from the in-memory snapshot; the returned entities are shared and must not be modified
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Skill> findById(Long id) {
-        return skillRepository.findById(id);
+        return referenceDataCache.findSkill(id);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Skill> findAllById(Collection<Long> ids) {
+        return referenceDataCache.findSkills(ids);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Skill> findByName(String name) {
-        return skillRepository.findByName(name);
+        return referenceDataCache.findSkillByName(name);
     }
 
     public Skill updateSkill(Long id, Skill skillDetails) {
@@ -39,42 +52,64 @@ public class SkillService {
         skill.setDescription(skillDetails.getDescription());
         skill.setCategory(skillDetails.getCategory());
 
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.reloadAfterCommit();
+        return savedSkill;
     }
 
     public void deleteSkill(Long id) {
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
         skillRepository.deleteById(id);
+        referenceDataCache.reloadAfterCommit();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Skill> getAllSkills() {
-        return skillRepository.findByIsActiveTrueOrderByNameAsc();
+        return referenceDataCache.getActiveSkills();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Skill> getAllSkillsIncludingInactive() {
-        return skillRepository.findAll();
+        return referenceDataCache.getAllSkills();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Skill> getSkillsByCategory(Skill.SkillCategory category) {
-        return skillRepository.findByCategoryAndIsActiveTrueOrderByNameAsc(category);
+        return referenceDataCache.getActiveSkillsByCategory(category);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Skill> searchSkills(String keyword) {
-        return skillRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(keyword);
+        return referenceDataCache.searchActiveSkills(keyword);
+    }
+
+    // Changes whenever any category or skill changes
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getETag() {
+        return referenceDataCache.getETag();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getLastModified() {
+        return referenceDataCache.getLastModified();
     }
 
     public Skill deactivateSkill(Long id) {
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
         skill.setIsActive(false);
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.reloadAfterCommit();
+        return savedSkill;
     }
 
     public Skill activateSkill(Long id) {
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
         skill.setIsActive(true);
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.reloadAfterCommit();
+        return savedSkill;
     }
 }
@@ -0,0 +1,506 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.SyndicationProperties;
+import com.jobportal.repository.JobSearchViewRepository;
+import com.jobportal.repository.JobSearchViewRepository.FeedRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-built syndication files for crawlers and job aggregators: a sitemap index, and per segment of
+ * syndication.segment-size job ids a sitemap, an RSS 2.0 feed and a JSON Feed, all gzip compressed on
+ * disk. A segment is written in one pass over its rows of job_search_view in id order, streamed
+ * straight into the three files.
+ *
+ * <p>Every write goes to a new file, published by swapping the name's entry in {@link #find}; the
+ * file it replaces is deleted a grace period later. A file is therefore never changed under a
+ * response that is sending it, which Tomcat's sendfile does by name after the controller returns.
+ *
+ * <p>JobSearchViewService reports changed jobs after commit; their segments are rewritten on the next
+ * run, so a change costs one segment rather than the catalog. Feed segments link to the next one
+ * (atom:link rel="next" and next_url), starting from segment 0.
+ *
+ * <p>The sitemaps list pages of the web app (syndication.site-url) while being served from the API
+ * (syndication.api-url). That cross-host listing is valid because the web app's robots.txt names the
+ * sitemap index on the API host.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyndicationService {
+
+    public static final String SITEMAP_INDEX = "sitemap.xml.gz";
+
+    // Published name, then the write time: sitemap-3.xml.gz.1760850000000
+    private static final Pattern VERSIONED_FILE = Pattern.compile("(.+\\.gz)\\.(\\d+)");
+    private static final Pattern SEGMENT_NAME = Pattern.compile("(?:sitemap|feed)-(\\d+)\\..*");
+    private static final long RETIRED_GRACE_MILLIS = 60_000;
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JobSearchViewRepository jobSearchViewRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final SyndicationProperties properties;
+
+    private final Set<Long> changedSegments = ConcurrentHashMap.newKeySet();
+    // Published name -> current file
+    private final Map<String, Path> published = new ConcurrentHashMap<>();
+    // Used by the scheduler thread only: replaced files -> when, and the newest change per segment
+    private final Map<Path, Long> retired = new HashMap<>();
+    private final Map<Long, LocalDateTime> lastModified = new HashMap<>();
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean rebuildAll = true;
+    private long lastFullBuild;
+    private long lastSegment = -1;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.getSegmentSize() < 1 || properties.getSegmentSize() > 50_000) {
+            throw new IllegalStateException("syndication.segment-size must be between 1 and 50000");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "syndication");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, properties.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void markChanged(Collection<Long> jobIds) {
+        if (properties.isEnabled() && !jobIds.isEmpty()) {
+            List<Long> segments = jobIds.stream().map(id -> id / properties.getSegmentSize()).distinct().toList();
+            afterCommit(() -> changedSegments.addAll(segments));
+        }
+    }
+
+    // For changes that touch an unknown set of jobs, such as a company rename
+    public void markAllChanged() {
+        if (properties.isEnabled()) {
+            afterCommit(() -> rebuildAll = true);
+        }
+    }
+
+    // The current file for a public name such as feed-0.xml.gz, if it has been written
+    public Optional<Path> find(String name) {
+        return Optional.ofNullable(published.get(name));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void runSafely() {
+        try {
+            update();
+        } catch (RuntimeException | IOException | XMLStreamException e) {
+            // Segments taken off the changed set may not have been written
+            rebuildAll = true;
+            log.error("Syndication update failed", e);
+        }
+    }
+
+    // Runs on the scheduler thread only
+    private void update() throws IOException, XMLStreamException {
+        long started = System.currentTimeMillis();
+        if (lastSegment < 0) {
+            load();
+        }
+        boolean full = rebuildAll || started - lastFullBuild >= properties.getFullRebuildInterval().toMillis();
+        rebuildAll = false;
+        Long maxId = jobSearchViewRepository.findMaxId();
+        long last = maxId == null ? 0 : maxId / properties.getSegmentSize();
+
+        Set<Long> segments = new TreeSet<>();
+        for (Iterator<Long> iterator = changedSegments.iterator(); iterator.hasNext(); ) {
+            segments.add(iterator.next());
+            iterator.remove();
+        }
+        for (long segment = 0; segment <= last; segment++) {
+            if (full || !published.containsKey(sitemapName(segment))) {
+                segments.add(segment);
+            }
+        }
+        // The former last segment gains a link to the next one
+        if (lastSegment >= 0 && lastSegment != last) {
+            segments.add(Math.min(lastSegment, last));
+        }
+        segments.removeIf(segment -> segment > last);
+        if (segments.isEmpty()) {
+            deleteRetired(started);
+            return;
+        }
+
+        long jobs = 0;
+        for (long segment : segments) {
+            jobs += writeSegment(segment, last, started);
+        }
+        unpublishAfter(last, started);
+        writeIndex(last, started);
+        deleteRetired(started);
+        lastSegment = last;
+        if (full) {
+            lastFullBuild = started;
+        }
+        log.info("Wrote syndication files for {} of {} segments ({} jobs) in {} ms",
+                segments.size(), last + 1, jobs, System.currentTimeMillis() - started);
+    }
+
+    // Returns the number of jobs written
+    private long writeSegment(long segment, long last, long version) throws IOException, XMLStreamException {
+        Path sitemapFile = versioned(sitemapName(segment), version);
+        Path rssFile = versioned(feedName(segment, "xml"), version);
+        Path jsonFile = versioned(feedName(segment, "json"), version);
+        String next = segment < last ? properties.getApiUrl() + "/api/public/feed-" + (segment + 1) : null;
+
+        long[] count = new long[1];
+        LocalDateTime[] newest = new LocalDateTime[1];
+        try (OutputStream sitemapOut = gzip(sitemapFile);
+             OutputStream rssOut = gzip(rssFile);
+             OutputStream jsonOut = gzip(jsonFile)) {
+            XMLStreamWriter sitemap = xmlOutputFactory.createXMLStreamWriter(sitemapOut, "UTF-8");
+            XMLStreamWriter rss = xmlOutputFactory.createXMLStreamWriter(rssOut, "UTF-8");
+            JsonGenerator json = objectMapper.getFactory().createGenerator(jsonOut)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            startSitemap(sitemap);
+            startRss(rss, segment, next);
+            startJsonFeed(json, segment, next);
+
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                long from = segment * properties.getSegmentSize();
+                try (Stream<FeedRow> rows = jobSearchViewRepository.streamForFeed(from, from + properties.getSegmentSize())) {
+                    Iterator<FeedRow> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        FeedRow row = iterator.next();
+                        String link = properties.getSiteUrl() + "/jobs/" + row.getId();
+                        LocalDateTime modified = row.getUpdatedAt() != null ? row.getUpdatedAt() : row.getCreatedAt();
+                        writeSitemapUrl(sitemap, link, modified);
+                        writeRssItem(rss, row, link);
+                        writeJsonItem(json, row, link, modified);
+                        if (modified != null && (newest[0] == null || modified.isAfter(newest[0]))) {
+                            newest[0] = modified;
+                        }
+                        count[0]++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (XMLStreamException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            sitemap.writeEndDocument();
+            sitemap.close();
+            rss.writeEndDocument();
+            rss.close();
+            json.writeEndArray();
+            json.writeEndObject();
+            json.close();
+        } catch (RuntimeException | IOException | XMLStreamException e) {
+            Files.deleteIfExists(sitemapFile);
+            Files.deleteIfExists(rssFile);
+            Files.deleteIfExists(jsonFile);
+            throw e;
+        }
+        // The feeds go first: a crawler that found the sitemap should find the feed at least as new
+        publish(feedName(segment, "xml"), rssFile, version);
+        publish(feedName(segment, "json"), jsonFile, version);
+        publish(sitemapName(segment), sitemapFile, version);
+        if (newest[0] != null) {
+            lastModified.put(segment, newest[0]);
+        } else {
+            lastModified.remove(segment);
+        }
+        return count[0];
+    }
+
+    private void writeIndex(long last, long version) throws IOException, XMLStreamException {
+        Path file = versioned(SITEMAP_INDEX, version);
+        try (OutputStream out = gzip(file)) {
+            XMLStreamWriter index = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+            index.writeStartDocument("UTF-8", "1.0");
+            index.writeStartElement("sitemapindex");
+            index.writeDefaultNamespace(SITEMAP_NS);
+            for (long segment = 0; segment <= last; segment++) {
+                index.writeStartElement("sitemap");
+                element(index, "loc", properties.getApiUrl() + "/api/public/sitemap-" + segment + ".xml");
+                LocalDateTime modified = lastModified.get(segment);
+                if (modified != null) {
+                    element(index, "lastmod", w3c(modified));
+                }
+                index.writeEndElement();
+            }
+            index.writeEndDocument();
+            index.close();
+        } catch (IOException | XMLStreamException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        publish(SITEMAP_INDEX, file, version);
+    }
+
+    // At startup: the newest file of each name is served until it is rewritten, older ones are deleted
+    private void load() throws IOException {
+        Files.createDirectories(directory());
+        Map<String, Long> versions = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = VERSIONED_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    versions.merge(matcher.group(1), Long.parseLong(matcher.group(2)), Math::max);
+                }
+            }
+        }
+        try (Stream<Path> files = Files.list(directory())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = VERSIONED_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                if (versions.get(matcher.group(1)) == Long.parseLong(matcher.group(2))) {
+                    published.put(matcher.group(1), file);
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private void publish(String name, Path file, long now) {
+        Path previous = published.put(name, file);
+        if (previous != null) {
+            retired.put(previous, now);
+        }
+    }
+
+    // Segments past the last one, after jobs at the end of the id range went away
+    private void unpublishAfter(long last, long now) {
+        lastModified.keySet().removeIf(segment -> segment > last);
+        for (String name : List.copyOf(published.keySet())) {
+            Matcher matcher = SEGMENT_NAME.matcher(name);
+            if (matcher.matches() && Long.parseLong(matcher.group(1)) > last) {
+                retired.put(published.remove(name), now);
+            }
+        }
+    }
+
+    private void deleteRetired(long now) throws IOException {
+        for (Iterator<Map.Entry<Path, Long>> iterator = retired.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Path, Long> entry = iterator.next();
+            if (now - entry.getValue() >= RETIRED_GRACE_MILLIS) {
+                Files.deleteIfExists(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void startSitemap(XMLStreamWriter sitemap) throws XMLStreamException {
+        sitemap.writeStartDocument("UTF-8", "1.0");
+        sitemap.writeStartElement("urlset");
+        sitemap.writeDefaultNamespace(SITEMAP_NS);
+    }
+
+    private static void writeSitemapUrl(XMLStreamWriter sitemap, String link, LocalDateTime modified) throws XMLStreamException {
+        sitemap.writeStartElement("url");
+        element(sitemap, "loc", link);
+        if (modified != null) {
+            element(sitemap, "lastmod", w3c(modified));
+        }
+        sitemap.writeEndElement();
+    }
+
+    private void startRss(XMLStreamWriter rss, long segment, String next) throws XMLStreamException {
+        rss.writeStartDocument("UTF-8", "1.0");
+        rss.writeStartElement("rss");
+        rss.writeAttribute("version", "2.0");
+        rss.writeNamespace("atom", ATOM_NS);
+        rss.writeStartElement("channel");
+        element(rss, "title", "Jobs");
+        element(rss, "link", properties.getSiteUrl() + "/jobs");
+        element(rss, "description", "Open positions");
+        element(rss, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now()));
+        atomLink(rss, "self", properties.getApiUrl() + "/api/public/feed-" + segment + ".xml");
+        if (next != null) {
+            atomLink(rss, "next", next + ".xml");
+        }
+    }
+
+    private static void atomLink(XMLStreamWriter rss, String rel, String href) throws XMLStreamException {
+        rss.writeEmptyElement("atom", "link", ATOM_NS);
+        rss.writeAttribute("rel", rel);
+        rss.writeAttribute("href", href);
+        rss.writeAttribute("type", "application/rss+xml");
+    }
+
+    private static void writeRssItem(XMLStreamWriter rss, FeedRow row, String link) throws XMLStreamException {
+        rss.writeStartElement("item");
+        element(rss, "title", row.getCompanyName() != null ? row.getTitle() + " at " + row.getCompanyName() : row.getTitle());
+        element(rss, "link", link);
+        rss.writeStartElement("guid");
+        rss.writeAttribute("isPermaLink", "true");
+        rss.writeCharacters(link);
+        rss.writeEndElement();
+        element(rss, "description", describe(row));
+        if (row.getCategoryName() != null) {
+            element(rss, "category", row.getCategoryName());
+        }
+        if (row.getCreatedAt() != null) {
+            element(rss, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(row.getCreatedAt().atZone(ZoneId.systemDefault())));
+        }
+        rss.writeEndElement();
+    }
+
+    private void startJsonFeed(JsonGenerator json, long segment, String next) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("version", "https://jsonfeed.org/version/1.1");
+        json.writeStringField("title", "Jobs");
+        json.writeStringField("home_page_url", properties.getSiteUrl() + "/jobs");
+        json.writeStringField("feed_url", properties.getApiUrl() + "/api/public/feed-" + segment + ".json");
+        if (next != null) {
+            json.writeStringField("next_url", next + ".json");
+        }
+        json.writeArrayFieldStart("items");
+    }
+
+    // Job fields beyond JSON Feed's own go in a "_job" extension object
+    private static void writeJsonItem(JsonGenerator json, FeedRow row, String link, LocalDateTime modified) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", link);
+        json.writeStringField("url", link);
+        json.writeStringField("title", row.getTitle());
+        json.writeStringField("content_text", describe(row));
+        if (row.getCreatedAt() != null) {
+            json.writeStringField("date_published", w3c(row.getCreatedAt()));
+        }
+        if (modified != null) {
+            json.writeStringField("date_modified", w3c(modified));
+        }
+        if (row.getCategoryName() != null) {
+            json.writeArrayFieldStart("tags");
+            json.writeString(row.getCategoryName());
+            json.writeEndArray();
+        }
+        json.writeObjectFieldStart("_job");
+        json.writeStringField("company", row.getCompanyName());
+        json.writeStringField("location", row.getLocation());
+        json.writeObjectField("jobType", row.getJobType());
+        json.writeObjectField("experienceLevel", row.getExperienceLevel());
+        json.writeObjectField("isRemote", row.getIsRemote());
+        json.writeObjectField("minSalary", row.getMinSalary());
+        json.writeObjectField("maxSalary", row.getMaxSalary());
+        json.writeStringField("currency", row.getCurrency());
+        json.writeStringField("applicationDeadline",
+                row.getApplicationDeadline() != null ? w3c(row.getApplicationDeadline()) : null);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String describe(FeedRow row) {
+        StringBuilder text = new StringBuilder();
+        if (row.getLocation() != null) {
+            text.append(row.getLocation());
+            if (Boolean.TRUE.equals(row.getIsRemote())) {
+                text.append(" (remote)");
+            }
+            text.append(". ");
+        }
+        if (row.getSummary() != null) {
+            text.append(row.getSummary());
+        }
+        return text.toString().trim();
+    }
+
+    private static void element(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static String w3c(LocalDateTime time) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time.atZone(ZoneId.systemDefault()).withNano(0));
+    }
+
+    private static String sitemapName(long segment) {
+        return "sitemap-" + segment + ".xml.gz";
+    }
+
+    private static String feedName(long segment, String extension) {
+        return "feed-" + segment + "." + extension + ".gz";
+    }
+
+    private Path directory() {
+        return Path.of(properties.getDir()).toAbsolutePath().normalize();
+    }
+
+    private Path versioned(String name, long version) {
+        return directory().resolve(name + "." + version);
+    }
+
+    private static OutputStream gzip(Path file) throws IOException {
+        return new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), BUFFER_SIZE);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.jobportal.service;
+
+import com.jobportal.entity.CompressedTextConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites rows stored before compression was enabled. Reads never need this (plain rows
+ * are returned as-is), it only reclaims space. Runs in id-ordered chunks, each one an
+ * independent batch update, so it can be interrupted and restarted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TextCompressionBackfill implements ApplicationRunner {
+
+    // table, id column, compressed column; must match the @Convert mappings
+    private static final String[][] COLUMNS = {
+            {"job_details", "job_id", "requirements"},
+            {"job_details", "job_id", "benefits"},
+            {"job_details", "job_id", "application_instructions"},
+            {"job_applications", "id", "cover_letter"},
+            {"notifications", "id", "message"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${text-compression.enabled:false}")
+    private boolean enabled;
+
+    @Value("${text-compression.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Value("${text-compression.min-length:256}")
+    private int minLength;
+
+    @Value("${text-compression.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled && backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    public void backfill() {
+        for (String[] column : COLUMNS) {
+            long started = System.currentTimeMillis();
+            long[] totals = backfillColumn(column[0], column[1], column[2]);
+            log.info("Compressed {}.{}: {} of {} rows rewritten, {} -> {} chars in {} ms",
+                    column[0], column[2], totals[1], totals[0], totals[2], totals[3],
+                    System.currentTimeMillis() - started);
+        }
+    }
+
+    // returns {rows scanned, rows rewritten, chars before, chars after}
+    private long[] backfillColumn(String table, String idColumn, String column) {
+        String select = "SELECT " + idColumn + " AS id, " + column + " AS value FROM " + table
+                + " WHERE " + idColumn + " > ? AND " + column + " IS NOT NULL AND CHAR_LENGTH(" + column + ") >= ?"
+                + " AND " + column + " NOT LIKE '" + CompressedTextConverter.MARKER + "%'"
+                + " ORDER BY " + idColumn + " LIMIT ?";
+        String update = "UPDATE " + table + " SET " + column + " = ? WHERE " + idColumn + " = ? AND " + column + " = ?";
+
+        long[] totals = new long[4];
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(select, lastId, minLength, chunkSize);
+            if (rows.isEmpty()) {
+                return totals;
+            }
+            List<Object[]> updates = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                String value = (String) row.get("value");
+                // Escaped plain values are unescaped first, so they are compressed as the text they hold
+                String compressed = CompressedTextConverter.compress(CompressedTextConverter.decompress(value));
+                totals[0]++;
+                totals[2] += value.length();
+                totals[3] += compressed.length();
+                if (!compressed.equals(value)) {
+                    // Guarded on the old value so a concurrent edit is never overwritten
+                    updates.add(new Object[]{compressed, id, value});
+                }
+                lastId = id;
+            }
+            if (!updates.isEmpty()) {
+                totals[1] += jdbcTemplate.batchUpdate(update, updates).length;
+            }
+        }
+    }
+}
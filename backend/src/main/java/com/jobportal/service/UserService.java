@@ -1,8 +1,13 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.BatchResponse;
+import com.jobportal.dto.PurgeTask;
 import com.jobportal.dto.RegisterRequest;
+import com.jobportal.dto.UserResponse;
 import com.jobportal.entity.User;
 import com.jobportal.entity.Skill;
+import com.jobportal.repository.CompanyRepository;
+import com.jobportal.repository.JobRepository;
 import com.jobportal.repository.UserRepository;
 import com.jobportal.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +16,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +32,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final SkillRepository skillRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final JobSearchViewService jobSearchViewService;
+    private final JobDetailCache jobDetailCache;
+    private final PurgeService purgeService;
 
     public User createUser(RegisterRequest registerRequest) {
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
@@ -51,22 +64,56 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<UserResponse> getUser(Long id) {
+        return userRepository.findWithSkillsById(id).map(UserResponse::fromUser);
+    }
+
+    // Multi-get: one query for the users and their skills
+    @Transactional(readOnly = true)
+    public BatchResponse<UserResponse> getUsers(List<Long> ids) {
+        Map<Long, UserResponse> found = userRepository.findWithSkillsByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, UserResponse::fromUser));
+        return BatchResponse.of(ids, found, "User not found");
+    }
+
     public User updateUser(User user) {
         return userRepository.save(user);
     }
 
-    public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+    // Hides the user, their company and their jobs at once; the rows are purged in the background
+    public PurgeTask deleteUser(Long id, User currentUser) {
+        if (!id.equals(currentUser.getId()) && !currentUser.isAdmin()) {
+            throw new RuntimeException("You don't have permission to delete this user");
+        }
+        if (!userRepository.existsById(id)) {
+            throw new RuntimeException("User not found");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jobSearchViewService.removeByOwner(id);
+        jobDetailCache.invalidatePoster(id);
+        jobRepository.softDeleteByOwner(id, now);
+        companyRepository.softDeleteByUserId(id, now);
+        userRepository.softDeleteById(id, now);
+        return purgeService.requestPurge(PurgeTask.Target.USER, id, currentUser.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserResponse> getAllUsers() {
+        return toResponses(userRepository.findAllWithSkills());
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsersByRole(User.Role role) {
+        return toResponses(userRepository.findByRole(role));
     }
 
-    public List<User> getUsersByRole(User.Role role) {
-        return userRepository.findByRole(role);
+    private List<UserResponse> toResponses(List<User> users) {
+        return users.stream().map(UserResponse::fromUser).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -78,7 +125,7 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    public User updateProfile(User user, String firstName, String lastName, String phone, 
+    public UserResponse updateProfile(User user, String firstName, String lastName, String phone, 
                              String bio, String location, String website, String linkedinUrl, String githubUrl) {
         user.setFirstName(firstName);
         user.setLastName(lastName);
@@ -88,7 +135,10 @@ public class UserService {
         user.setWebsite(website);
         user.setLinkedinUrl(linkedinUrl);
         user.setGithubUrl(githubUrl);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        jobSearchViewService.refreshPoster(savedUser);
+        jobDetailCache.invalidatePoster(savedUser.getId());
+        return UserResponse.fromUser(savedUser);
     }
 
     public User updatePassword(User user, String newPassword) {
@@ -96,36 +146,45 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    public User updateProfilePicture(User user, String profilePictureUrl) {
+    public UserResponse updateProfilePicture(User user, String profilePictureUrl) {
         user.setProfilePicture(profilePictureUrl);
-        return userRepository.save(user);
+        return UserResponse.fromUser(userRepository.save(user));
     }
 
-    public User updateResume(User user, String resumeUrl) {
+    public UserResponse updateResume(User user, String resumeUrl) {
         user.setResumeUrl(resumeUrl);
-        return userRepository.save(user);
+        return UserResponse.fromUser(userRepository.save(user));
     }
     
-    public User deleteResume(User user) {
+    public UserResponse deleteResume(User user) {
         user.setResumeUrl(null);
-        return userRepository.save(user);
+        return UserResponse.fromUser(userRepository.save(user));
     }
 
-    public User addSkill(User user, Long skillId) {
+    public UserResponse addSkill(User user, Long skillId) {
         Skill skill = skillRepository.findById(skillId)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
-        user.getSkills().add(skill);
-        return userRepository.save(user);
+        User managedUser = findWithSkills(user);
+        managedUser.getSkills().add(skill);
+        return UserResponse.fromUser(userRepository.save(managedUser));
     }
 
-    public User removeSkill(User user, Long skillId) {
+    public UserResponse removeSkill(User user, Long skillId) {
         Skill skill = skillRepository.findById(skillId)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
-        user.getSkills().remove(skill);
-        return userRepository.save(user);
+        User managedUser = findWithSkills(user);
+        managedUser.getSkills().remove(skill);
+        return UserResponse.fromUser(userRepository.save(managedUser));
     }
 
-    public User updateSkills(User user, List<Long> skillIds) {
+    // The caller's user was loaded in an earlier transaction, so its skills collection cannot be
+    // initialized any more; reload it here before changing the collection
+    private User findWithSkills(User user) {
+        return userRepository.findWithSkillsById(user.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    public UserResponse updateSkills(User user, List<Long> skillIds) {
         Set<Skill> skills = new java.util.HashSet<>();
         for (Long skillId : skillIds) {
             Skill skill = skillRepository.findById(skillId)
@@ -133,6 +192,6 @@ public class UserService {
             skills.add(skill);
         }
         user.setSkills(skills);
-        return userRepository.save(user);
+        return UserResponse.fromUser(userRepository.save(user));
     }
 }
@@ -0,0 +1,10 @@
+-- Soft-deleted rows held on to their unique keys until the purge removed them, so the email of a
+-- deleted user could not register again and the owner of a deleted company could not create another.
+-- Soft deletes now free both; this does the same for rows deleted before.
+
+UPDATE users SET email = CONCAT('deleted-', id) WHERE deleted_at IS NOT NULL;
+
+-- Only companies whose owner is still there: a deleted owner's purge finds the company through user_id
+UPDATE companies SET user_id = NULL
+WHERE deleted_at IS NOT NULL
+  AND user_id IN (SELECT id FROM users WHERE deleted_at IS NULL);
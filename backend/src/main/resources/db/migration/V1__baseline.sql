@@ -0,0 +1,170 @@
+-- Baseline schema: the tables Hibernate generated with ddl-auto=update before migrations existed,
+-- so existing databases can be baselined at version 1 and new ones are created from here
+
+CREATE TABLE categories (
+    id bigint not null auto_increment,
+    is_active bit,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    color varchar(255),
+    description varchar(255),
+    icon varchar(255),
+    name varchar(255),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE companies (
+    id bigint not null auto_increment,
+    founded_year integer,
+    is_active bit,
+    is_verified bit,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    user_id bigint,
+    address varchar(255),
+    city varchar(255),
+    company_size varchar(255),
+    country varchar(255),
+    cover_image_url varchar(255),
+    description TEXT,
+    email varchar(255),
+    facebook_url varchar(255),
+    industry varchar(255),
+    linkedin_url varchar(255),
+    logo_url varchar(255),
+    name varchar(255),
+    phone varchar(255),
+    state varchar(255),
+    twitter_url varchar(255),
+    website varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE job_applications (
+    id bigint not null auto_increment,
+    applied_at datetime(6) not null,
+    created_at datetime(6) not null,
+    interview_scheduled_at datetime(6),
+    job_id bigint not null,
+    reviewed_at datetime(6),
+    updated_at datetime(6),
+    user_id bigint not null,
+    cover_letter TEXT,
+    notes TEXT,
+    rejection_reason TEXT,
+    resume_url varchar(255),
+    status enum ('PENDING','REVIEWED','SHORTLISTED','INTERVIEW_SCHEDULED','INTERVIEWED','ACCEPTED','REJECTED','WITHDRAWN'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE job_skills (
+    job_id bigint not null,
+    skill_id bigint not null,
+    primary key (job_id, skill_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE jobs (
+    id bigint not null auto_increment,
+    applications_count integer,
+    currency varchar(3),
+    is_active bit,
+    is_remote bit,
+    max_salary decimal(10,2),
+    min_salary decimal(10,2),
+    views_count integer,
+    application_deadline datetime(6),
+    category_id bigint,
+    company_id bigint,
+    created_at datetime(6) not null,
+    posted_by bigint not null,
+    updated_at datetime(6),
+    application_instructions TEXT,
+    benefits TEXT,
+    description TEXT,
+    location varchar(255),
+    requirements TEXT,
+    title varchar(255),
+    experience_level enum ('ENTRY_LEVEL','MID_LEVEL','SENIOR_LEVEL','EXECUTIVE'),
+    job_type enum ('FULL_TIME','PART_TIME','CONTRACT','INTERNSHIP','FREELANCE'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE notifications (
+    id bigint not null auto_increment,
+    is_read bit,
+    created_at datetime(6) not null,
+    read_at datetime(6),
+    user_id bigint not null,
+    action_url varchar(255),
+    message TEXT,
+    title varchar(255),
+    type enum ('JOB_APPLICATION','JOB_MATCH','INTERVIEW_SCHEDULED','APPLICATION_STATUS_UPDATE','NEW_JOB_POSTED','SYSTEM_NOTIFICATION','REMINDER'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE saved_jobs (
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    saved_at datetime(6) not null,
+    user_id bigint not null,
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE skills (
+    id bigint not null auto_increment,
+    is_active bit,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    description varchar(255),
+    name varchar(255),
+    category enum ('PROGRAMMING_LANGUAGES','FRAMEWORKS','DATABASES','TOOLS','SOFT_SKILLS','LANGUAGES','CERTIFICATIONS','OTHER'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE user_skills (
+    skill_id bigint not null,
+    user_id bigint not null,
+    primary key (skill_id, user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE users (
+    id bigint not null auto_increment,
+    is_active bit,
+    is_verified bit,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    bio varchar(1000),
+    email varchar(255),
+    first_name varchar(255),
+    github_url varchar(255),
+    last_name varchar(255),
+    linkedin_url varchar(255),
+    location varchar(255),
+    password varchar(255),
+    phone varchar(255),
+    profile_picture varchar(255),
+    resume_url varchar(255),
+    website varchar(255),
+    role enum ('JOB_SEEKER','EMPLOYER','ADMIN'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+alter table categories add constraint UK_t8o6pivur7nn124jehx7cygw5 unique (name);
+alter table companies add constraint UK_5xg6ed73n32iai9psir68pia9 unique (user_id);
+alter table saved_jobs add constraint UKe0hdgkw4tkup6grelv0q8g6qb unique (user_id, job_id);
+alter table skills add constraint UK_85woe63nu9klkk9fa73vf0jd0 unique (name);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table companies add constraint FK9l5d0fem75e59uwf9upwuf9du foreign key (user_id) references users (id);
+alter table job_applications add constraint FKqt4m3c9yiioi16kwsyjrl0cpl foreign key (job_id) references jobs (id);
+alter table job_applications add constraint FKqs2guhg7p83917vto86imuthy foreign key (user_id) references users (id);
+alter table job_skills add constraint FKe10ho7um0atjm67b9dgokmfyx foreign key (skill_id) references skills (id);
+alter table job_skills add constraint FK1gb74tysr9vkypwivvvovxq1f foreign key (job_id) references jobs (id);
+alter table jobs add constraint FKlunrv9ems34544ff26wyfa89v foreign key (category_id) references categories (id);
+alter table jobs add constraint FKrtmqcrktb6s7xq8djbs2a2war foreign key (company_id) references companies (id);
+alter table jobs add constraint FKq4v0nwosiuabukh6vlo7414wd foreign key (posted_by) references users (id);
+alter table notifications add constraint FK9y21adhxn0ayjhfocscqox7bh foreign key (user_id) references users (id);
+alter table saved_jobs add constraint FKawvc9t3d3efu6ta6h30tb984t foreign key (job_id) references jobs (id);
+alter table saved_jobs add constraint FK5fc45yi5nwtm3y93nt4fcpln6 foreign key (user_id) references users (id);
+alter table user_skills add constraint FKh223y61gwijpgqt6nlsuti07g foreign key (skill_id) references skills (id);
+alter table user_skills add constraint FKro13if9r7fwkr5115715127ai foreign key (user_id) references users (id);
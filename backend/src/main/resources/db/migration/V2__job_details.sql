@@ -0,0 +1,26 @@
+-- Moves the job text bodies into job_details (same primary key as the job) and keeps a short
+-- summary on jobs for the list pages
+
+CREATE TABLE job_details (
+    job_id bigint not null,
+    application_instructions TEXT,
+    benefits TEXT,
+    description TEXT not null,
+    requirements TEXT,
+    primary key (job_id)
+) ENGINE=InnoDB;
+
+ALTER TABLE jobs ADD COLUMN summary varchar(300);
+
+INSERT INTO job_details (job_id, description, requirements, benefits, application_instructions)
+SELECT id, COALESCE(description, ''), requirements, benefits, application_instructions FROM jobs;
+
+UPDATE jobs
+SET summary = CASE WHEN CHAR_LENGTH(description) <= 300 THEN description ELSE CONCAT(LEFT(description, 297), '...') END;
+
+ALTER TABLE jobs DROP COLUMN description;
+ALTER TABLE jobs DROP COLUMN requirements;
+ALTER TABLE jobs DROP COLUMN benefits;
+ALTER TABLE jobs DROP COLUMN application_instructions;
+
+alter table job_details add constraint FKibicsatxujvu4f247phovwlvw foreign key (job_id) references jobs (id) on delete cascade;
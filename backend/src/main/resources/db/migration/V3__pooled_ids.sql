@@ -0,0 +1,20 @@
+-- Ids are handed out by Hibernate in blocks of 50 from id_generators (see the @TableGenerator on
+-- each entity). Each generator starts one block past the highest existing id so no block overlaps
+-- rows written with AUTO_INCREMENT; the AUTO_INCREMENT attribute stays on the columns but is no
+-- longer used.
+
+CREATE TABLE id_generators (
+    next_val bigint,
+    sequence_name varchar(255) not null,
+    primary key (sequence_name)
+) ENGINE=InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'categories', COALESCE(MAX(id) + 51, 0) FROM categories
+UNION ALL SELECT 'companies', COALESCE(MAX(id) + 51, 0) FROM companies
+UNION ALL SELECT 'job_applications', COALESCE(MAX(id) + 51, 0) FROM job_applications
+UNION ALL SELECT 'jobs', COALESCE(MAX(id) + 51, 0) FROM jobs
+UNION ALL SELECT 'notifications', COALESCE(MAX(id) + 51, 0) FROM notifications
+UNION ALL SELECT 'saved_jobs', COALESCE(MAX(id) + 51, 0) FROM saved_jobs
+UNION ALL SELECT 'skills', COALESCE(MAX(id) + 51, 0) FROM skills
+UNION ALL SELECT 'users', COALESCE(MAX(id) + 51, 0) FROM users;
@@ -0,0 +1,60 @@
+-- Composite indexes for the repository queries behind list pages, counters and background jobs.
+-- Each index is named after the query it serves; IndexUsageCheck EXPLAINs the same shapes.
+
+-- JobRepository.findByIsActiveTrueOrderByCreatedAtDesc, findTop10ByIsActiveTrueOrderByCreatedAtDesc,
+-- findJobsWithFilters (default sort)
+CREATE INDEX idx_jobs_active_created ON jobs (is_active, created_at);
+-- JobRepository.findTop10ByIsActiveTrueOrderByViewsCountDesc
+CREATE INDEX idx_jobs_active_views ON jobs (is_active, views_count);
+-- JobRepository.findByApplicationDeadlineBeforeAndIsActiveTrue
+CREATE INDEX idx_jobs_active_deadline ON jobs (is_active, application_deadline);
+-- JobRepository.findByPostedByOrderByCreatedAtDesc
+CREATE INDEX idx_jobs_posted_by_created ON jobs (posted_by, created_at);
+-- JobRepository.findByCompanyIdAndIsActiveTrueOrderByCreatedAtDesc
+CREATE INDEX idx_jobs_company_active_created ON jobs (company_id, is_active, created_at);
+-- JobRepository.findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc
+CREATE INDEX idx_jobs_category_active_created ON jobs (category_id, is_active, created_at);
+
+-- Databases that still allowed double submits can hold several applications per (user, job), which
+-- would stop the unique key below. Keeps the most recently updated row of each pair (the one the
+-- employer acted on last; the lowest id on ties) and corrects the job counters the duplicates
+-- inflated.
+
+-- The derived table lets MySQL read job_applications while deleting from it
+DELETE FROM job_applications
+WHERE id IN (
+    SELECT id FROM (
+        SELECT a.id
+        FROM job_applications a
+        JOIN job_applications b ON b.user_id = a.user_id AND b.job_id = a.job_id AND b.id <> a.id
+        WHERE COALESCE(b.updated_at, b.created_at) > COALESCE(a.updated_at, a.created_at)
+           OR (COALESCE(b.updated_at, b.created_at) = COALESCE(a.updated_at, a.created_at) AND b.id < a.id)
+    ) duplicates
+);
+
+UPDATE jobs
+SET applications_count = (SELECT COUNT(*) FROM job_applications a WHERE a.job_id = jobs.id)
+WHERE applications_count > (SELECT COUNT(*) FROM job_applications a WHERE a.job_id = jobs.id);
+
+-- JobApplicationRepository.existsByUserAndJob, existsByUserAndJobId, countByUser;
+-- also stops a double submit from creating two applications
+ALTER TABLE job_applications ADD CONSTRAINT uk_job_applications_user_job UNIQUE (user_id, job_id);
+-- JobApplicationRepository.findByUserOrderByAppliedAtDesc
+CREATE INDEX idx_job_applications_user_applied ON job_applications (user_id, applied_at);
+-- JobApplicationRepository.findByJobIdOrderByAppliedAtDesc, countByJobId
+CREATE INDEX idx_job_applications_job_applied ON job_applications (job_id, applied_at);
+-- JobApplicationRepository.findByStatusOrderByAppliedAtDesc
+CREATE INDEX idx_job_applications_status_applied ON job_applications (status, applied_at);
+
+-- NotificationRepository.countByUserAndIsReadFalse, findByUserAndIsReadFalseOrderByCreatedAtDesc
+CREATE INDEX idx_notifications_user_read_created ON notifications (user_id, is_read, created_at);
+-- NotificationRepository.findByUserOrderByCreatedAtDesc
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+-- NotificationRepository.deleteByCreatedAtBeforeAndIsReadTrue
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at);
+
+-- SavedJobRepository.findByUserOrderBySavedAtDesc (existence checks use the (user_id, job_id) unique key)
+CREATE INDEX idx_saved_jobs_user_saved ON saved_jobs (user_id, saved_at);
+
+-- CompanyRepository.findByIsActiveTrueOrderByCreatedAtDesc
+CREATE INDEX idx_companies_active_created ON companies (is_active, created_at);
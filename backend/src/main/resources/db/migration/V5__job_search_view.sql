@@ -0,0 +1,54 @@
+-- Denormalized read model behind the public job listings: one row per active job, maintained by
+-- JobSearchViewService on every write and filled for existing jobs by JobSearchViewRebuild at startup.
+
+CREATE TABLE job_search_view (
+    job_id bigint not null,
+    applications_count integer,
+    currency varchar(3),
+    is_remote bit,
+    max_salary decimal(10,2),
+    min_salary decimal(10,2),
+    max_salary_base decimal(12,2),
+    min_salary_base decimal(12,2),
+    views_count integer,
+    application_deadline datetime(6),
+    created_at datetime(6),
+    updated_at datetime(6),
+    category_id bigint,
+    company_id bigint,
+    posted_by bigint,
+    summary varchar(300),
+    title varchar(255),
+    title_lower varchar(255),
+    location varchar(255),
+    location_lower varchar(255),
+    poster_first_name varchar(255),
+    poster_last_name varchar(255),
+    poster_email varchar(255),
+    company_name varchar(255),
+    company_logo_url varchar(255),
+    company_industry varchar(255),
+    company_location varchar(255),
+    category_name varchar(255),
+    category_icon varchar(255),
+    category_color varchar(255),
+    skill_ids varchar(1000),
+    experience_level enum ('ENTRY_LEVEL','MID_LEVEL','SENIOR_LEVEL','EXECUTIVE'),
+    job_type enum ('FULL_TIME','PART_TIME','CONTRACT','INTERNSHIP','FREELANCE'),
+    primary key (job_id)
+) ENGINE=InnoDB;
+
+alter table job_search_view add constraint fk_job_search_view_job foreign key (job_id) references jobs (id) on delete cascade;
+
+-- JobSearchViewRepository.findAllByOrderByCreatedAtDesc, findTop10ByOrderByCreatedAtDesc, search (default sort)
+CREATE INDEX idx_job_search_view_created ON job_search_view (created_at);
+-- JobSearchViewRepository.findTop10ByOrderByViewsCountDesc
+CREATE INDEX idx_job_search_view_views ON job_search_view (views_count);
+-- JobSearchViewRepository.findByCompanyIdOrderByCreatedAtDesc, updateCompany
+CREATE INDEX idx_job_search_view_company_created ON job_search_view (company_id, created_at);
+-- JobSearchViewRepository.findByCategoryIdOrderByCreatedAtDesc, updateCategory
+CREATE INDEX idx_job_search_view_category_created ON job_search_view (category_id, created_at);
+-- JobSearchViewRepository.updatePoster
+CREATE INDEX idx_job_search_view_posted_by ON job_search_view (posted_by);
+-- Salary range filters expressed in the base currency
+CREATE INDEX idx_job_search_view_salary_base ON job_search_view (min_salary_base, max_salary_base);
@@ -0,0 +1,6 @@
+-- Soft-delete markers: a deleted user, company or job is hidden by its entity's @SQLRestriction
+-- immediately, and PurgeService removes the row and its children in the background.
+
+ALTER TABLE users ADD COLUMN deleted_at datetime(6);
+ALTER TABLE companies ADD COLUMN deleted_at datetime(6);
+ALTER TABLE jobs ADD COLUMN deleted_at datetime(6);
@@ -0,0 +1,85 @@
+-- Cold storage for closed jobs. JobArchiver moves jobs inactive for longer than archive.after,
+-- with their details, skills, applications and saved-job rows, out of the hot tables in chunks.
+-- Columns mirror the hot tables plus archived_at; there are no foreign keys, PurgeService
+-- removes archived rows together with the user or company they belong to.
+
+CREATE TABLE archived_jobs (
+    id bigint not null,
+    applications_count integer,
+    currency varchar(3),
+    is_active bit,
+    is_remote bit,
+    max_salary decimal(10,2),
+    min_salary decimal(10,2),
+    views_count integer,
+    application_deadline datetime(6),
+    category_id bigint,
+    company_id bigint,
+    created_at datetime(6) not null,
+    posted_by bigint not null,
+    updated_at datetime(6),
+    archived_at datetime(6) not null,
+    summary varchar(300),
+    location varchar(255),
+    title varchar(255),
+    experience_level enum ('ENTRY_LEVEL','MID_LEVEL','SENIOR_LEVEL','EXECUTIVE'),
+    job_type enum ('FULL_TIME','PART_TIME','CONTRACT','INTERNSHIP','FREELANCE'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE archived_job_details (
+    job_id bigint not null,
+    application_instructions TEXT,
+    benefits TEXT,
+    description TEXT not null,
+    requirements TEXT,
+    archived_at datetime(6) not null,
+    primary key (job_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE archived_job_skills (
+    job_id bigint not null,
+    skill_id bigint not null,
+    archived_at datetime(6) not null,
+    primary key (job_id, skill_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE archived_job_applications (
+    id bigint not null,
+    applied_at datetime(6) not null,
+    created_at datetime(6) not null,
+    interview_scheduled_at datetime(6),
+    job_id bigint not null,
+    reviewed_at datetime(6),
+    updated_at datetime(6),
+    user_id bigint not null,
+    archived_at datetime(6) not null,
+    cover_letter TEXT,
+    notes TEXT,
+    rejection_reason TEXT,
+    resume_url varchar(255),
+    status enum ('PENDING','REVIEWED','SHORTLISTED','INTERVIEW_SCHEDULED','INTERVIEWED','ACCEPTED','REJECTED','WITHDRAWN'),
+    primary key (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE archived_saved_jobs (
+    id bigint not null,
+    job_id bigint not null,
+    saved_at datetime(6) not null,
+    user_id bigint not null,
+    archived_at datetime(6) not null,
+    primary key (id)
+) ENGINE=InnoDB;
+
+-- ArchivedJobRepository.findByPostedByIdOrderByCreatedAtDesc, countByPostedById
+CREATE INDEX idx_archived_jobs_posted_by_created ON archived_jobs (posted_by, created_at);
+CREATE INDEX idx_archived_jobs_company ON archived_jobs (company_id);
+-- ArchivedJobApplicationRepository.findByUserIdOrderByAppliedAtDesc, countByUserId
+CREATE INDEX idx_archived_job_applications_user_applied ON archived_job_applications (user_id, applied_at);
+-- ArchivedJobApplicationRepository.findByJobIdOrderByAppliedAtDesc, countByJobId
+CREATE INDEX idx_archived_job_applications_job_applied ON archived_job_applications (job_id, applied_at);
+CREATE INDEX idx_archived_saved_jobs_user ON archived_saved_jobs (user_id);
+CREATE INDEX idx_archived_saved_jobs_job ON archived_saved_jobs (job_id);
+
+-- JobArchiver candidate scan
+CREATE INDEX idx_jobs_active_updated ON jobs (is_active, updated_at);
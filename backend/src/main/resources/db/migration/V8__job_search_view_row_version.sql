@@ -0,0 +1,3 @@
+-- Bumped by every write to a job_search_view row; cached list entries are keyed by (job_id, row_version)
+
+ALTER TABLE job_search_view ADD COLUMN row_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Reference of a job in the poster's own system, set by bulk imports. Re-importing a feed updates
+-- the jobs it created instead of adding copies; archived jobs keep their reference so a re-import
+-- does not bring them back.
+
+ALTER TABLE jobs ADD COLUMN external_ref varchar(100);
+ALTER TABLE archived_jobs ADD COLUMN external_ref varchar(100);
+
+CREATE UNIQUE INDEX uk_jobs_posted_by_external_ref ON jobs (posted_by, external_ref);
+CREATE INDEX idx_archived_jobs_posted_by_external_ref ON archived_jobs (posted_by, external_ref);
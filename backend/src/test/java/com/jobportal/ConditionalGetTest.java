@@ -0,0 +1,144 @@
+package com.jobportal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.QueryCount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Revalidation of job details, job lists and reference data: strong ETags, Last-Modified, and
+ * 304s answered before the job or the list is loaded.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String employer;
+    private long categoryId;
+    private long jobId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        postJson(null, "/api/auth/register", Map.of("firstName", "Test", "lastName", "Employer",
+                "email", "conditional-get@example.com", "password", "secret123", "role", "EMPLOYER"));
+        employer = postJson(null, "/api/auth/login", Map.of("email", "conditional-get@example.com",
+                "password", "secret123")).get("token").asText();
+        categoryId = postJson(employer, "/api/categories",
+                Map.of("name", "Revalidation", "icon", "code", "color", "#654321")).get("id").asLong();
+        jobId = createJob("Revalidated engineer");
+    }
+
+    @Test
+    void jobDetailRevalidatesWithoutCountingAView() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/jobs/" + jobId))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        // Loading the job fills the detail cache; the ETag is known from then on
+        MockHttpServletResponse cached = mockMvc.perform(get("/api/jobs/" + jobId))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        String eTag = cached.getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        assertFalse(eTag.startsWith("W/"), eTag);
+        assertEquals(1, cached.getHeaders(HttpHeaders.ETAG).size());
+        assertNotNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+        int views = objectMapper.readTree(cached.getContentAsString()).get("viewsCount").asInt();
+
+        try (QueryCount.Scope scope = QueryCount.start("GET /api/jobs/" + jobId + " If-None-Match")) {
+            mockMvc.perform(get("/api/jobs/" + jobId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+            scope.assertAtMost(1);
+        }
+        mockMvc.perform(get("/api/jobs/" + jobId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, cached.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        JsonNode after = readJson(mockMvc.perform(get("/api/jobs/" + jobId))
+                .andExpect(status().isOk()).andReturn().getResponse());
+        assertEquals(views + 1, after.get("viewsCount").asInt());
+    }
+
+    @Test
+    void jobListRevalidatesBeforeTheQuery() throws Exception {
+        String uri = "/api/jobs/search?keyword=revalidated";
+        String eTag = mockMvc.perform(get(uri)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        try (QueryCount.Scope scope = QueryCount.start("GET " + uri + " If-None-Match")) {
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+            scope.assertAtMost(0);
+        }
+
+        createJob("Revalidated designer");
+        MockHttpServletResponse changed = mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertNotEquals(eTag, changed.getHeader(HttpHeaders.ETAG));
+        assertEquals(2, readJson(changed).get("content").size());
+    }
+
+    @Test
+    void referenceDataRevalidatesWithIfModifiedSince() throws Exception {
+        for (String uri : new String[]{"/api/categories", "/api/skills"}) {
+            String lastModified = mockMvc.perform(get(uri)).andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+            assertNotNull(lastModified, uri);
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    private long createJob(String title) throws Exception {
+        Map<String, Object> job = new HashMap<>();
+        job.put("title", title);
+        job.put("description", "Keeps caches honest and revalidates everything twice.");
+        job.put("location", "Lyon");
+        job.put("jobType", "FULL_TIME");
+        job.put("experienceLevel", "MID_LEVEL");
+        job.put("requirements", "HTTP caching");
+        job.put("categoryId", categoryId);
+        return postJson(employer, "/api/jobs", job).get("id").asLong();
+    }
+
+    private JsonNode readJson(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readTree(response.getContentAsString());
+    }
+
+    private JsonNode postJson(String token, String path, Object body) throws Exception {
+        MockHttpServletRequestBuilder request = post(path).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(body));
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return readJson(mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse());
+    }
+}
@@ -0,0 +1,197 @@
+package com.jobportal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.QueryCount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for every list endpoint, on pages of more rows than the repeat threshold so a
+ * lazy association loaded row by row shows up as repeated selects. Budgets include the principal
+ * lookup of authenticated requests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListEndpointQueryCountTest {
+
+    private static final int JOBS = 12;
+    private static final int REPEAT_THRESHOLD = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Role -> bearer token
+    private final Map<String, String> tokens = new HashMap<>();
+    private final Map<String, Long> ids = new HashMap<>();
+
+    @BeforeAll
+    void seed() throws Exception {
+        tokens.put("employer", register("employer@example.com", "EMPLOYER"));
+        tokens.put("admin", register("admin@example.com", "ADMIN"));
+        String[] seekers = new String[4];
+        for (int i = 0; i < seekers.length; i++) {
+            seekers[i] = register("seeker" + i + "@example.com", "JOB_SEEKER");
+        }
+        tokens.put("seeker", seekers[0]);
+
+        String employer = tokens.get("employer");
+        ids.put("company", postForId(employer, "/api/companies",
+                Map.of("name", "Acme", "industry", "Software", "city", "Paris")));
+        ids.put("category", postForId(employer, "/api/categories",
+                Map.of("name", "Engineering", "icon", "code", "color", "#123456")));
+        long java = postForId(employer, "/api/skills", Map.of("name", "Java", "category", "PROGRAMMING_LANGUAGES"));
+        long sql = postForId(employer, "/api/skills", Map.of("name", "SQL", "category", "DATABASES"));
+
+        for (int i = 1; i <= JOBS; i++) {
+            Map<String, Object> job = new HashMap<>();
+            job.put("title", "Backend engineer " + i);
+            job.put("description", "Build and run the services behind the job portal, team " + i + ".");
+            job.put("location", "Paris");
+            job.put("jobType", "FULL_TIME");
+            job.put("experienceLevel", "MID_LEVEL");
+            job.put("minSalary", 50000);
+            job.put("maxSalary", 70000);
+            job.put("requirements", "Java and SQL");
+            job.put("benefits", "Remote days");
+            job.put("companyId", ids.get("company"));
+            job.put("categoryId", ids.get("category"));
+            job.put("requiredSkillIds", new long[]{java, sql});
+            long jobId = postForId(employer, "/api/jobs", job);
+            ids.putIfAbsent("job", jobId);
+
+            for (String seeker : seekers) {
+                postJson(seeker, "/api/applications", Map.of("jobId", jobId, "coverLetter", "Cover letter for job " + i));
+                postJson(seeker, "/api/saved-jobs/" + jobId, null);
+            }
+        }
+    }
+
+    Stream<Arguments> listEndpoints() {
+        return Stream.of(
+                Arguments.of("seeker", "/api/jobs?size=50", 5),
+                Arguments.of(null, "/api/jobs/search?keyword=engineer&size=50", 6),
+                Arguments.of(null, "/api/jobs/recent", 6),
+                Arguments.of(null, "/api/jobs/featured", 6),
+                Arguments.of("seeker", "/api/jobs/company/{company}?size=50", 6),
+                Arguments.of("seeker", "/api/jobs/category/{category}?size=50", 6),
+                Arguments.of("employer", "/api/jobs/my-jobs?size=50", 6),
+                Arguments.of("employer", "/api/jobs/my-jobs/history?size=50", 7),
+                Arguments.of("seeker", "/api/applications?size=50", 6),
+                Arguments.of("employer", "/api/applications/job/{job}?size=50", 6),
+                Arguments.of("seeker", "/api/applications/status/PENDING?size=50", 6),
+                Arguments.of("seeker", "/api/saved-jobs?size=50", 6),
+                Arguments.of("seeker", "/api/saved-jobs/all", 6),
+                Arguments.of("employer", "/api/notifications?size=50", 6),
+                Arguments.of("employer", "/api/notifications/unread", 6),
+                Arguments.of("seeker", "/api/companies?size=50", 6),
+                Arguments.of(null, "/api/companies/search?keyword=Acme", 6),
+                Arguments.of("seeker", "/api/companies/industry/Software", 6),
+                Arguments.of(null, "/api/companies/verified", 6),
+                Arguments.of(null, "/api/categories", 6),
+                Arguments.of(null, "/api/skills", 6),
+                Arguments.of("seeker", "/api/skills/search?keyword=a", 6),
+                Arguments.of("seeker", "/api/skills/category/DATABASES", 6),
+                Arguments.of("admin", "/api/users?size=50", 6),
+                Arguments.of("admin", "/api/users/role/JOB_SEEKER", 6));
+    }
+
+    @ParameterizedTest(name = "{0} GET {1}")
+    @MethodSource("listEndpoints")
+    void staysWithinStatementBudget(String role, String path, int budget) throws Exception {
+        String uri = path;
+        for (Map.Entry<String, Long> id : ids.entrySet()) {
+            uri = uri.replace("{" + id.getKey() + "}", id.getValue().toString());
+        }
+        MockHttpServletRequestBuilder request = get(uri);
+        if (role != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get(role));
+        }
+        try (QueryCount.Scope scope = QueryCount.start("GET " + uri)) {
+            mockMvc.perform(request).andExpect(status().isOk());
+            scope.assertNoRepeats(REPEAT_THRESHOLD);
+            scope.assertAtMost(budget);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} GET {1}")
+    @CsvSource({
+            "seeker, /api/applications?size=50&view=summary",
+            "employer, /api/applications/job/{job}?size=50&fields=status,appliedAt",
+            "seeker, /api/applications/status/PENDING?size=50&view=summary"})
+    void applicationSummariesSkipTheFreeText(String role, String path) throws Exception {
+        String uri = path.replace("{job}", ids.get("job").toString());
+        try (QueryCount.Scope scope = QueryCount.start("GET " + uri)) {
+            String body = mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get(role)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            assertFalse(objectMapper.readTree(body).get("content").isEmpty());
+            assertFalse(body.contains("coverLetter"), body);
+            scope.getStatements().keySet().forEach(sql -> assertFalse(sql.contains("cover_letter"), sql));
+        }
+    }
+
+    // Built in the service's read-only transaction, with open-in-view off
+    @ParameterizedTest(name = "GET {0}")
+    @CsvSource({"/api/saved-jobs?size=50, /content/0/job", "/api/saved-jobs/all, /0/job"})
+    void savedJobsCarryTheirJobCompanyAndCategory(String path, String jobPointer) throws Exception {
+        String body = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("seeker")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode job = objectMapper.readTree(body).at(jobPointer);
+        assertFalse(job.path("title").asText().isEmpty(), body);
+        assertEquals("Acme", job.at("/company/name").asText(), body);
+        assertEquals("Engineering", job.at("/category/name").asText(), body);
+    }
+
+    private String register(String email, String role) throws Exception {
+        postJson(null, "/api/auth/register", Map.of("firstName", "Test", "lastName", role, "email", email,
+                "password", "secret123", "role", role));
+        return postJson(null, "/api/auth/login", Map.of("email", email, "password", "secret123")).get("token").asText();
+    }
+
+    private long postForId(String token, String path, Object body) throws Exception {
+        return postJson(token, path, body).get("id").asLong();
+    }
+
+    private JsonNode postJson(String token, String path, Object body) throws Exception {
+        MockHttpServletRequestBuilder request = post(path).contentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        if (body != null) {
+            request.content(objectMapper.writeValueAsBytes(body));
+        }
+        String response = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
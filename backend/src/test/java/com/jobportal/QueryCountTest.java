@@ -0,0 +1,135 @@
+package com.jobportal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.QueryCount;
+import com.jobportal.service.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements are counted on the connections, whatever issues them, and in the scope of the request
+ * they were run for, also when another thread ran them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountTest {
+
+    private static final String COUNT_JOBS = "SELECT COUNT(*) FROM jobs";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void jdbcTemplateStatementsAreCounted() {
+        try (QueryCount.Scope scope = QueryCount.start("jdbc")) {
+            jdbcTemplate.queryForObject(COUNT_JOBS, Long.class);
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id > ?", Long.class, 0);
+
+            assertEquals(2, scope.getCount(), scope.describe());
+        }
+    }
+
+    @Test
+    void propagatedTasksCountInTheCallersScope() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (QueryCount.Scope scope = QueryCount.start("propagated")) {
+            executor.submit(() -> jdbcTemplate.queryForObject(COUNT_JOBS, Long.class)).get();
+            assertEquals(0, scope.getCount());
+
+            executor.submit(QueryCount.propagate(() -> jdbcTemplate.queryForObject(COUNT_JOBS, Long.class))).get();
+            assertEquals(1, scope.getCount(), scope.describe());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dashboardSectionsCountTowardTheRequest() throws Exception {
+        String email = "querycount-seeker@example.com";
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(Map.of("firstName", "Test", "lastName", "Seeker",
+                                "email", email, "password", "secret123", "role", "JOB_SEEKER"))))
+                .andExpect(status().isOk());
+        String token = objectMapper.readTree(mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(Map.of("email", email, "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+
+        try (QueryCount.Scope scope = QueryCount.start("GET /api/dashboard")) {
+            mockMvc.perform(get("/api/dashboard").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+
+            assertTrue(scope.getStatements().keySet().stream().anyMatch(sql -> sql.contains("saved_jobs")), scope.describe());
+            assertTrue(scope.getStatements().keySet().stream().anyMatch(sql -> sql.contains("notifications")), scope.describe());
+        }
+    }
+
+    @Test
+    void singleFlightFollowersAreChargedTheSharedRead() throws Exception {
+        String group = "query-count-test";
+        CountDownLatch leading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> leader = executor.submit(() -> singleFlight.execute(group, 1, () -> {
+                leading.countDown();
+                // Holds the flight open until the test thread has joined it
+                long deadline = System.currentTimeMillis() + 5000;
+                while (followers(group) < 1 && System.currentTimeMillis() < deadline) {
+                    Thread.onSpinWait();
+                }
+                return jdbcTemplate.queryForObject(COUNT_JOBS, Long.class);
+            }));
+            assertTrue(leading.await(5, TimeUnit.SECONDS));
+
+            try (QueryCount.Scope scope = QueryCount.start("follower")) {
+                Long shared = singleFlight.execute(group, 1, () -> {
+                    throw new AssertionError("the follower ran the read");
+                });
+                assertEquals(leader.get(), shared);
+                assertEquals(Map.of(COUNT_JOBS, 1), scope.getStatements());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double followers(String group) {
+        Counter counter = meterRegistry.find("singleflight.calls").tag("group", group).tag("role", "follower").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobportal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.repository.CompanyRepository;
+import com.jobportal.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Soft-deleted rows free their unique keys at once, before the purge removes them: the email of a
+ * deleted user registers again, and the owner of a deleted company creates another.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SoftDeleteUniqueKeyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deletedUsersEmailRegistersAgain() throws Exception {
+        register("returning@example.com");
+        long first = userRepository.findByEmail("returning@example.com").orElseThrow().getId();
+        transactionTemplate.executeWithoutResult(status -> userRepository.softDeleteById(first, LocalDateTime.now()));
+
+        register("returning@example.com");
+        long second = userRepository.findByEmail("returning@example.com").orElseThrow().getId();
+        assertNotEquals(first, second);
+        login("returning@example.com");
+    }
+
+    @Test
+    void ownerOfDeletedCompanyCreatesAnother() throws Exception {
+        register("owner@example.com");
+        String token = login("owner@example.com");
+        long first = postJson(token, "/api/companies", Map.of("name", "First", "industry", "Software")).get("id").asLong();
+        transactionTemplate.executeWithoutResult(status -> companyRepository.softDeleteById(first, LocalDateTime.now()));
+
+        long second = postJson(token, "/api/companies", Map.of("name", "Second", "industry", "Software")).get("id").asLong();
+        assertNotEquals(first, second);
+    }
+
+    private void register(String email) throws Exception {
+        postJson(null, "/api/auth/register", Map.of("firstName", "Test", "lastName", "Owner", "email", email,
+                "password", "secret123", "role", "EMPLOYER"));
+    }
+
+    private String login(String email) throws Exception {
+        return postJson(null, "/api/auth/login", Map.of("email", email, "password", "secret123")).get("token").asText();
+    }
+
+    private JsonNode postJson(String token, String path, Object body) throws Exception {
+        MockHttpServletRequestBuilder request = post(path).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(body));
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        String response = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobportal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing over two H2 databases, one standing in for the primary and one for a replica: both
+ * pools take spring.datasource.hikari.*, read-only transactions reach the replica once it has
+ * been probed, and everything else stays on the primary.
+ */
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class,
+                    DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingProperties.class, VirtualThreadProperties.class,
+                    DataSourceRoutingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "spring.datasource.hikari.pool-name=ignored",
+                    "datasource-routing.enabled=true",
+                    "datasource-routing.probe-interval=50ms",
+                    "datasource-routing.lag-query=SELECT 0",
+                    "datasource-routing.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+
+    @Test
+    void everyPoolTakesTheHikariSettings() {
+        contextRunner.run(context -> {
+            ReplicaRoutingDataSource routing = context.getBean(ReplicaRoutingDataSource.class);
+            HikariDataSource primary = (HikariDataSource) routing.getResolvedDataSources().get(ReplicaRoutingDataSource.PRIMARY);
+            HikariDataSource replica = (HikariDataSource) routing.getResolvedDataSources().get("replica-0");
+
+            assertEquals("primary", primary.getPoolName());
+            assertEquals(3, primary.getMaximumPoolSize());
+            assertEquals(1500, primary.getConnectionTimeout());
+            assertEquals("replica-0", replica.getPoolName());
+            assertEquals(3, replica.getMaximumPoolSize());
+            assertEquals(1500, replica.getConnectionTimeout());
+            assertTrue(replica.isReadOnly());
+        });
+    }
+
+    @Test
+    void everyPoolGetsOnePermitPerConnection() {
+        contextRunner.withPropertyValues("virtual-threads.limit-db-concurrency=true").run(context -> {
+            ReplicaRoutingDataSource routing = context.getBean(ReplicaRoutingDataSource.class);
+            ConcurrencyLimitingDataSource primary = assertInstanceOf(ConcurrencyLimitingDataSource.class,
+                    routing.getResolvedDataSources().get(ReplicaRoutingDataSource.PRIMARY));
+            ConcurrencyLimitingDataSource replica = assertInstanceOf(ConcurrencyLimitingDataSource.class,
+                    routing.getResolvedDataSources().get("replica-0"));
+            assertEquals(3, primary.getMaxPermits());
+            assertEquals(3, replica.getMaxPermits());
+
+            // The lazy proxy only takes a permit once a statement needs the physical connection
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+            try (Connection connection = dataSource.getConnection()) {
+                assertEquals(3, primary.getAvailablePermits());
+                connection.createStatement().close();
+                assertEquals(2, primary.getAvailablePermits());
+            }
+            assertEquals(3, primary.getAvailablePermits());
+        });
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        contextRunner.run(context -> {
+            ReplicaRoutingDataSource routing = context.getBean(ReplicaRoutingDataSource.class);
+            mark(routing.getResolvedDataSources().get(ReplicaRoutingDataSource.PRIMARY), "primary");
+            mark(routing.getResolvedDataSources().get("replica-0"), "replica");
+
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+
+            // The replica joins the rotation after its first probe
+            long deadline = System.currentTimeMillis() + 5000;
+            String reader = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+            while (!"replica".equals(reader) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                reader = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+            }
+            assertEquals("replica", reader);
+            assertEquals("primary", readWrite.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)));
+        });
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS marker");
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    }
+}
@@ -0,0 +1,105 @@
+package com.jobportal.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A database Hibernate created before migrations existed is adopted at the V1 baseline and upgraded
+ * in place: job text moves to job_details, id generators start past the existing ids, and duplicate
+ * applications are removed before V4 adds the (user, job) unique key.
+ */
+class FlywayMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void duplicateApplicationsAreRemovedBeforeTheUniqueKey() {
+        flyway("1").migrate();
+        jdbcTemplate.update("INSERT INTO users (id, created_at, email, role) VALUES "
+                + "(1, NOW(), 'employer@example.com', 'EMPLOYER'), (2, NOW(), 'seeker@example.com', 'JOB_SEEKER'), "
+                + "(3, NOW(), 'other@example.com', 'JOB_SEEKER')");
+        jdbcTemplate.update("INSERT INTO jobs (id, created_at, posted_by, title, applications_count) VALUES "
+                + "(1, NOW(), 1, 'Backend engineer', 4), (2, NOW(), 1, 'Frontend engineer', 1)");
+        jdbcTemplate.update("INSERT INTO job_applications (id, created_at, applied_at, updated_at, user_id, job_id, status) VALUES "
+                + "(1, '2026-01-01 09:00:00', '2026-01-01 09:00:00', NULL, 2, 1, 'PENDING'), "
+                + "(2, '2026-01-01 09:00:01', '2026-01-01 09:00:01', '2026-01-05 10:00:00', 2, 1, 'SHORTLISTED'), "
+                + "(3, '2026-01-01 09:00:02', '2026-01-01 09:00:02', NULL, 2, 1, 'PENDING'), "
+                + "(4, '2026-01-02 09:00:00', '2026-01-02 09:00:00', NULL, 3, 1, 'PENDING'), "
+                + "(5, '2026-01-03 09:00:00', '2026-01-03 09:00:00', NULL, 3, 2, 'PENDING')");
+
+        flyway(null).migrate();
+
+        assertEquals("SHORTLISTED", jdbcTemplate.queryForObject(
+                "SELECT status FROM job_applications WHERE user_id = 2 AND job_id = 1", String.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_applications", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT applications_count FROM jobs WHERE id = 1", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT applications_count FROM jobs WHERE id = 2", Integer.class));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO job_applications (id, created_at, applied_at, user_id, job_id) VALUES (6, NOW(), NOW(), 2, 1)"));
+    }
+
+    @Test
+    void preFlywayDatabaseIsAdoptedAndUpgraded() {
+        flyway("1").migrate();
+        // As a database created by ddl-auto, without Flyway history
+        jdbcTemplate.execute("DROP TABLE flyway_schema_history");
+        jdbcTemplate.update("INSERT INTO users (id, created_at, email, role) VALUES (7, NOW(), 'employer@example.com', 'EMPLOYER')");
+        jdbcTemplate.update("INSERT INTO jobs (id, created_at, posted_by, title, description, requirements) VALUES "
+                + "(3, NOW(), 7, 'Backend engineer', 'Builds APIs.', 'Java'), "
+                + "(9, NOW(), 7, 'Frontend engineer', '" + "x".repeat(400) + "', NULL)");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+        flyway.migrate();
+        flyway.validate();
+
+        assertEquals("Builds APIs.", jdbcTemplate.queryForObject(
+                "SELECT description FROM job_details WHERE job_id = 3", String.class));
+        assertEquals("Java", jdbcTemplate.queryForObject(
+                "SELECT requirements FROM job_details WHERE job_id = 3", String.class));
+        assertEquals("Builds APIs.", jdbcTemplate.queryForObject("SELECT summary FROM jobs WHERE id = 3", String.class));
+        assertEquals("x".repeat(297) + "...", jdbcTemplate.queryForObject("SELECT summary FROM jobs WHERE id = 9", String.class));
+        assertEquals(60, jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'jobs'", Integer.class));
+        assertEquals(58, jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'users'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'skills'", Integer.class));
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
@@ -0,0 +1,172 @@
+package com.jobportal.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN for the SQL shapes behind the hot repository queries on MySQL, migrated by Flyway
+ * and seeded with enough rows for the optimizer's choice to be stable, and checks that each one
+ * uses the index added for it in V2__hot_query_indexes.sql or V5__archive_tables.sql. Skipped
+ * where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageCheckTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        // One connection, so the recursion depth set here applies to every seeding statement
+        dataSource = new SingleConnectionDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        seed("users (id, created_at, email, first_name, last_name, role, is_active)",
+                "n, NOW(6) - INTERVAL n MINUTE, CONCAT('user', n, '@example.com'), 'Test', CONCAT('User ', n), "
+                        + "IF(n <= 50, 'EMPLOYER', 'JOB_SEEKER'), true", 500);
+        seed("companies (id, created_at, user_id, name, industry, is_active, is_verified)",
+                "n, NOW(6) - INTERVAL n DAY, n, CONCAT('Company ', n), 'Software', n % 10 <> 0, n % 2 = 0", 50);
+        seed("categories (id, created_at, name, is_active)", "n, NOW(6), CONCAT('Category ', n), true", 20);
+        seed("jobs (id, created_at, updated_at, posted_by, company_id, category_id, title, is_active, is_remote, "
+                        + "views_count, applications_count, application_deadline, job_type, experience_level)",
+                "n, NOW(6) - INTERVAL n MINUTE, NOW(6) - INTERVAL n MINUTE, 1 + n % 50, 1 + n % 50, 1 + n % 20, "
+                        + "CONCAT('Job ', n), n % 10 <> 0, n % 3 = 0, (n * 7919) % 10000, 0, "
+                        + "IF(n % 50 = 0, NOW(6) - INTERVAL 1 DAY, NOW(6) + INTERVAL (1 + n % 90) DAY), "
+                        + "'FULL_TIME', 'MID_LEVEL'", 20_000);
+        // (user, job) pairs stay distinct: 7 is invertible modulo 20000 and lcm(450, 20000) > 50000
+        seed("job_applications (id, created_at, applied_at, user_id, job_id, status)",
+                "n, NOW(6) - INTERVAL n MINUTE, NOW(6) - INTERVAL n MINUTE, 51 + n % 450, 1 + (n * 7) % 20000, "
+                        + "ELT(1 + n % 8, 'PENDING', 'REVIEWED', 'SHORTLISTED', 'INTERVIEW_SCHEDULED', "
+                        + "'INTERVIEWED', 'ACCEPTED', 'REJECTED', 'WITHDRAWN')", 50_000);
+        seed("notifications (id, created_at, user_id, is_read, title, type)",
+                "n, NOW(6) - INTERVAL n MINUTE, 1 + n % 500, n % 4 <> 0, CONCAT('Notification ', n), "
+                        + "'JOB_APPLICATION'", 50_000);
+        seed("saved_jobs (id, saved_at, user_id, job_id)",
+                "n, NOW(6) - INTERVAL n MINUTE, 51 + n % 450, 1 + (n * 13) % 20000", 20_000);
+        seed("archived_jobs (id, created_at, archived_at, posted_by, company_id, category_id, title, is_active)",
+                "20000 + n, NOW(6) - INTERVAL 200 DAY, NOW(6), 1 + n % 50, 1 + n % 50, 1 + n % 20, "
+                        + "CONCAT('Archived job ', n), false", 5_000);
+        seed("archived_job_applications (id, created_at, applied_at, archived_at, user_id, job_id, status)",
+                "50000 + n, NOW(6) - INTERVAL 200 DAY, NOW(6) - INTERVAL 200 DAY, NOW(6), 51 + n % 450, "
+                        + "20001 + n % 5000, 'REJECTED'", 10_000);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, companies, categories, jobs, job_applications, notifications, "
+                + "saved_jobs, archived_jobs, archived_job_applications");
+    }
+
+    @AfterAll
+    static void close() {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    // repository method, SQL issued for it (literal arguments), index it should use
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("JobRepository.findByIsActiveTrueOrderByCreatedAtDesc",
+                        "SELECT id FROM jobs WHERE is_active = true ORDER BY created_at DESC LIMIT 10",
+                        "idx_jobs_active_created"),
+                Arguments.of("JobRepository.findTop10ByIsActiveTrueOrderByViewsCountDesc",
+                        "SELECT id FROM jobs WHERE is_active = true ORDER BY views_count DESC LIMIT 10",
+                        "idx_jobs_active_views"),
+                Arguments.of("JobRepository.findByApplicationDeadlineBeforeAndIsActiveTrue",
+                        "SELECT id FROM jobs WHERE application_deadline < NOW() AND is_active = true",
+                        "idx_jobs_active_deadline"),
+                Arguments.of("JobRepository.findByPostedByOrderByCreatedAtDesc",
+                        "SELECT id FROM jobs WHERE posted_by = 1 ORDER BY created_at DESC",
+                        "idx_jobs_posted_by_created"),
+                Arguments.of("JobRepository.findByCompanyIdAndIsActiveTrueOrderByCreatedAtDesc",
+                        "SELECT id FROM jobs WHERE company_id = 1 AND is_active = true ORDER BY created_at DESC",
+                        "idx_jobs_company_active_created"),
+                Arguments.of("JobRepository.findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc",
+                        "SELECT id FROM jobs WHERE category_id = 1 AND is_active = true ORDER BY created_at DESC",
+                        "idx_jobs_category_active_created"),
+                Arguments.of("JobApplicationRepository.existsByUserAndJob",
+                        "SELECT id FROM job_applications WHERE user_id = 51 AND job_id = 1 LIMIT 1",
+                        "uk_job_applications_user_job"),
+                Arguments.of("JobApplicationRepository.findByUserOrderByAppliedAtDesc",
+                        "SELECT id FROM job_applications WHERE user_id = 51 ORDER BY applied_at DESC LIMIT 10",
+                        "idx_job_applications_user_applied"),
+                Arguments.of("JobApplicationRepository.findByJobIdOrderByAppliedAtDesc",
+                        "SELECT id FROM job_applications WHERE job_id = 1 ORDER BY applied_at DESC LIMIT 10",
+                        "idx_job_applications_job_applied"),
+                Arguments.of("JobApplicationRepository.findByStatusOrderByAppliedAtDesc",
+                        "SELECT id FROM job_applications WHERE status = 'PENDING' ORDER BY applied_at DESC LIMIT 10",
+                        "idx_job_applications_status_applied"),
+                Arguments.of("NotificationRepository.countByUserAndIsReadFalse",
+                        "SELECT COUNT(id) FROM notifications WHERE user_id = 1 AND is_read = false",
+                        "idx_notifications_user_read_created"),
+                Arguments.of("NotificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc",
+                        "SELECT id FROM notifications WHERE user_id = 1 AND is_read = false ORDER BY created_at DESC",
+                        "idx_notifications_user_read_created"),
+                Arguments.of("NotificationRepository.findByUserOrderByCreatedAtDesc",
+                        "SELECT id FROM notifications WHERE user_id = 1 ORDER BY created_at DESC LIMIT 10",
+                        "idx_notifications_user_created"),
+                Arguments.of("SavedJobRepository.findByUserOrderBySavedAtDesc",
+                        "SELECT id FROM saved_jobs WHERE user_id = 51 ORDER BY saved_at DESC LIMIT 10",
+                        "idx_saved_jobs_user_saved"),
+                Arguments.of("CompanyRepository.findByIsActiveTrueOrderByCreatedAtDesc",
+                        "SELECT id FROM companies WHERE is_active = true ORDER BY created_at DESC LIMIT 10",
+                        "idx_companies_active_created"),
+                Arguments.of("ArchivedJobApplicationRepository.findByUserIdOrderByAppliedAtDesc",
+                        "SELECT id FROM archived_job_applications WHERE user_id = 51 ORDER BY applied_at DESC LIMIT 10",
+                        "idx_archived_job_applications_user_applied"),
+                Arguments.of("ArchivedJobApplicationRepository.findByJobIdOrderByAppliedAtDesc",
+                        "SELECT id FROM archived_job_applications WHERE job_id = 20001 ORDER BY applied_at DESC LIMIT 10",
+                        "idx_archived_job_applications_job_applied"),
+                Arguments.of("ArchivedJobRepository.findByPostedByIdOrderByCreatedAtDesc",
+                        "SELECT id FROM archived_jobs WHERE posted_by = 1 ORDER BY created_at DESC LIMIT 10",
+                        "idx_archived_jobs_posted_by_created"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void usesItsIndex(String query, String sql, String index) {
+        List<String> used = usedIndexes(sql);
+        assertTrue(used.contains(index), query + " uses " + (used.isEmpty() ? "no index" : used) + ", expected " + index);
+    }
+
+    private static List<String> usedIndexes(String sql) {
+        List<String> used = new ArrayList<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+            Object key = row.get("key");
+            if (key != null) {
+                used.add(key.toString());
+            }
+        }
+        return used;
+    }
+
+    // Inserts rows n = 1..count into the table, with columns computed from n
+    private static void seed(String table, String values, int count) {
+        jdbcTemplate.update("INSERT INTO " + table + " WITH RECURSIVE seq (n) AS "
+                + "(SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + count + ") SELECT " + values + " FROM seq");
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobportal.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every stored form reads back as the text that was written, and a marker-prefixed value that
+ * does not decode fails instead of being passed off as plain text.
+ */
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    void compressedTextReadsBack() {
+        String text = "We are an equal opportunity employer. Please submit your resume and a short cover letter. ".repeat(5);
+        String stored = CompressedTextConverter.compress(text);
+
+        assertTrue(CompressedTextConverter.isCompressed(stored));
+        assertTrue(stored.length() < text.length());
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void plainTextThatLooksEncodedIsEscaped() {
+        String text = CompressedTextConverter.MARKER + "not compressed";
+        String stored = converter.convertToDatabaseColumn(text);
+
+        assertEquals(CompressedTextConverter.ESCAPE + text, stored);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+        assertEquals("plain", converter.convertToEntityAttribute("plain"));
+    }
+
+    @Test
+    void unescapedMarkerThatDoesNotDecodeFails() {
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convertToEntityAttribute(CompressedTextConverter.MARKER + "not compressed"));
+        assertThrows(IllegalStateException.class,
+                () -> converter.convertToEntityAttribute(CompressedTextConverter.MARKER + "AAAA"));
+    }
+}
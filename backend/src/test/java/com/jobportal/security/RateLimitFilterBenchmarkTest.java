@@ -0,0 +1,162 @@
+package com.jobportal.security;
+
+import jakarta.servlet.FilterChain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Per-request cost of the rate limit filter on a no-op chain: route group lookup, the IP
+ * counter (and the user counter for authenticated requests) and headers, over 10,000 clients.
+ * Each measurement takes the best of many short rounds after warm-up and is logged. Not part of
+ * the unit suite; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class RateLimitFilterBenchmarkTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final int WARM_UP_REQUESTS = 1_000_000;
+    private static final int REQUESTS = 100_000;
+    private static final int ROUNDS = 30;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Group search = new RateLimitProperties.Group();
+        search.setName("search");
+        search.setPatterns(List.of("/api/jobs/search"));
+        search.setLimit(1_000_000);
+        search.setWindow(Duration.ofMinutes(1));
+        RateLimitProperties.Group api = new RateLimitProperties.Group();
+        api.setName("api");
+        api.setPatterns(List.of("/api/**"));
+        api.setLimit(1_000_000);
+        api.setWindow(Duration.ofMinutes(1));
+        properties.setGroups(List.of(search, api));
+        filter = new RateLimitFilter(properties);
+        filter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anonymousRequests() throws Exception {
+        log.info("Rate limit filter, anonymous: {} ns per request", Math.round(measureFilter(null)));
+    }
+
+    @Test
+    void authenticatedRequests() throws Exception {
+        SecurityContext[] contexts = new SecurityContext[CLIENTS];
+        for (int i = 0; i < contexts.length; i++) {
+            UserDetailsImpl user = new UserDetailsImpl((long) i, "user" + i, "user" + i + "@example.com", "", List.of(),
+                    true, true);
+            contexts[i] = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        }
+        log.info("Rate limit filter, authenticated: {} ns per request", Math.round(measureFilter(contexts)));
+    }
+
+    @Test
+    void limiterUnderContention() throws Exception {
+        int threads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1_000_000, Duration.ofMinutes(1), 100_000);
+        String[] keys = new String[CLIENTS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            contend(pool, threads, limiter, keys, WARM_UP_REQUESTS / threads);
+            double best = Double.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.min(best, contend(pool, threads, limiter, keys, REQUESTS / threads));
+            }
+            log.info("Sliding window limiter, {} threads: {} ns per request per thread", threads, Math.round(best));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Returns the best mean nanoseconds per request over the rounds
+    private double measureFilter(SecurityContext[] contexts) throws Exception {
+        MockHttpServletRequest[] requests = requests(CLIENTS);
+        FilterChain chain = (req, res) -> { };
+
+        run(requests, contexts, chain, WARM_UP_REQUESTS);
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            run(requests, contexts, chain, REQUESTS);
+            best = Math.min(best, (double) (System.nanoTime() - started) / REQUESTS);
+        }
+        return best;
+    }
+
+    // Authenticated requests set their user's context the way the token filter would
+    private void run(MockHttpServletRequest[] requests, SecurityContext[] contexts, FilterChain chain, int count)
+            throws Exception {
+        for (int i = 0; i < count; i++) {
+            int client = i % requests.length;
+            if (contexts != null) {
+                SecurityContextHolder.setContext(contexts[client]);
+            }
+            filter.doFilter(requests[client], new MockHttpServletResponse(), chain);
+        }
+    }
+
+    // Returns the mean nanoseconds per request seen by each thread
+    private static double contend(ExecutorService pool, int threads, SlidingWindowRateLimiter limiter,
+                                  String[] keys, int perThread) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 7919;
+            results.add(pool.submit(() -> {
+                start.await();
+                long started = System.nanoTime();
+                for (int i = 0; i < perThread; i++) {
+                    limiter.tryAcquire(keys[(offset + i) % keys.length], System.currentTimeMillis());
+                }
+                return System.nanoTime() - started;
+            }));
+        }
+        start.countDown();
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get();
+        }
+        return (double) total / threads / perThread;
+    }
+
+    private static MockHttpServletRequest[] requests(int clients) {
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[clients];
+        for (int i = 0; i < clients; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", i % 2 == 0 ? "/api/jobs/search" : "/api/jobs");
+            request.setRemoteAddr("10.0." + (i / 256) + "." + (i % 256));
+            requests[i] = request;
+        }
+        return requests;
+    }
+}
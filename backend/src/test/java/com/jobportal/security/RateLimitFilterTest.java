@@ -0,0 +1,97 @@
+package com.jobportal.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        filter.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void refusesOverTheLimitWithRetryAfter() throws Exception {
+        filter = filter(2);
+        assertEquals(200, perform("/api/jobs", "10.0.0.1").getStatus());
+        MockHttpServletResponse last = perform("/api/jobs", "10.0.0.1");
+        assertEquals(200, last.getStatus());
+        assertEquals("0", last.getHeader("RateLimit-Remaining"));
+
+        MockHttpServletResponse refused = perform("/api/jobs", "10.0.0.1");
+        assertEquals(429, refused.getStatus());
+        assertNotNull(refused.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, perform("/api/jobs", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void requestRefusedForTheUserDoesNotChargeTheAddress() throws Exception {
+        filter = filter(2);
+        authenticate(1L);
+        perform("/api/jobs", "10.0.0.1");
+        perform("/api/jobs", "10.0.0.2");
+        // The user's budget is used up; refusals from a third address must leave that address's budget intact
+        for (int i = 0; i < 5; i++) {
+            assertEquals(429, perform("/api/jobs", "10.0.0.3").getStatus());
+        }
+
+        authenticate(2L);
+        assertEquals(200, perform("/api/jobs", "10.0.0.3").getStatus());
+        assertEquals(200, perform("/api/jobs", "10.0.0.3").getStatus());
+    }
+
+    @Test
+    void unmatchedPathsPassWithoutHeaders() throws Exception {
+        filter = filter(1);
+        for (int i = 0; i < 5000; i++) {
+            MockHttpServletResponse response = perform("/static/" + i, "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader("RateLimit-Limit"));
+        }
+        assertEquals("1", perform("/api/jobs", "10.0.0.1").getHeader("RateLimit-Limit"));
+    }
+
+    private static RateLimitFilter filter(int limit) {
+        RateLimitProperties.Group api = new RateLimitProperties.Group();
+        api.setName("api");
+        api.setPatterns(List.of("/api/**"));
+        api.setLimit(limit);
+        api.setWindow(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(api));
+        RateLimitFilter filter = new RateLimitFilter(properties);
+        filter.init();
+        return filter;
+    }
+
+    private static void authenticate(long userId) {
+        UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId, "user" + userId + "@example.com", "",
+                List.of(), true, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private MockHttpServletResponse perform(String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
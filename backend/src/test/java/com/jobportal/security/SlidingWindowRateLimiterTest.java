@@ -0,0 +1,107 @@
+package com.jobportal.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    void admitsUpToTheLimitPerWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, Duration.ofMinutes(1), 100);
+        long now = 10 * MINUTE;
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("ip:1", now).isAllowed());
+        }
+        SlidingWindowRateLimiter.Decision denied = limiter.tryAcquire("ip:1", now);
+        assertFalse(denied.isAllowed());
+        assertTrue(denied.getRetryAfterMillis() > 0);
+        assertTrue(limiter.tryAcquire("ip:2", now).isAllowed());
+    }
+
+    @Test
+    void weighsThePreviousWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(10, Duration.ofMinutes(1), 100);
+        long start = 10 * MINUTE;
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("ip:1", start);
+        }
+        // Halfway through the next window half of the previous count still applies
+        long halfway = start + MINUTE + MINUTE / 2;
+        int admitted = 0;
+        while (limiter.tryAcquire("ip:1", halfway).isAllowed()) {
+            admitted++;
+        }
+        assertEquals(5, admitted);
+    }
+
+    @Test
+    void sweepRemovesOnlyIdleKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(5, Duration.ofMinutes(1), 100);
+        long start = 10 * MINUTE;
+        limiter.tryAcquire("ip:idle", start);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("ip:active", start + 2 * MINUTE);
+        }
+
+        assertEquals(1, limiter.sweep(start + 2 * MINUTE + 1));
+        assertEquals(1, limiter.size());
+        assertFalse(limiter.tryAcquire("ip:active", start + 2 * MINUTE + 2).isAllowed());
+    }
+
+    @Test
+    void fullTableNeverResetsActiveKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMinutes(1), 10);
+        long now = 10 * MINUTE;
+        limiter.tryAcquire("ip:attacker", now);
+        limiter.tryAcquire("ip:attacker", now);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("ip:flood-" + i, now);
+        }
+
+        assertEquals(10, limiter.size());
+        assertFalse(limiter.tryAcquire("ip:attacker", now).isAllowed());
+        // New keys beyond the cap are admitted untracked instead of sharing a counter the flood used up
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("ip:newcomer", now).isAllowed());
+        }
+        assertEquals(10, limiter.size());
+    }
+
+    @Test
+    void fullTableSweepsIdleKeysForNewOnes() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMinutes(1), 10);
+        long start = 10 * MINUTE;
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("ip:idle-" + i, start);
+        }
+
+        long later = start + 2 * MINUTE + 1;
+        limiter.tryAcquire("ip:newcomer", later);
+        limiter.tryAcquire("ip:newcomer", later);
+        assertEquals(1, limiter.size());
+        assertFalse(limiter.tryAcquire("ip:newcomer", later).isAllowed());
+    }
+
+    @Test
+    void checkDoesNotCountAndReleaseTakesBack() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMinutes(1), 100);
+        long now = 10 * MINUTE;
+        assertTrue(limiter.check("ip:1", now).isAllowed());
+        assertEquals(0, limiter.size());
+
+        limiter.tryAcquire("ip:1", now);
+        limiter.tryAcquire("ip:1", now);
+        assertFalse(limiter.check("ip:1", now).isAllowed());
+        limiter.release("ip:1", now);
+        assertTrue(limiter.check("ip:1", now).isAllowed());
+        assertTrue(limiter.tryAcquire("ip:1", now).isAllowed());
+        assertFalse(limiter.tryAcquire("ip:1", now).isAllowed());
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.config.JobDetailCacheProperties;
+import com.jobportal.dto.JobResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Entries are stamped with the generation read before loading, so a response loaded from a
+ * snapshot older than an invalidation is reloaded on the next request.
+ */
+class JobDetailCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private JobDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReferenceDataCache referenceData = new ReferenceDataCache(null, null) {
+            @Override
+            public long getVersion() {
+                return 1;
+            }
+        };
+        cache = new JobDetailCache(new JobDetailCacheProperties(), referenceData, objectMapper);
+        cache.init();
+    }
+
+    @Test
+    void servesLoadedResponseUntilInvalidated() {
+        cache.get(7L, cache.generation(), () -> load("First"));
+        assertEquals("First", cache.get(7L, cache.generation(), () -> load("Second")).response().getTitle());
+        assertEquals(1, loads.get());
+
+        cache.invalidateJob(7L);
+        assertEquals("Second", cache.get(7L, cache.generation(), () -> load("Second")).response().getTitle());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadStartedBeforeAnInvalidationIsNotServedAfterIt() {
+        // Generation read before the snapshot; the job changes and is invalidated before the load finishes
+        long generation = cache.generation();
+        cache.invalidateJob(7L);
+        cache.get(7L, generation, () -> load("Stale"));
+
+        assertEquals("Fresh", cache.get(7L, cache.generation(), () -> load("Fresh")).response().getTitle());
+        assertEquals(2, loads.get());
+    }
+
+    private JobResponse load(String title) {
+        loads.incrementAndGet();
+        JobResponse response = new JobResponse();
+        response.setId(7L);
+        response.setTitle(title);
+        return response;
+    }
+}
@@ -0,0 +1,210 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jobportal.config.JsonFragmentProperties;
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.JsonFragment;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobSearchView;
+import com.jobportal.entity.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * List entry reuse, and allocation and throughput of list pages served from cached fragments
+ * compared with serializing a JobResponse per job, and with the page buffered into a byte array
+ * before it is written.
+ */
+class JobFragmentCacheTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARM_UP_PAGES = 20_000;
+    private static final int PAGES = 5_000;
+    private static final int ROUNDS = 5;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .build();
+
+    private JobFragmentCache cache;
+    private List<JobSearchView> views;
+
+    @BeforeEach
+    void setUp() {
+        // Reference data never changes here; a mock would dominate the timings
+        ReferenceDataCache referenceData = new ReferenceDataCache(null, null) {
+            @Override
+            public long getVersion() {
+                return 1;
+            }
+        };
+        cache = new JobFragmentCache(new JsonFragmentProperties(), referenceData, objectMapper);
+        views = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            views.add(view(id));
+        }
+    }
+
+    @Test
+    void counterChangesReuseTheCachedEntry() throws Exception {
+        JobSearchView view = views.get(0);
+        AtomicInteger serialized = new AtomicInteger();
+        JsonFragment first = cache.get(view, () -> {
+            serialized.incrementAndGet();
+            return JobResponse.fromSearchView(view, Map.of());
+        });
+
+        view.setViewsCount(view.getViewsCount() + 1);
+        view.setApplicationsCount(view.getApplicationsCount() + 1);
+        JsonFragment second = cache.get(view, () -> {
+            serialized.incrementAndGet();
+            return JobResponse.fromSearchView(view, Map.of());
+        });
+
+        assertEquals(1, serialized.get());
+        assertNotEquals(first.getChecksum(), second.getChecksum());
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(List.of(second)));
+        assertEquals(view.getViewsCount(), json.get(0).get("viewsCount").asInt());
+        assertEquals(view.getApplicationsCount(), json.get(0).get("applicationsCount").asInt());
+        assertEquals(view.getTitle(), json.get(0).get("title").asText());
+    }
+
+    @Test
+    void rowVersionChangeReserializes() {
+        JobSearchView view = views.get(0);
+        AtomicInteger serialized = new AtomicInteger();
+        cache.get(view, () -> {
+            serialized.incrementAndGet();
+            return JobResponse.fromSearchView(view, Map.of());
+        });
+        view.setTitle("Renamed");
+        view.setRowVersion(view.getRowVersion() + 1);
+        JsonFragment fragment = cache.get(view, () -> {
+            serialized.incrementAndGet();
+            return JobResponse.fromSearchView(view, Map.of());
+        });
+
+        assertEquals(2, serialized.get());
+        assertTrue(fragment.getValue().contains("\"Renamed\""));
+    }
+
+    @Test
+    void cachedPagesAllocateLessAndServeFaster() throws Exception {
+        Map<Long, Skill> skills = Map.of();
+        Page perJob = () -> {
+            List<JobResponse> responses = new ArrayList<>(views.size());
+            for (JobSearchView view : views) {
+                responses.add(JobResponse.fromSearchView(view, skills));
+            }
+            objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+        };
+        Page buffered = () -> {
+            byte[] body = objectMapper.writeValueAsBytes(fragments(skills));
+            OutputStream.nullOutputStream().write(body);
+        };
+        Page streamed = () -> objectMapper.writeValue(OutputStream.nullOutputStream(), fragments(skills));
+
+        Result perJobResult = measure(perJob);
+        Result bufferedResult = measure(buffered);
+        Result streamedResult = measure(streamed);
+        System.out.printf("Page of %d jobs: per-job serialization %s; cached, buffered %s; cached, streamed %s%n",
+                PAGE_SIZE, perJobResult, bufferedResult, streamedResult);
+
+        assertTrue(streamedResult.bytesPerPage < perJobResult.bytesPerPage / 2,
+                "Cached pages allocate " + streamedResult.bytesPerPage + " bytes, per-job " + perJobResult.bytesPerPage);
+        assertTrue(streamedResult.bytesPerPage < bufferedResult.bytesPerPage,
+                "Streamed pages allocate " + streamedResult.bytesPerPage + " bytes, buffered " + bufferedResult.bytesPerPage);
+        assertTrue(streamedResult.pagesPerSecond > perJobResult.pagesPerSecond * 2,
+                "Cached pages " + streamedResult.pagesPerSecond + "/s, per-job " + perJobResult.pagesPerSecond + "/s");
+    }
+
+    private List<JsonFragment> fragments(Map<Long, Skill> skills) {
+        List<JsonFragment> fragments = new ArrayList<>(views.size());
+        for (JobSearchView view : views) {
+            fragments.add(cache.get(view, () -> JobResponse.fromSearchView(view, skills)));
+        }
+        return fragments;
+    }
+
+    // Best throughput and lowest allocation per page over the rounds, after warm-up
+    private static Result measure(Page page) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_PAGES; i++) {
+            page.write();
+        }
+        long bytes = Long.MAX_VALUE;
+        double pagesPerSecond = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long started = System.nanoTime();
+            for (int i = 0; i < PAGES; i++) {
+                page.write();
+            }
+            long elapsed = System.nanoTime() - started;
+            bytes = Math.min(bytes, (threads.getThreadAllocatedBytes(thread) - allocated) / PAGES);
+            pagesPerSecond = Math.max(pagesPerSecond, PAGES * 1e9 / elapsed);
+        }
+        return new Result(bytes, pagesPerSecond);
+    }
+
+    private static JobSearchView view(long id) {
+        JobSearchView view = new JobSearchView();
+        view.setId(id);
+        view.setTitle("Senior backend engineer " + id);
+        view.setSummary("Design, build and run the services behind a busy job board. Java, Spring and MySQL, "
+                + "with plenty of room to shape how the platform grows.");
+        view.setLocation("Paris, France");
+        view.setJobType(Job.JobType.FULL_TIME);
+        view.setExperienceLevel(Job.ExperienceLevel.SENIOR_LEVEL);
+        view.setMinSalary(new BigDecimal("65000"));
+        view.setMaxSalary(new BigDecimal("85000"));
+        view.setCurrency("EUR");
+        view.setIsRemote(true);
+        view.setViewsCount(120);
+        view.setApplicationsCount(7);
+        view.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+        view.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 9, 0));
+        view.setPostedById(1L);
+        view.setPosterFirstName("Alex");
+        view.setPosterLastName("Martin");
+        view.setPosterEmail("hiring@example.com");
+        view.setCompanyId(1L);
+        view.setCompanyName("Acme");
+        view.setCompanyIndustry("Software");
+        view.setCompanyLocation("Paris");
+        view.setCategoryId(1L);
+        view.setCategoryName("Engineering");
+        view.setRowVersion(0L);
+        return view;
+    }
+
+    @FunctionalInterface
+    private interface Page {
+        void write() throws Exception;
+    }
+
+    private record Result(long bytesPerPage, double pagesPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%d bytes, %.0f pages/s", bytesPerPage, pagesPerSecond);
+        }
+    }
+}
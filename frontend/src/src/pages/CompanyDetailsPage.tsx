@@ -363,7 +363,7 @@ const CompanyDetailsPage: React.FC = () => {
                         </Box>
                       </Box>
                       <Typography variant="body2" color="text.secondary" sx={{ mb: 1 }}>
-                        {job.description.substring(0, 150)}...
+                        {job.summary}
                       </Typography>
                       <Typography variant="caption" color="text.secondary">
                         {job.applicationsCount} applications • Posted {formatDate(job.createdAt)}
@@ -198,7 +198,7 @@ const HomePage: React.FC = () => {
                     {job.isRemote && <Chip label="Remote" size="small" color="primary" />}
                   </Box>
                   <Typography variant="body2" color="text.secondary" sx={{ mb: 2 }}>
-                    {job.description.substring(0, 150)}...
+                    {job.summary}
                   </Typography>
                 </CardContent>
                 <CardActions>
@@ -208,7 +208,7 @@ const JobsPage: React.FC = () => {
                     </Box>
 
                     <Typography variant="body2" color="text.secondary" sx={{ mb: 2 }}>
-                      {job.description.substring(0, 150)}...
+                      {job.summary}
                     </Typography>
 
                     <Box sx={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center' }}>
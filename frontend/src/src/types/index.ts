@@ -49,7 +49,9 @@ export interface Company {
 export interface Job {
   id: number;
   title: string;
-  description: string;
+  summary?: string;
+  // Full bodies are only returned by the job detail endpoint
+  description?: string;
   location: string;
   jobType: 'FULL_TIME' | 'PART_TIME' | 'CONTRACT' | 'INTERNSHIP' | 'FREELANCE';
   experienceLevel: 'ENTRY_LEVEL' | 'MID_LEVEL' | 'SENIOR_LEVEL' | 'EXECUTIVE';
@@ -1,96 +1,117 @@
 -- Job Portal Database Setup Script
 -- IMPORTANT: Run this script AFTER starting the backend server at least once
--- The backend will automatically create all tables using Hibernate
+-- The backend creates all tables on startup through its Flyway migrations
 -- This script only inserts initial data
 
 -- Create database
 CREATE DATABASE IF NOT EXISTS job_portal_db;
 USE job_portal_db;
 
--- Note: Tables are created automatically by Spring Boot/Hibernate when backend starts
+-- Note: Tables are created by the Flyway migrations in backend/src/main/resources/db/migration
 -- If you see "Table doesn't exist" errors, start the backend server first, then run this script
 
 -- Create initial categories (using INSERT IGNORE to avoid duplicates)
-INSERT IGNORE INTO categories (name, description, icon, color, is_active, created_at, updated_at) VALUES
-('Technology', 'Software development, IT, and technology roles', '💻', '#1976d2', true, NOW(), NOW()),
-('Healthcare', 'Medical, nursing, and healthcare positions', '🏥', '#4caf50', true, NOW(), NOW()),
-('Finance', 'Banking, accounting, and financial services', '💰', '#ff9800', true, NOW(), NOW()),
-('Education', 'Teaching, training, and educational roles', '📚', '#9c27b0', true, NOW(), NOW()),
-('Marketing', 'Digital marketing, advertising, and PR', '📢', '#f44336', true, NOW(), NOW()),
-('Sales', 'Sales, business development, and customer relations', '💼', '#00bcd4', true, NOW(), NOW()),
-('Design', 'UI/UX, graphic design, and creative roles', '🎨', '#e91e63', true, NOW(), NOW()),
-('Engineering', 'Mechanical, electrical, and civil engineering', '⚙️', '#795548', true, NOW(), NOW());
+INSERT IGNORE INTO categories (id, name, description, icon, color, is_active, created_at, updated_at) VALUES
+(1, 'Technology', 'Software development, IT, and technology roles', '💻', '#1976d2', true, NOW(), NOW()),
+(2, 'Healthcare', 'Medical, nursing, and healthcare positions', '🏥', '#4caf50', true, NOW(), NOW()),
+(3, 'Finance', 'Banking, accounting, and financial services', '💰', '#ff9800', true, NOW(), NOW()),
+(4, 'Education', 'Teaching, training, and educational roles', '📚', '#9c27b0', true, NOW(), NOW()),
+(5, 'Marketing', 'Digital marketing, advertising, and PR', '📢', '#f44336', true, NOW(), NOW()),
+(6, 'Sales', 'Sales, business development, and customer relations', '💼', '#00bcd4', true, NOW(), NOW()),
+(7, 'Design', 'UI/UX, graphic design, and creative roles', '🎨', '#e91e63', true, NOW(), NOW()),
+(8, 'Engineering', 'Mechanical, electrical, and civil engineering', '⚙️', '#795548', true, NOW(), NOW());
 
 -- Create initial skills (using INSERT IGNORE to avoid duplicates)
-INSERT IGNORE INTO skills (name, description, category, is_active, created_at, updated_at) VALUES
+INSERT IGNORE INTO skills (id, name, description, category, is_active, created_at, updated_at) VALUES
 -- Programming Languages
-('Java', 'Java programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('Python', 'Python programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('JavaScript', 'JavaScript programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('TypeScript', 'TypeScript programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('C++', 'C++ programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('C#', 'C# programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('Go', 'Go programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
-('Rust', 'Rust programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(1, 'Java', 'Java programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(2, 'Python', 'Python programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(3, 'JavaScript', 'JavaScript programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(4, 'TypeScript', 'TypeScript programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(5, 'C++', 'C++ programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(6, 'C#', 'C# programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(7, 'Go', 'Go programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
+(8, 'Rust', 'Rust programming language', 'PROGRAMMING_LANGUAGES', true, NOW(), NOW()),
 
 -- Frameworks
-('Spring Boot', 'Spring Boot framework for Java', 'FRAMEWORKS', true, NOW(), NOW()),
-('React', 'React JavaScript library', 'FRAMEWORKS', true, NOW(), NOW()),
-('Angular', 'Angular framework', 'FRAMEWORKS', true, NOW(), NOW()),
-('Vue.js', 'Vue.js framework', 'FRAMEWORKS', true, NOW(), NOW()),
-('Node.js', 'Node.js runtime', 'FRAMEWORKS', true, NOW(), NOW()),
-('Django', 'Django Python framework', 'FRAMEWORKS', true, NOW(), NOW()),
-('Flask', 'Flask Python framework', 'FRAMEWORKS', true, NOW(), NOW()),
-('Express.js', 'Express.js framework', 'FRAMEWORKS', true, NOW(), NOW()),
+(9, 'Spring Boot', 'Spring Boot framework for Java', 'FRAMEWORKS', true, NOW(), NOW()),
+(10, 'React', 'React JavaScript library', 'FRAMEWORKS', true, NOW(), NOW()),
+(11, 'Angular', 'Angular framework', 'FRAMEWORKS', true, NOW(), NOW()),
+(12, 'Vue.js', 'Vue.js framework', 'FRAMEWORKS', true, NOW(), NOW()),
+(13, 'Node.js', 'Node.js runtime', 'FRAMEWORKS', true, NOW(), NOW()),
+(14, 'Django', 'Django Python framework', 'FRAMEWORKS', true, NOW(), NOW()),
+(15, 'Flask', 'Flask Python framework', 'FRAMEWORKS', true, NOW(), NOW()),
+(16, 'Express.js', 'Express.js framework', 'FRAMEWORKS', true, NOW(), NOW()),
 
 -- Databases
-('MySQL', 'MySQL database', 'DATABASES', true, NOW(), NOW()),
-('PostgreSQL', 'PostgreSQL database', 'DATABASES', true, NOW(), NOW()),
-('MongoDB', 'MongoDB database', 'DATABASES', true, NOW(), NOW()),
-('Redis', 'Redis database', 'DATABASES', true, NOW(), NOW()),
-('Oracle', 'Oracle database', 'DATABASES', true, NOW(), NOW()),
-('SQL Server', 'Microsoft SQL Server', 'DATABASES', true, NOW(), NOW()),
+(17, 'MySQL', 'MySQL database', 'DATABASES', true, NOW(), NOW()),
+(18, 'PostgreSQL', 'PostgreSQL database', 'DATABASES', true, NOW(), NOW()),
+(19, 'MongoDB', 'MongoDB database', 'DATABASES', true, NOW(), NOW()),
+(20, 'Redis', 'Redis database', 'DATABASES', true, NOW(), NOW()),
+(21, 'Oracle', 'Oracle database', 'DATABASES', true, NOW(), NOW()),
+(22, 'SQL Server', 'Microsoft SQL Server', 'DATABASES', true, NOW(), NOW()),
 
 -- Tools
-('Git', 'Version control system', 'TOOLS', true, NOW(), NOW()),
-('Docker', 'Containerization platform', 'TOOLS', true, NOW(), NOW()),
-('Kubernetes', 'Container orchestration', 'TOOLS', true, NOW(), NOW()),
-('AWS', 'Amazon Web Services', 'TOOLS', true, NOW(), NOW()),
-('Azure', 'Microsoft Azure', 'TOOLS', true, NOW(), NOW()),
-('GCP', 'Google Cloud Platform', 'TOOLS', true, NOW(), NOW()),
-('Jenkins', 'CI/CD automation', 'TOOLS', true, NOW(), NOW()),
-('GitLab', 'DevOps platform', 'TOOLS', true, NOW(), NOW()),
+(23, 'Git', 'Version control system', 'TOOLS', true, NOW(), NOW()),
+(24, 'Docker', 'Containerization platform', 'TOOLS', true, NOW(), NOW()),
+(25, 'Kubernetes', 'Container orchestration', 'TOOLS', true, NOW(), NOW()),
+(26, 'AWS', 'Amazon Web Services', 'TOOLS', true, NOW(), NOW()),
+(27, 'Azure', 'Microsoft Azure', 'TOOLS', true, NOW(), NOW()),
+(28, 'GCP', 'Google Cloud Platform', 'TOOLS', true, NOW(), NOW()),
+(29, 'Jenkins', 'CI/CD automation', 'TOOLS', true, NOW(), NOW()),
+(30, 'GitLab', 'DevOps platform', 'TOOLS', true, NOW(), NOW()),
 
 -- Soft Skills
-('Communication', 'Verbal and written communication', 'SOFT_SKILLS', true, NOW(), NOW()),
-('Leadership', 'Team leadership and management', 'SOFT_SKILLS', true, NOW(), NOW()),
-('Problem Solving', 'Analytical and problem-solving skills', 'SOFT_SKILLS', true, NOW(), NOW()),
-('Teamwork', 'Collaboration and teamwork', 'SOFT_SKILLS', true, NOW(), NOW()),
-('Time Management', 'Project and time management', 'SOFT_SKILLS', true, NOW(), NOW()),
-('Adaptability', 'Flexibility and adaptability', 'SOFT_SKILLS', true, NOW(), NOW());
+(31, 'Communication', 'Verbal and written communication', 'SOFT_SKILLS', true, NOW(), NOW()),
+(32, 'Leadership', 'Team leadership and management', 'SOFT_SKILLS', true, NOW(), NOW()),
+(33, 'Problem Solving', 'Analytical and problem-solving skills', 'SOFT_SKILLS', true, NOW(), NOW()),
+(34, 'Teamwork', 'Collaboration and teamwork', 'SOFT_SKILLS', true, NOW(), NOW()),
+(35, 'Time Management', 'Project and time management', 'SOFT_SKILLS', true, NOW(), NOW()),
+(36, 'Adaptability', 'Flexibility and adaptability', 'SOFT_SKILLS', true, NOW(), NOW());
 
 -- Create sample admin user (password: admin123)
 -- Note: Password hash needs to be generated by Spring Security BCrypt
 -- These are placeholder hashes - actual passwords should be hashed by the backend
-INSERT IGNORE INTO users (first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
-('Admin', 'User', 'admin@jobportal.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567890', 'ADMIN', true, true, NOW(), NOW());
+INSERT IGNORE INTO users (id, first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
+(1, 'Admin', 'User', 'admin@jobportal.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567890', 'ADMIN', true, true, NOW(), NOW());
 
 -- Create sample job seeker user (password: user123)
-INSERT IGNORE INTO users (first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
-('John', 'Doe', 'john.doe@email.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567891', 'JOB_SEEKER', true, true, NOW(), NOW());
+INSERT IGNORE INTO users (id, first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
+(2, 'John', 'Doe', 'john.doe@email.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567891', 'JOB_SEEKER', true, true, NOW(), NOW());
 
 -- Create sample employer user (password: employer123)
-INSERT IGNORE INTO users (first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
-('Jane', 'Smith', 'jane.smith@company.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567892', 'EMPLOYER', true, true, NOW(), NOW());
+INSERT IGNORE INTO users (id, first_name, last_name, email, password, phone, role, is_active, is_verified, created_at, updated_at) VALUES
+(3, 'Jane', 'Smith', 'jane.smith@company.com', '$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iYqiSfF1wJwQvKvQvKvQvKvQvKvQ', '+1234567892', 'EMPLOYER', true, true, NOW(), NOW());
 
 -- Create sample company (using INSERT IGNORE to avoid duplicates)
-INSERT IGNORE INTO companies (name, description, website, email, phone, address, city, state, zip_code, country, industry, company_size, founded_year, is_verified, is_active, user_id, created_at, updated_at) VALUES
-('TechCorp Solutions', 'Leading technology company specializing in software development and digital transformation', 'https://techcorp.com', 'info@techcorp.com', '+1234567893', '123 Tech Street', 'San Francisco', 'CA', '94105', 'USA', 'Technology', '100-500', 2010, true, true, 3, NOW(), NOW());
+INSERT IGNORE INTO companies (id, name, description, website, email, phone, address, city, state, zip_code, country, industry, company_size, founded_year, is_verified, is_active, user_id, created_at, updated_at) VALUES
+(1, 'TechCorp Solutions', 'Leading technology company specializing in software development and digital transformation', 'https://techcorp.com', 'info@techcorp.com', '+1234567893', '123 Tech Street', 'San Francisco', 'CA', '94105', 'USA', 'Technology', '100-500', 2010, true, true, 3, NOW(), NOW());
 
 -- Create sample jobs (using INSERT IGNORE to avoid duplicates)
-INSERT IGNORE INTO jobs (title, description, location, job_type, experience_level, min_salary, max_salary, currency, is_remote, is_active, application_deadline, requirements, benefits, application_instructions, views_count, applications_count, posted_by, company_id, category_id, created_at, updated_at) VALUES
-('Senior Java Developer', 'We are looking for an experienced Java developer to join our team. You will be responsible for developing high-quality software solutions using Java, Spring Boot, and related technologies.', 'San Francisco, CA', 'FULL_TIME', 'SENIOR_LEVEL', 120000, 150000, 'USD', true, true, DATE_ADD(NOW(), INTERVAL 30 DAY), '5+ years of Java experience, Spring Boot, REST APIs, Microservices', 'Health insurance, 401k, flexible work hours, remote work', 'Please submit your resume and cover letter', 0, 0, 3, 1, 1, NOW(), NOW()),
-('Frontend React Developer', 'Join our frontend team to build amazing user interfaces using React, TypeScript, and modern web technologies.', 'New York, NY', 'FULL_TIME', 'MID_LEVEL', 90000, 120000, 'USD', true, true, DATE_ADD(NOW(), INTERVAL 25 DAY), '3+ years of React experience, TypeScript, CSS, HTML', 'Health insurance, 401k, professional development budget', 'Please include your portfolio and GitHub profile', 0, 0, 3, 1, 1, NOW(), NOW()),
-('DevOps Engineer', 'We need a DevOps engineer to help us scale our infrastructure and improve our deployment processes.', 'Austin, TX', 'FULL_TIME', 'MID_LEVEL', 100000, 130000, 'USD', false, true, DATE_ADD(NOW(), INTERVAL 20 DAY), 'AWS, Docker, Kubernetes, CI/CD, Linux', 'Health insurance, 401k, stock options', 'Please describe your experience with cloud platforms', 0, 0, 3, 1, 1, NOW(), NOW());
+-- The jobs row carries a short summary; full text bodies go to job_details keyed by job id
+INSERT IGNORE INTO jobs (id, title, summary, location, job_type, experience_level, min_salary, max_salary, currency, is_remote, is_active, application_deadline, views_count, applications_count, posted_by, company_id, category_id, created_at, updated_at) VALUES
+(1, 'Senior Java Developer', 'We are looking for an experienced Java developer to join our team. You will be responsible for developing high-quality software solutions using Java, Spring Boot, and related technologies.', 'San Francisco, CA', 'FULL_TIME', 'SENIOR_LEVEL', 120000, 150000, 'USD', true, true, DATE_ADD(NOW(), INTERVAL 30 DAY), 0, 0, 3, 1, 1, NOW(), NOW()),
+(2, 'Frontend React Developer', 'Join our frontend team to build amazing user interfaces using React, TypeScript, and modern web technologies.', 'New York, NY', 'FULL_TIME', 'MID_LEVEL', 90000, 120000, 'USD', true, true, DATE_ADD(NOW(), INTERVAL 25 DAY), 0, 0, 3, 1, 1, NOW(), NOW()),
+(3, 'DevOps Engineer', 'We need a DevOps engineer to help us scale our infrastructure and improve our deployment processes.', 'Austin, TX', 'FULL_TIME', 'MID_LEVEL', 100000, 130000, 'USD', false, true, DATE_ADD(NOW(), INTERVAL 20 DAY), 0, 0, 3, 1, 1, NOW(), NOW());
+
+INSERT IGNORE INTO job_details (job_id, description, requirements, benefits, application_instructions)
+SELECT j.id, d.description, d.requirements, d.benefits, d.application_instructions
+FROM jobs j JOIN (
+    SELECT 'Senior Java Developer' AS title, 'We are looking for an experienced Java developer to join our team. You will be responsible for developing high-quality software solutions using Java, Spring Boot, and related technologies.' AS description, '5+ years of Java experience, Spring Boot, REST APIs, Microservices' AS requirements, 'Health insurance, 401k, flexible work hours, remote work' AS benefits, 'Please submit your resume and cover letter' AS application_instructions
+    UNION ALL SELECT 'Frontend React Developer', 'Join our frontend team to build amazing user interfaces using React, TypeScript, and modern web technologies.', '3+ years of React experience, TypeScript, CSS, HTML', 'Health insurance, 401k, professional development budget', 'Please include your portfolio and GitHub profile'
+    UNION ALL SELECT 'DevOps Engineer', 'We need a DevOps engineer to help us scale our infrastructure and improve our deployment processes.', 'AWS, Docker, Kubernetes, CI/CD, Linux', 'Health insurance, 401k, stock options', 'Please describe your experience with cloud platforms'
+) d ON d.title = j.title;
+
+-- The rows above use explicit ids; move the id generators past them
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'categories', COALESCE(MAX(id), 0) + 51 FROM categories
+UNION ALL SELECT 'companies', COALESCE(MAX(id), 0) + 51 FROM companies
+UNION ALL SELECT 'job_applications', COALESCE(MAX(id), 0) + 51 FROM job_applications
+UNION ALL SELECT 'jobs', COALESCE(MAX(id), 0) + 51 FROM jobs
+UNION ALL SELECT 'notifications', COALESCE(MAX(id), 0) + 51 FROM notifications
+UNION ALL SELECT 'saved_jobs', COALESCE(MAX(id), 0) + 51 FROM saved_jobs
+UNION ALL SELECT 'skills', COALESCE(MAX(id), 0) + 51 FROM skills
+UNION ALL SELECT 'users', COALESCE(MAX(id), 0) + 51 FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
 
 COMMIT;